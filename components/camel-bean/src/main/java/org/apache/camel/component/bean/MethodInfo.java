@@ -503,6 +503,14 @@ public class MethodInfo {
         }
     }
 
+    private static Class<?>[] toWrapperTypes(Class<?>[] types) {
+        Class<?>[] answer = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++) {
+            answer[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(types[i]);
+        }
+        return answer;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -546,9 +554,17 @@ public class MethodInfo {
      */
     private final class ParameterExpression implements Expression {
         private final Expression[] expressions;
+        // the parameter types, and with primitive types replaced by their wrapper types, computed once up front
+        private final Class<?>[] types;
+        private final Class<?>[] wrapperTypes;
 
         ParameterExpression(Expression[] expressions) {
             this.expressions = expressions;
+            this.types = new Class<?>[expressions.length];
+            for (int i = 0; i < types.length; i++) {
+                types[i] = parameters.get(i).getType();
+            }
+            this.wrapperTypes = toWrapperTypes(types);
         }
 
         @Override
@@ -608,7 +624,7 @@ public class MethodInfo {
                 // grab the parameter value for the given index
                 Object parameterValue = it != null && it.hasNext() ? it.next() : null;
                 // and the expected parameter type
-                Class<?> parameterType = parameters.get(i).getType();
+                Class<?> parameterType = types[i];
                 // the value for the parameter to use
                 Object value = null;
 
@@ -621,7 +637,7 @@ public class MethodInfo {
                 // use bean parameter binding, if still no value
                 Expression expression = expressions[i];
                 if (value == null && expression != null) {
-                    value = evaluateParameterBinding(exchange, expression, i, parameterType);
+                    value = evaluateParameterBinding(exchange, expression, i, parameterType, wrapperTypes[i]);
                 }
                 // remember the value to use
                 if (value != Void.TYPE) {
@@ -731,15 +747,16 @@ public class MethodInfo {
         /**
          * Evaluate using classic parameter binding using the pre compute expression
          */
-        private Object evaluateParameterBinding(Exchange exchange, Expression expression, int index, Class<?> parameterType) {
+        private Object evaluateParameterBinding(
+                Exchange exchange, Expression expression, int index, Class<?> parameterType, Class<?> wrapperType) {
             Object answer = null;
 
             // use object first to avoid type conversion so we know if there is a value or not
             Object result = expression.evaluate(exchange, Object.class);
             if (result != null) {
                 try {
-                    if (parameterType.isInstance(result)) {
-                        // optimize if the value is already the same type
+                    if (wrapperType.isInstance(result)) {
+                        // optimize if the value is already the same type (or the wrapper type of a primitive type)
                         answer = result;
                     } else {
                         // we got a value now try to convert it to the expected type
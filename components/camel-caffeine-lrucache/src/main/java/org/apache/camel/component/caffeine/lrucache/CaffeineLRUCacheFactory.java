@@ -210,6 +210,20 @@ public final class CaffeineLRUCacheFactory extends LRUCacheFactory {
         return new CaffeineLRUWeakCache<>(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
+    /**
+     * Constructs an empty cache instance with the specified initial capacity and maximumCacheSize, which evicts the
+     * least frequently used entries and is safe for concurrent use without locking.
+     *
+     * @param  initialCapacity          the initial capacity.
+     * @param  maximumCacheSize         the max capacity.
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    @Override
+    public <K, V> Map<K, V> createLFUCache(int initialCapacity, int maximumCacheSize) {
+        LOG.trace("Creating LFUCache with initialCapacity: {}, maximumCacheSize: {}", initialCapacity, maximumCacheSize);
+        return new CaffeineLRUCache<>(initialCapacity, maximumCacheSize, false);
+    }
+
     @Override
     public String toString() {
         return "camel-caffeine-lrucache";
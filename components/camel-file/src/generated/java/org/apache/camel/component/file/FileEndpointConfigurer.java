@@ -119,6 +119,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": target.setOnCompletionExceptionHandler(property(camelContext, org.apache.camel.spi.ExceptionHandler.class, value)); return true;
+        case "parallelfileprocessing":
+        case "parallelFileProcessing": target.setParallelFileProcessing(property(camelContext, boolean.class, value)); return true;
+        case "parallelfileprocessingpoolsize":
+        case "parallelFileProcessingPoolSize": target.setParallelFileProcessingPoolSize(property(camelContext, int.class, value)); return true;
         case "pollstrategy":
         case "pollStrategy": target.setPollStrategy(property(camelContext, org.apache.camel.spi.PollingConsumerPollStrategy.class, value)); return true;
         case "premove":
@@ -190,8 +194,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "tempPrefix": target.setTempPrefix(property(camelContext, java.lang.String.class, value)); return true;
         case "timeunit":
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
+        case "usedirectorystream":
+        case "useDirectoryStream": target.setUseDirectoryStream(property(camelContext, boolean.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "usewatchservice":
+        case "useWatchService": target.setUseWatchService(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -297,6 +305,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return boolean.class;
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return org.apache.camel.spi.ExceptionHandler.class;
+        case "parallelfileprocessing":
+        case "parallelFileProcessing": return boolean.class;
+        case "parallelfileprocessingpoolsize":
+        case "parallelFileProcessingPoolSize": return int.class;
         case "pollstrategy":
         case "pollStrategy": return org.apache.camel.spi.PollingConsumerPollStrategy.class;
         case "premove":
@@ -368,8 +380,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "tempPrefix": return java.lang.String.class;
         case "timeunit":
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
+        case "usedirectorystream":
+        case "useDirectoryStream": return boolean.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "usewatchservice":
+        case "useWatchService": return boolean.class;
         default: return null;
         }
     }
@@ -476,6 +492,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "noop": return target.isNoop();
         case "oncompletionexceptionhandler":
         case "onCompletionExceptionHandler": return target.getOnCompletionExceptionHandler();
+        case "parallelfileprocessing":
+        case "parallelFileProcessing": return target.isParallelFileProcessing();
+        case "parallelfileprocessingpoolsize":
+        case "parallelFileProcessingPoolSize": return target.getParallelFileProcessingPoolSize();
         case "pollstrategy":
         case "pollStrategy": return target.getPollStrategy();
         case "premove":
@@ -547,8 +567,12 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "tempPrefix": return target.getTempPrefix();
         case "timeunit":
         case "timeUnit": return target.getTimeUnit();
+        case "usedirectorystream":
+        case "useDirectoryStream": return target.isUseDirectoryStream();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "usewatchservice":
+        case "useWatchService": return target.isUseWatchService();
         default: return null;
         }
     }
@@ -20,99 +20,103 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(95);
-        props.add("renameUsingCopy");
+        Set<String> props = new HashSet<>(99);
         props.add("moveExistingFileStrategy");
         props.add("fileName");
-        props.add("antInclude");
         props.add("synchronous");
+        props.add("idempotent");
+        props.add("preSort");
+        props.add("sortBy");
+        props.add("scheduledExecutorService");
+        props.add("directoryName");
+        props.add("readLockDeleteOrphanLockFiles");
+        props.add("schedulerProperties");
+        props.add("useDirectoryStream");
+        props.add("inProgressRepository");
+        props.add("backoffIdleThreshold");
+        props.add("delay");
+        props.add("startScheduler");
+        props.add("readLockTimeout");
+        props.add("charset");
+        props.add("idempotentKey");
+        props.add("sorter");
+        props.add("copyAndDeleteOnRenameFail");
+        props.add("directoryMustExist");
+        props.add("autoCreate");
+        props.add("includeExt");
+        props.add("recursive");
+        props.add("antExclude");
+        props.add("keepLastModified");
+        props.add("noop");
+        props.add("useFixedDelay");
+        props.add("runLoggingLevel");
+        props.add("useWatchService");
+        props.add("tempPrefix");
+        props.add("minDepth");
+        props.add("include");
+        props.add("parallelFileProcessing");
+        props.add("idempotentRepository");
+        props.add("filter");
+        props.add("maxDepth");
+        props.add("filterFile");
+        props.add("pollStrategy");
+        props.add("forceWrites");
+        props.add("shuffle");
+        props.add("excludeExt");
+        props.add("renameUsingCopy");
+        props.add("antInclude");
         props.add("moveExisting");
         props.add("initialDelay");
         props.add("flatten");
-        props.add("idempotent");
         props.add("bridgeErrorHandler");
         props.add("eagerDeleteTargetFile");
         props.add("readLockRemoveOnRollback");
         props.add("readLockRemoveOnCommit");
-        props.add("preSort");
         props.add("greedy");
         props.add("exclude");
         props.add("maxMessagesPerPoll");
         props.add("readLockIdempotentReleaseDelay");
-        props.add("sortBy");
-        props.add("scheduledExecutorService");
-        props.add("directoryName");
         props.add("readLockIdempotentReleaseExecutorService");
         props.add("repeatCount");
-        props.add("readLockDeleteOrphanLockFiles");
         props.add("probeContentType");
         props.add("sendEmptyMessageWhenIdle");
         props.add("processStrategy");
         props.add("readLock");
-        props.add("schedulerProperties");
-        props.add("inProgressRepository");
         props.add("readLockLoggingLevel");
-        props.add("backoffIdleThreshold");
         props.add("readLockMinLength");
         props.add("lazyStartProducer");
-        props.add("delay");
-        props.add("startScheduler");
         props.add("resumeStrategy");
         props.add("readLockMarkerFile");
-        props.add("readLockTimeout");
         props.add("exceptionHandler");
         props.add("eagerMaxMessagesPerPoll");
         props.add("backoffMultiplier");
-        props.add("charset");
         props.add("startingDirectoryMustHaveAccess");
-        props.add("idempotentKey");
         props.add("exclusiveReadLockStrategy");
         props.add("readLockCheckInterval");
-        props.add("sorter");
         props.add("fileExist");
-        props.add("copyAndDeleteOnRenameFail");
         props.add("localWorkDirectory");
         props.add("startingDirectoryMustExist");
-        props.add("directoryMustExist");
-        props.add("autoCreate");
-        props.add("includeExt");
         props.add("readLockIdempotentReleaseAsyncPoolSize");
         props.add("delete");
         props.add("readLockMinAge");
-        props.add("recursive");
         props.add("extendedAttributes");
-        props.add("antExclude");
-        props.add("keepLastModified");
         props.add("scheduler");
-        props.add("noop");
-        props.add("useFixedDelay");
         props.add("jailStartingDirectory");
         props.add("doneFileName");
-        props.add("runLoggingLevel");
         props.add("backoffErrorThreshold");
         props.add("chmod");
         props.add("onCompletionExceptionHandler");
-        props.add("tempPrefix");
         props.add("allowNullBody");
         props.add("timeUnit");
         props.add("appendChars");
-        props.add("minDepth");
-        props.add("include");
         props.add("moveFailed");
         props.add("preMove");
         props.add("move");
-        props.add("idempotentRepository");
         props.add("readLockIdempotentReleaseAsync");
         props.add("exchangePattern");
-        props.add("filter");
-        props.add("maxDepth");
-        props.add("filterFile");
-        props.add("pollStrategy");
+        props.add("parallelFileProcessingPoolSize");
         props.add("tempFileName");
-        props.add("forceWrites");
         props.add("antFilterCaseSensitive");
-        props.add("shuffle");
-        props.add("excludeExt");
         props.add("chmodDirectory");
         props.add("bufferSize");
         props.add("filterDirectory");
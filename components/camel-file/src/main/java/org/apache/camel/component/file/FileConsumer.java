@@ -20,6 +20,7 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -31,9 +32,11 @@ import java.util.Set;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
+import org.apache.camel.component.file.consumer.DirectoryWatchCache;
 import org.apache.camel.component.file.consumer.FileConsumerResumeStrategy;
 import org.apache.camel.component.file.consumer.FileResumeSet;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -47,6 +50,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
     private final FileConsumerResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private DirectoryWatchCache watchCache;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -76,7 +80,10 @@ public class FileConsumer extends GenericFileConsumer<File> {
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        final File[] files = listFiles(directory);
+        // the attributes from the directory listing when using directory streams
+        final Map<File, BasicFileAttributes> attributes
+                = getEndpoint().isUseDirectoryStream() || getEndpoint().isUseWatchService() ? new HashMap<>() : null;
+        final File[] files = listFiles(directory, attributes);
         if (files == null || files.length == 0) {
             return true;
         }
@@ -99,15 +106,16 @@ public class FileConsumer extends GenericFileConsumer<File> {
             }
 
             // creates a generic file
+            BasicFileAttributes attrs = attributes != null ? attributes.get(file) : null;
             GenericFile<File> gf
-                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+                    = asGenericFile(endpointPath, file, attrs, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
 
             if (resumeStrategy != null) {
                 long offset = resumeStrategy.lastOffset(file);
                 gf.setLastOffset(offset);
             }
 
-            if (file.isDirectory()) {
+            if (gf.isDirectory()) {
                 if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
                     boolean canPollMore = pollDirectory(file, fileList, depth);
                     if (!canPollMore) {
@@ -152,11 +160,23 @@ public class FileConsumer extends GenericFileConsumer<File> {
             return true;
         }
 
+        if (getEndpoint().isUseWatchService()) {
+            if (watchCache == null) {
+                try {
+                    watchCache = new DirectoryWatchCache();
+                } catch (IOException e) {
+                    throw new GenericFileOperationFailedException("Cannot create watch service", e);
+                }
+            }
+            // apply the changes since the last poll
+            watchCache.refresh();
+        }
+
         return pollDirectory(directory, fileList, depth);
     }
 
-    private File[] listFiles(File directory) {
-        final File[] dirFiles = directory.listFiles();
+    private File[] listFiles(File directory, Map<File, BasicFileAttributes> attributes) {
+        final File[] dirFiles = attributes != null ? listFilesWithAttributes(directory, attributes) : directory.listFiles();
 
         if (dirFiles == null || dirFiles.length == 0) {
             // no files in this directory to poll
@@ -181,6 +201,26 @@ public class FileConsumer extends GenericFileConsumer<File> {
         return dirFiles;
     }
 
+    private File[] listFilesWithAttributes(File directory, Map<File, BasicFileAttributes> attributes) {
+        Map<Path, BasicFileAttributes> entries;
+        try {
+            entries = watchCache != null
+                    ? watchCache.list(directory.toPath()) : DirectoryWatchCache.listDirectory(directory.toPath());
+        } catch (IOException e) {
+            LOG.debug("Unable to list directory: {}", directory, e);
+            return null;
+        }
+
+        File[] answer = new File[entries.size()];
+        int i = 0;
+        for (Map.Entry<Path, BasicFileAttributes> entry : entries.entrySet()) {
+            File file = entry.getKey().toFile();
+            answer[i++] = file;
+            attributes.put(file, entry.getValue());
+        }
+        return answer;
+    }
+
     private void readAttributes(File file, Path path, Map<String, Object> allAttributes, String attribute) {
         try {
             String prefix = null;
@@ -231,6 +271,20 @@ public class FileConsumer extends GenericFileConsumer<File> {
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        return asGenericFile(endpointPath, file, null, charset, probeContentType);
+    }
+
+    /**
+     * Creates a new GenericFile<File> based on the given file, using the already read attributes of the file.
+     *
+     * @param  endpointPath     the starting directory the endpoint was configured with
+     * @param  file             the source file
+     * @param  attributes       the attributes of the file, or <tt>null</tt> to read them from the file
+     * @param  probeContentType whether to probe the content type of the file or not
+     * @return                  wrapped as a GenericFile
+     */
+    public static GenericFile<File> asGenericFile(
+            String endpointPath, File file, BasicFileAttributes attributes, String charset, boolean probeContentType) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -239,8 +293,13 @@ public class FileConsumer extends GenericFileConsumer<File> {
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setFileLength(file.length());
-        answer.setDirectory(file.isDirectory());
+        if (attributes != null) {
+            answer.setFileLength(attributes.size());
+            answer.setDirectory(attributes.isDirectory());
+        } else {
+            answer.setFileLength(file.length());
+            answer.setDirectory(file.isDirectory());
+        }
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -252,7 +311,7 @@ public class FileConsumer extends GenericFileConsumer<File> {
         // to return a consistent answer for all OS platforms.
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
-        answer.setLastModified(file.lastModified());
+        answer.setLastModified(attributes != null ? attributes.lastModifiedTime().toMillis() : file.lastModified());
 
         // compute the file path as relative to the starting directory
         File path;
@@ -295,6 +354,15 @@ public class FileConsumer extends GenericFileConsumer<File> {
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        if (watchCache != null) {
+            IOHelper.close(watchCache);
+            watchCache = null;
+        }
+    }
+
     @Override
     public FileEndpoint getEndpoint() {
         return (FileEndpoint) super.getEndpoint();
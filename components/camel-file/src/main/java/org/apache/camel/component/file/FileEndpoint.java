@@ -76,6 +76,14 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean useDirectoryStream;
+    @UriParam(label = "consumer,advanced")
+    private boolean useWatchService;
+    @UriParam(label = "consumer,advanced")
+    private boolean parallelFileProcessing;
+    @UriParam(label = "consumer,advanced", defaultValue = "10")
+    private int parallelFileProcessingPoolSize = 10;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -150,6 +158,9 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         // set max messages per poll
         result.setMaxMessagesPerPoll(getMaxMessagesPerPoll());
         result.setEagerLimitMaxMessagesPerPoll(isEagerMaxMessagesPerPoll());
+        // set parallel file processing
+        result.setParallelFileProcessing(isParallelFileProcessing());
+        result.setParallelFileProcessingPoolSize(getParallelFileProcessingPoolSize());
 
         configureConsumer(result);
         return result;
@@ -364,6 +375,58 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isUseDirectoryStream() {
+        return useDirectoryStream;
+    }
+
+    /**
+     * Whether to list the directories using NIO directory streams, which reads the attributes of each file only once
+     * (and reuses the attributes returned with the directory entries on platforms such as Windows). This is faster than
+     * the default listing when polling directories with many files.
+     */
+    public void setUseDirectoryStream(boolean useDirectoryStream) {
+        this.useDirectoryStream = useDirectoryStream;
+    }
+
+    public boolean isUseWatchService() {
+        return useWatchService;
+    }
+
+    /**
+     * Whether to keep the listings of the polled directories in memory, and to update them with the change events of a
+     * WatchService, so the directories are only listed on the first poll, instead of on every poll. This implies using
+     * directory streams. Notice that on platforms without native support for watching file changes (such as macOS) the
+     * changes may be detected with a delay of several seconds.
+     */
+    public void setUseWatchService(boolean useWatchService) {
+        this.useWatchService = useWatchService;
+    }
+
+    public boolean isParallelFileProcessing() {
+        return parallelFileProcessing;
+    }
+
+    /**
+     * Whether to process the files picked up by each poll in parallel using a thread pool, instead of one by one. Each
+     * file is still read locked, processed and committed (moved or deleted) on its own, and the next poll is not
+     * started before all the files of the current poll have been processed. The files are processed synchronously by
+     * the threads of the pool.
+     */
+    public void setParallelFileProcessing(boolean parallelFileProcessing) {
+        this.parallelFileProcessing = parallelFileProcessing;
+    }
+
+    public int getParallelFileProcessingPoolSize() {
+        return parallelFileProcessingPoolSize;
+    }
+
+    /**
+     * The number of threads used to process the files in parallel, when parallelFileProcessing is enabled.
+     */
+    public void setParallelFileProcessingPoolSize(int parallelFileProcessingPoolSize) {
+        this.parallelFileProcessingPoolSize = parallelFileProcessingPoolSize;
+    }
+
     public FileConsumerResumeStrategy getResumeStrategy() {
         return resumeStrategy;
     }
@@ -17,7 +17,7 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -29,7 +29,6 @@ import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -287,13 +286,11 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            if (charset == null) {
+                // if no charset, then we can try using file directly (optimized)
                 Object body = exchange.getIn().getBody();
                 if (body instanceof WrappedFile) {
                     WrappedFile wrapped = (WrappedFile) body;
@@ -321,8 +318,9 @@ public class FileOperations implements GenericFileOperations<File> {
                 // a full file to file copy, as the local work copy is to be
                 // deleted afterwards anyway
                 // local work path
+                // (however not when the content should be appended to the target file)
                 File local = exchange.getIn().getHeader(Exchange.FILE_LOCAL_WORK_PATH, File.class);
-                if (local != null && local.exists()) {
+                if (local != null && local.exists() && !append) {
                     boolean renamed = writeFileByLocalWorkPath(local, file);
                     if (renamed) {
                         // try to keep last modified timestamp if configured to
@@ -347,8 +345,8 @@ public class FileOperations implements GenericFileOperations<File> {
                         return true;
                     }
                 } else if (source != null && source.exists()) {
-                    // no there is no local work file so use file to file copy
-                    // if the source exists
+                    // no there is no local work file (or we must append) so use
+                    // file to file copy if the source exists
                     writeFileByFile(source, file, exchange);
                     // try to keep last modified timestamp if configured to do
                     // so
@@ -438,21 +436,34 @@ public class FileOperations implements GenericFileOperations<File> {
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
-        if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
+        // transfer the file using file channels which lets the operating
+        // system copy the bytes directly (zero copy) where supported
+        try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
+            if (channel != null) {
+                LOG.trace("writeFileByFile using read lock FileChannel: {} -> {}", source, target);
+                IOHelper.transfer(channel, 0, channel.size(), out);
+            } else {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                    IOHelper.transfer(in, 0, in.size(), out);
+                }
             }
-        } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            writeAppendChars(out);
         }
     }
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
         try (SeekableByteChannel out = prepareOutputFileChannel(target)) {
 
+            if (in instanceof FileInputStream) {
+                // the stream is from a file so we can transfer the file channel
+                // which lets the operating system copy the bytes directly
+                LOG.debug("Using FileChannel of FileInputStream to write file: {}", target);
+                IOHelper.transfer(((FileInputStream) in).getChannel(), out);
+                writeAppendChars(out);
+                return;
+            }
+
             LOG.debug("Using InputStream to write file: {}", target);
             int size = endpoint.getBufferSize();
             byte[] buffer = new byte[size];
@@ -470,20 +481,20 @@ public class FileOperations implements GenericFileOperations<File> {
                 buf.clear();
             }
 
-            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
-            if (append && endpoint.getAppendChars() != null) {
-                byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
-                out.write(byteBuffer);
-                // to be compatible with java 8
-                Buffer buf = byteBuffer;
-                buf.clear();
-            }
-
+            writeAppendChars(out);
         } finally {
             IOHelper.close(in, target.getName(), LOG);
         }
     }
 
+    private void writeAppendChars(SeekableByteChannel out) throws IOException {
+        boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+        if (append && endpoint.getAppendChars() != null) {
+            ByteBuffer byteBuffer = ByteBuffer.wrap(endpoint.getAppendChars().getBytes());
+            out.write(byteBuffer);
+        }
+    }
+
     private void writeFileByReaderWithCharset(Reader in, File target, String charset) throws IOException {
         boolean append = endpoint.getFileExist() == GenericFileExist.Append;
         try (Writer out = Files.newBufferedWriter(target.toPath(), Charset.forName(charset), StandardOpenOption.WRITE,
@@ -22,6 +22,10 @@ import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import org.apache.camel.CamelContextAware;
@@ -57,6 +61,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected Processor customProcessor;
     protected boolean eagerLimitMaxMessagesPerPoll = true;
     protected volatile boolean prepareOnStartup;
+    protected boolean parallelFileProcessing;
+    protected int parallelFileProcessingPoolSize = 10;
+    private ExecutorService parallelFileProcessingExecutorService;
     private final Pattern includePattern;
     private final Pattern excludePattern;
     private final String[] includeExt;
@@ -93,6 +100,29 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         this.customProcessor = processor;
     }
 
+    public boolean isParallelFileProcessing() {
+        return parallelFileProcessing;
+    }
+
+    /**
+     * Whether to process the files of each poll in parallel using a thread pool. Each file is still locked, processed,
+     * and committed (moved or deleted) on its own, and the poll completes when all its files have been processed.
+     */
+    public void setParallelFileProcessing(boolean parallelFileProcessing) {
+        this.parallelFileProcessing = parallelFileProcessing;
+    }
+
+    public int getParallelFileProcessingPoolSize() {
+        return parallelFileProcessingPoolSize;
+    }
+
+    /**
+     * The number of threads processing the files when using parallel file processing.
+     */
+    public void setParallelFileProcessingPoolSize(int parallelFileProcessingPoolSize) {
+        this.parallelFileProcessingPoolSize = parallelFileProcessingPoolSize;
+    }
+
     public boolean isEagerLimitMaxMessagesPerPoll() {
         return eagerLimitMaxMessagesPerPoll;
     }
@@ -222,6 +252,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
             total = maxMessagesPerPoll;
         }
 
+        if (parallelFileProcessingExecutorService != null && customProcessor == null) {
+            return processBatchInParallel(exchanges, total);
+        }
+
         for (int index = 0; index < total && isBatchAllowed(); index++) {
             // only loop if we are started (allowed to run)
             // use poll to remove the head so it does not consume memory even
@@ -257,6 +291,67 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
         return answer;
     }
 
+    /**
+     * Processes the batch by processing the files in parallel using the thread pool. The files are processed
+     * synchronously by the threads, so the batch is complete when all the files have been processed.
+     */
+    protected int processBatchInParallel(Queue<Object> exchanges, int total) {
+        final AtomicInteger answer = new AtomicInteger(total);
+        final AtomicInteger pending = new AtomicInteger(total);
+        pendingExchanges = total;
+
+        List<Future<?>> futures = new ArrayList<>(total);
+        for (int index = 0; index < total && isBatchAllowed(); index++) {
+            // use poll to remove the head so it does not consume memory even
+            // after we have processed it
+            final Exchange exchange = (Exchange) exchanges.poll();
+            // add current index and total as properties
+            exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+            exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+            exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+
+            futures.add(parallelFileProcessingExecutorService.submit(() -> {
+                boolean started = false;
+                try {
+                    if (isBatchAllowed()) {
+                        started = processExchange(exchange);
+                    } else {
+                        // we are stopping so do not start processing the file
+                        GenericFile<T> file = getExchangeFileProperty(exchange);
+                        endpoint.getInProgressRepository().remove(file.getAbsoluteFilePath());
+                        releaseExchange(exchange, true);
+                    }
+                } finally {
+                    pendingExchanges = pending.decrementAndGet();
+                    if (!started) {
+                        answer.decrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        // the exchanges which were not submitted did not start
+        answer.addAndGet(-(total - futures.size()));
+
+        // wait for the files of this batch to be processed
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                LOG.debug("Interrupted while waiting for the files to be processed");
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                getExceptionHandler().handleException("Error processing files in parallel", e.getCause());
+            }
+        }
+
+        // drain any in progress files as we are done with this batch
+        removeExcessiveInProgressFiles(CastUtils.cast((Deque<?>) exchanges, Exchange.class), 0);
+
+        return answer.get();
+    }
+
     /**
      * Drain any in progress files as we are done with this batch
      *
@@ -480,8 +575,9 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
 
             LOG.debug("About to process file: {} using exchange: {}", target, exchange);
 
-            if (endpoint.isSynchronous()) {
-                // process synchronously
+            if (endpoint.isSynchronous() || parallelFileProcessingExecutorService != null) {
+                // process synchronously (also when processing files in parallel
+                // as the thread pool then limits the number of files being processed)
                 getProcessor().process(exchange);
             } else {
                 // process the exchange using the async consumer to support
@@ -784,6 +880,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     @Override
     protected void doStart() throws Exception {
         ServiceHelper.startService(processStrategy);
+        if (parallelFileProcessing && parallelFileProcessingExecutorService == null) {
+            parallelFileProcessingExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager()
+                    .newFixedThreadPool(this, "FileProcessing", parallelFileProcessingPoolSize);
+        }
         super.doStart();
     }
 
@@ -791,6 +891,10 @@ public abstract class GenericFileConsumer<T> extends ScheduledBatchPollingConsum
     protected void doStop() throws Exception {
         prepareOnStartup = false;
         super.doStop();
+        if (parallelFileProcessingExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(parallelFileProcessingExecutorService);
+            parallelFileProcessingExecutorService = null;
+        }
         ServiceHelper.stopService(processStrategy);
     }
 
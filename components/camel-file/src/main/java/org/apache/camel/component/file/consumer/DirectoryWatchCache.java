@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/**
+ * Caches the listings of the polled directories, and keeps them up to date with the change events of a
+ * {@link WatchService}, so the directories do not have to be listed again on every poll.
+ * <p/>
+ * A directory is listed the first time it is polled, and again if its change events have overflowed. This class is not
+ * thread safe, as it is only used by the polling thread of the file consumer.
+ */
+public class DirectoryWatchCache implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryWatchCache.class);
+
+    private final WatchService watchService;
+    private final Map<Path, Map<Path, BasicFileAttributes>> directories = new HashMap<>();
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+
+    public DirectoryWatchCache() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * Applies the change events which have happened since the last refresh. This should be called at the beginning of
+     * each poll.
+     */
+    public void refresh() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path directory = keys.get(key);
+            Map<Path, BasicFileAttributes> entries = directory != null ? directories.get(directory) : null;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (entries == null) {
+                    // the directory is not cached (anymore) so there is nothing to update
+                    continue;
+                }
+                if (event.kind() == OVERFLOW) {
+                    LOG.debug("Change events overflowed for directory: {}. The directory will be listed again.", directory);
+                    directories.remove(directory);
+                    entries = null;
+                    continue;
+                }
+                Path child = directory.resolve((Path) event.context());
+                BasicFileAttributes attributes = event.kind() == ENTRY_DELETE ? null : readAttributes(child);
+                if (attributes != null) {
+                    entries.put(child, attributes);
+                } else {
+                    entries.remove(child);
+                    // the child may have been a directory which then must be listed again if re-created
+                    directories.remove(child);
+                }
+            }
+            if (!key.reset()) {
+                // the directory is no longer accessible
+                keys.remove(key);
+                if (directory != null) {
+                    directories.remove(directory);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the files in the given directory with their attributes. The directory is watched for changes from the first
+     * time it is listed.
+     */
+    public Map<Path, BasicFileAttributes> list(Path directory) throws IOException {
+        Map<Path, BasicFileAttributes> entries = directories.get(directory);
+        if (entries == null) {
+            // register before listing so no changes can be missed in between
+            WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+            keys.put(key, directory);
+            entries = listDirectory(directory);
+            directories.put(directory, entries);
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        directories.clear();
+        keys.clear();
+        watchService.close();
+    }
+
+    /**
+     * Lists the files in the given directory with a {@link DirectoryStream}, reading the attributes of each file only
+     * once. On file systems which return the attributes with the directory entries (such as on Windows) these
+     * attributes are reused.
+     */
+    public static Map<Path, BasicFileAttributes> listDirectory(Path directory) throws IOException {
+        Map<Path, BasicFileAttributes> answer = new LinkedHashMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                BasicFileAttributes attributes = readAttributes(path);
+                if (attributes != null) {
+                    answer.put(path, attributes);
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            // the file has been deleted in the meantime
+            return null;
+        } catch (IOException e) {
+            LOG.debug("Unable to read attributes of file: {}", path, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.startup.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(FlightRecorderLatencyEvent.NAME)
+@Category({ "Camel Application", "Routing" })
+@Label("Latency Statistics")
+@Description("Latency percentiles of the Camel routes and processors since the previous statistics")
+@StackTrace(false)
+@Period("10 s")
+public class FlightRecorderLatencyEvent extends Event {
+
+    public static final String NAME = "org.apache.camel.LatencyStatistics";
+
+    @Label("Route Id")
+    public String routeId;
+    @Label("Processor Id")
+    @Description("The processor id, or empty for the statistics of the route")
+    public String processorId;
+    @Label("Count")
+    public long count;
+    @Label("Failed")
+    public long failed;
+    @Label("Inflight")
+    public int inflight;
+    @Label("Mean")
+    @Timespan
+    public long mean;
+    @Label("50th Percentile")
+    @Timespan
+    public long p50;
+    @Label("90th Percentile")
+    @Timespan
+    public long p90;
+    @Label("99th Percentile")
+    @Timespan
+    public long p99;
+    @Label("99.9th Percentile")
+    @Timespan
+    public long p999;
+    @Label("Max")
+    @Timespan
+    public long max;
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.startup.jfr;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.FlightRecorder;
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.NamedNode;
+import org.apache.camel.Processor;
+import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.spi.InterceptStrategy;
+import org.apache.camel.spi.RoutePolicy;
+import org.apache.camel.spi.RoutePolicyFactory;
+import org.apache.camel.support.RoutePolicySupport;
+import org.apache.camel.support.processor.DelegateAsyncProcessor;
+import org.apache.camel.support.service.ServiceSupport;
+
+/**
+ * To emit the execution of routes and processors to Java Flight Recorder.
+ * <p/>
+ * Each exchange executed by a route, or a processor in a route, is timed and recorded in a {@link LatencyHistogram},
+ * from which the latency percentiles are periodically emitted as {@link FlightRecorderLatencyEvent}. The executions
+ * which are slower than the threshold of the {@link FlightRecorderRouteEvent} and {@link FlightRecorderProcessorEvent}
+ * (20 ms by default) are also emitted as individual events.
+ * <p/>
+ * This recorder is both a {@link InterceptStrategy} and a {@link RoutePolicyFactory}, which must be added to the
+ * {@link CamelContext} before the routes are started. When using Camel Main it is sufficient to bind the recorder in
+ * the registry.
+ */
+public class FlightRecorderRoutingRecorder extends ServiceSupport
+        implements CamelContextAware, InterceptStrategy, RoutePolicyFactory {
+
+    private final Map<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private final Runnable hook = this::emitStatistics;
+    private CamelContext camelContext;
+    private boolean recordProcessors = true;
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public boolean isRecordProcessors() {
+        return recordProcessors;
+    }
+
+    /**
+     * Whether to record the execution of each processor, or only the execution of routes. This is default true.
+     */
+    public void setRecordProcessors(boolean recordProcessors) {
+        this.recordProcessors = recordProcessors;
+    }
+
+    @Override
+    public Processor wrapProcessorInInterceptors(
+            CamelContext context, NamedNode definition, Processor target, Processor nextTarget)
+            throws Exception {
+        if (!recordProcessors) {
+            return target;
+        }
+        install(context);
+
+        String routeId = routeIdOf(definition);
+        String id = definition.getId() != null ? definition.getId() : definition.getShortName();
+        Statistics stat = statistics.computeIfAbsent(routeId + "/" + id, k -> new Statistics(routeId, id));
+        return new FlightRecorderProcessor(target, definition.getShortName(), stat);
+    }
+
+    @Override
+    public RoutePolicy createRoutePolicy(CamelContext context, String routeId, NamedNode route) {
+        install(context);
+
+        Statistics stat = statistics.computeIfAbsent(routeId, k -> new Statistics(routeId, ""));
+        return new FlightRecorderRoutePolicy(stat);
+    }
+
+    private void install(CamelContext context) {
+        if (camelContext == null) {
+            camelContext = context;
+        }
+        // the recorder is added as a service so it is started and stopped together with camel
+        if (!context.hasService(this)) {
+            try {
+                context.addService(this);
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeCamelException(e);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        FlightRecorder.addPeriodicEvent(FlightRecorderLatencyEvent.class, hook);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        FlightRecorder.removePeriodicEvent(hook);
+    }
+
+    /**
+     * Emits the latency statistics of the routes and processors, and resets the statistics.
+     */
+    public void emitStatistics() {
+        for (Statistics stat : statistics.values()) {
+            stat.emit();
+        }
+    }
+
+    private void removeRoute(String routeId) {
+        statistics.values().removeIf(s -> s.routeId.equals(routeId));
+    }
+
+    private static String routeIdOf(NamedNode node) {
+        while (node.getParent() != null) {
+            node = node.getParent();
+        }
+        return node.getId();
+    }
+
+    private static final class Statistics {
+        private final String routeId;
+        private final String processorId;
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder failed = new LongAdder();
+        private final AtomicInteger inflight = new AtomicInteger();
+
+        Statistics(String routeId, String processorId) {
+            this.routeId = routeId;
+            this.processorId = processorId;
+        }
+
+        void record(long elapsed, boolean failed) {
+            histogram.record(elapsed);
+            if (failed) {
+                this.failed.increment();
+            }
+        }
+
+        void emit() {
+            if (histogram.getCount() == 0 && inflight.get() == 0) {
+                return;
+            }
+            FlightRecorderLatencyEvent event = new FlightRecorderLatencyEvent();
+            if (event.isEnabled()) {
+                event.routeId = routeId;
+                event.processorId = processorId;
+                event.count = histogram.getCount();
+                event.failed = failed.sum();
+                event.inflight = inflight.get();
+                event.mean = histogram.getMean();
+                event.p50 = histogram.getValueAtPercentile(50);
+                event.p90 = histogram.getValueAtPercentile(90);
+                event.p99 = histogram.getValueAtPercentile(99);
+                event.p999 = histogram.getValueAtPercentile(99.9);
+                event.max = histogram.getMax();
+                event.commit();
+            }
+            histogram.reset();
+            failed.reset();
+        }
+    }
+
+    private static final class FlightRecorderProcessor extends DelegateAsyncProcessor {
+        private final String type;
+        private final Statistics stat;
+
+        FlightRecorderProcessor(Processor processor, String type, Statistics stat) {
+            super(processor);
+            this.type = type;
+            this.stat = stat;
+        }
+
+        @Override
+        public boolean process(Exchange exchange, AsyncCallback callback) {
+            final FlightRecorderProcessorEvent event = new FlightRecorderProcessorEvent();
+            final long start = System.nanoTime();
+            event.begin();
+            return processor.process(exchange, doneSync -> {
+                event.end();
+                boolean failed = exchange.isFailed();
+                stat.record(System.nanoTime() - start, failed);
+                if (event.shouldCommit()) {
+                    event.routeId = stat.routeId;
+                    event.processorId = stat.processorId;
+                    event.processor = type;
+                    event.exchangeId = exchange.getExchangeId();
+                    event.failed = failed;
+                    event.commit();
+                }
+                callback.done(doneSync);
+            });
+        }
+
+        @Override
+        public String toString() {
+            return "FlightRecorderProcessor[" + processor + "]";
+        }
+    }
+
+    private final class FlightRecorderRoutePolicy extends RoutePolicySupport {
+        private final Statistics stat;
+        // exchange property to keep the event while the exchange is routed
+        private final String key;
+
+        FlightRecorderRoutePolicy(Statistics stat) {
+            this.stat = stat;
+            this.key = "CamelFlightRecorderRouteEvent-" + stat.routeId;
+        }
+
+        @Override
+        public void onExchangeBegin(Route route, Exchange exchange) {
+            FlightRecorderRouteEvent event = new FlightRecorderRouteEvent();
+            event.inflight = stat.inflight.getAndIncrement();
+            event.startNanos = System.nanoTime();
+            event.begin();
+            exchange.setProperty(key, event);
+        }
+
+        @Override
+        public void onExchangeDone(Route route, Exchange exchange) {
+            Object value = exchange.removeProperty(key);
+            if (!(value instanceof FlightRecorderRouteEvent)) {
+                return;
+            }
+            FlightRecorderRouteEvent event = (FlightRecorderRouteEvent) value;
+            event.end();
+            stat.inflight.decrementAndGet();
+            boolean failed = exchange.isFailed();
+            stat.record(System.nanoTime() - event.startNanos, failed);
+            if (event.shouldCommit()) {
+                event.routeId = stat.routeId;
+                event.exchangeId = exchange.getExchangeId();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+
+        @Override
+        public void onRemove(Route route) {
+            removeRoute(stat.routeId);
+        }
+    }
+
+}
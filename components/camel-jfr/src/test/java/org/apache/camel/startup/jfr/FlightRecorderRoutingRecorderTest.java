@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.startup.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderRoutingRecorderTest extends CamelTestSupport {
+
+    private final FlightRecorderRoutingRecorder recorder = new FlightRecorderRoutingRecorder();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).addInterceptStrategy(recorder);
+        context.addRoutePolicyFactory(recorder);
+        return context;
+    }
+
+    @Test
+    public void testRoutingEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(FlightRecorderRouteEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(FlightRecorderProcessorEvent.NAME).withThreshold(Duration.ZERO);
+            recording.enable(FlightRecorderLatencyEvent.NAME);
+            recording.start();
+
+            getMockEndpoint("mock:result").expectedMessageCount(5);
+            for (int i = 0; i < 5; i++) {
+                template.sendBody("direct:start", "Hello " + i);
+            }
+            assertMockEndpointsSatisfied();
+
+            recorder.emitStatistics();
+            recording.stop();
+
+            Path file = Files.createTempFile("camel-jfr-test", ".jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+            Files.delete(file);
+        }
+
+        List<RecordedEvent> routes = filter(events, FlightRecorderRouteEvent.NAME);
+        assertEquals(5, routes.size());
+        assertEquals("myRoute", routes.get(0).getString("routeId"));
+
+        List<RecordedEvent> processors = filter(events, FlightRecorderProcessorEvent.NAME);
+        assertEquals(10, processors.size());
+        assertTrue(processors.stream().anyMatch(e -> "myDelay".equals(e.getString("processorId"))));
+
+        List<RecordedEvent> statistics = filter(events, FlightRecorderLatencyEvent.NAME);
+        RecordedEvent delay = statistics.stream().filter(e -> "myDelay".equals(e.getString("processorId")))
+                .findFirst().orElseThrow();
+        assertEquals(5, delay.getLong("count"));
+        assertTrue(delay.getLong("p50") >= Duration.ofMillis(10).toNanos(), "Should be delayed");
+        RecordedEvent route = statistics.stream().filter(e -> "".equals(e.getString("processorId")))
+                .findFirst().orElseThrow();
+        assertEquals(5, route.getLong("count"));
+        assertEquals(0, route.getLong("failed"));
+    }
+
+    private static List<RecordedEvent> filter(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).collect(Collectors.toList());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").routeId("myRoute")
+                        .delay(10).id("myDelay")
+                        .to("mock:result").id("myResult");
+            }
+        };
+    }
+
+}
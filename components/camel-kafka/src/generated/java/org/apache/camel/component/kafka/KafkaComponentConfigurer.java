@@ -42,6 +42,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": getOrCreateConfiguration(target).setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "autowiredenabled":
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": getOrCreateConfiguration(target).setBatchingIntervalMs(property(camelContext, long.class, value)); return true;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": getOrCreateConfiguration(target).setBatchingMaxBytes(property(camelContext, long.class, value)); return true;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": getOrCreateConfiguration(target).setBatchingMaxRecords(property(camelContext, int.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -62,6 +69,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "connectionMaxIdleMs": getOrCreateConfiguration(target).setConnectionMaxIdleMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "consumerrequesttimeoutms":
         case "consumerRequestTimeoutMs": getOrCreateConfiguration(target).setConsumerRequestTimeoutMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "consumerworkers":
+        case "consumerWorkers": getOrCreateConfiguration(target).setConsumerWorkers(property(camelContext, int.class, value)); return true;
+        case "consumerworkersordering":
+        case "consumerWorkersOrdering": getOrCreateConfiguration(target).setConsumerWorkersOrdering(property(camelContext, java.lang.String.class, value)); return true;
         case "consumerscount":
         case "consumersCount": getOrCreateConfiguration(target).setConsumersCount(property(camelContext, int.class, value)); return true;
         case "deliverytimeoutms":
@@ -256,6 +267,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return java.lang.String.class;
         case "autowiredenabled":
         case "autowiredEnabled": return boolean.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return long.class;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return long.class;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return int.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -276,6 +294,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "connectionMaxIdleMs": return java.lang.Integer.class;
         case "consumerrequesttimeoutms":
         case "consumerRequestTimeoutMs": return java.lang.Integer.class;
+        case "consumerworkers":
+        case "consumerWorkers": return int.class;
+        case "consumerworkersordering":
+        case "consumerWorkersOrdering": return java.lang.String.class;
         case "consumerscount":
         case "consumersCount": return int.class;
         case "deliverytimeoutms":
@@ -466,6 +488,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autoOffsetReset": return getOrCreateConfiguration(target).getAutoOffsetReset();
         case "autowiredenabled":
         case "autowiredEnabled": return target.isAutowiredEnabled();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return getOrCreateConfiguration(target).getBatchingIntervalMs();
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return getOrCreateConfiguration(target).getBatchingMaxBytes();
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return getOrCreateConfiguration(target).getBatchingMaxRecords();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -486,6 +515,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "connectionMaxIdleMs": return getOrCreateConfiguration(target).getConnectionMaxIdleMs();
         case "consumerrequesttimeoutms":
         case "consumerRequestTimeoutMs": return getOrCreateConfiguration(target).getConsumerRequestTimeoutMs();
+        case "consumerworkers":
+        case "consumerWorkers": return getOrCreateConfiguration(target).getConsumerWorkers();
+        case "consumerworkersordering":
+        case "consumerWorkersOrdering": return getOrCreateConfiguration(target).getConsumerWorkersOrdering();
         case "consumerscount":
         case "consumersCount": return getOrCreateConfiguration(target).getConsumersCount();
         case "deliverytimeoutms":
@@ -33,6 +33,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": target.getConfiguration().setAutoCommitOnStop(property(camelContext, java.lang.String.class, value)); return true;
         case "autooffsetreset":
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": target.getConfiguration().setBatchingIntervalMs(property(camelContext, long.class, value)); return true;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": target.getConfiguration().setBatchingMaxBytes(property(camelContext, long.class, value)); return true;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": target.getConfiguration().setBatchingMaxRecords(property(camelContext, int.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -52,6 +59,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "connectionMaxIdleMs": target.getConfiguration().setConnectionMaxIdleMs(property(camelContext, java.lang.Integer.class, value)); return true;
         case "consumerrequesttimeoutms":
         case "consumerRequestTimeoutMs": target.getConfiguration().setConsumerRequestTimeoutMs(property(camelContext, java.lang.Integer.class, value)); return true;
+        case "consumerworkers":
+        case "consumerWorkers": target.getConfiguration().setConsumerWorkers(property(camelContext, int.class, value)); return true;
+        case "consumerworkersordering":
+        case "consumerWorkersOrdering": target.getConfiguration().setConsumerWorkersOrdering(property(camelContext, java.lang.String.class, value)); return true;
         case "consumerscount":
         case "consumersCount": target.getConfiguration().setConsumersCount(property(camelContext, int.class, value)); return true;
         case "deliverytimeoutms":
@@ -239,6 +250,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return java.lang.String.class;
         case "autooffsetreset":
         case "autoOffsetReset": return java.lang.String.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return long.class;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return long.class;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return int.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -258,6 +276,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "connectionMaxIdleMs": return java.lang.Integer.class;
         case "consumerrequesttimeoutms":
         case "consumerRequestTimeoutMs": return java.lang.Integer.class;
+        case "consumerworkers":
+        case "consumerWorkers": return int.class;
+        case "consumerworkersordering":
+        case "consumerWorkersOrdering": return java.lang.String.class;
         case "consumerscount":
         case "consumersCount": return int.class;
         case "deliverytimeoutms":
@@ -446,6 +468,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoCommitOnStop": return target.getConfiguration().getAutoCommitOnStop();
         case "autooffsetreset":
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
+        case "batching": return target.getConfiguration().isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return target.getConfiguration().getBatchingIntervalMs();
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return target.getConfiguration().getBatchingMaxBytes();
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return target.getConfiguration().getBatchingMaxRecords();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -465,6 +494,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "connectionMaxIdleMs": return target.getConfiguration().getConnectionMaxIdleMs();
         case "consumerrequesttimeoutms":
         case "consumerRequestTimeoutMs": return target.getConfiguration().getConsumerRequestTimeoutMs();
+        case "consumerworkers":
+        case "consumerWorkers": return target.getConfiguration().getConsumerWorkers();
+        case "consumerworkersordering":
+        case "consumerWorkersOrdering": return target.getConfiguration().getConsumerWorkersOrdering();
         case "consumerscount":
         case "consumersCount": return target.getConfiguration().getConsumersCount();
         case "deliverytimeoutms":
@@ -20,7 +20,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(103);
+        Set<String> props = new HashSet<>(109);
         props.add("synchronous");
         props.add("queueBufferingMaxMessages");
         props.add("allowManualCommit");
@@ -28,12 +28,15 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("receiveBufferBytes");
         props.add("reconnectBackoffMaxMs");
         props.add("valueDeserializer");
+        props.add("batchingIntervalMs");
         props.add("metricReporters");
         props.add("sslTruststoreType");
         props.add("sendBufferBytes");
         props.add("heartbeatIntervalMs");
         props.add("interceptorClasses");
+        props.add("batchingMaxBytes");
         props.add("sslKeystoreType");
+        props.add("consumerWorkersOrdering");
         props.add("breakOnFirstError");
         props.add("requestRequiredAcks");
         props.add("enableIdempotence");
@@ -62,6 +65,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("clientId");
         props.add("maxRequestSize");
         props.add("recordMetadata");
+        props.add("batchingMaxRecords");
+        props.add("batching");
         props.add("sslTrustmanagerAlgorithm");
         props.add("compressionCodec");
         props.add("autoCommitOnStop");
@@ -77,6 +82,7 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("offsetRepository");
         props.add("kerberosRenewJitter");
         props.add("sslProvider");
+        props.add("consumerWorkers");
         props.add("saslKerberosServiceName");
         props.add("bridgeErrorHandler");
         props.add("shutdownTimeout");
@@ -77,6 +77,18 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
 
     @UriParam(label = "consumer", defaultValue = "1")
     private int consumersCount = 1;
+    @UriParam(label = "consumer")
+    private int consumerWorkers;
+    @UriParam(label = "consumer", defaultValue = "partition", enums = "partition,key")
+    private String consumerWorkersOrdering = "partition";
+    @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer", defaultValue = "500")
+    private int batchingMaxRecords = 500;
+    @UriParam(label = "consumer")
+    private long batchingMaxBytes;
+    @UriParam(label = "consumer")
+    private long batchingIntervalMs;
     @UriParam(label = "consumer", description = "To use a custom KafkaHeaderDeserializer to deserialize kafka headers values")
     private KafkaHeaderDeserializer headerDeserializer = new DefaultKafkaHeaderDeserializer();
 
@@ -643,6 +655,87 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.consumersCount = consumersCount;
     }
 
+    public int getConsumerWorkers() {
+        return consumerWorkers;
+    }
+
+    /**
+     * The number of worker threads each consumer uses to process the polled records. By default the records are
+     * processed one by one by the consumer thread itself. When using workers, then the consumer thread continues to
+     * poll while the records are processed in parallel, and the order of the records is kept per partition (or per key,
+     * see consumerWorkersOrdering). The offsets are committed up to the last record where all previous records have
+     * been processed, so each record is processed at least once. This option cannot be used together with
+     * allowManualCommit or breakOnFirstError.
+     */
+    public void setConsumerWorkers(int consumerWorkers) {
+        this.consumerWorkers = consumerWorkers;
+    }
+
+    public String getConsumerWorkersOrdering() {
+        return consumerWorkersOrdering;
+    }
+
+    /**
+     * How the polled records are assigned to the consumer workers, which is also the order the records are processed
+     * in. With partition, all records from the same partition are processed in order by the same worker. With key, all
+     * records with the same key are processed in order by the same worker (records without a key are assigned by
+     * partition), which allows processing records from the same partition in parallel.
+     */
+    public void setConsumerWorkersOrdering(String consumerWorkersOrdering) {
+        this.consumerWorkersOrdering = consumerWorkersOrdering;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to consume the polled records in batches. Each batch is routed as a single exchange where the message
+     * body is a java.util.List of exchanges, one per record, which hold the record value and the kafka headers (topic,
+     * partition, offset, key, etc.) of the record. The size of the batches is bounded by the batchingMaxRecords,
+     * batchingMaxBytes and batchingIntervalMs options. The offsets of the records are committed after the batch has
+     * been processed. This option cannot be used together with allowManualCommit or consumerWorkers.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getBatchingMaxRecords() {
+        return batchingMaxRecords;
+    }
+
+    /**
+     * The maximum number of records in a batch, when using batching.
+     */
+    public void setBatchingMaxRecords(int batchingMaxRecords) {
+        this.batchingMaxRecords = batchingMaxRecords;
+    }
+
+    public long getBatchingMaxBytes() {
+        return batchingMaxBytes;
+    }
+
+    /**
+     * The maximum size in bytes of the serialized keys and values of the records in a batch, when using batching. The
+     * batch is completed when adding a record makes it reach this size. By default the size is unbounded.
+     */
+    public void setBatchingMaxBytes(long batchingMaxBytes) {
+        this.batchingMaxBytes = batchingMaxBytes;
+    }
+
+    public long getBatchingIntervalMs() {
+        return batchingIntervalMs;
+    }
+
+    /**
+     * The maximum time in millis to collect records from several polls into the same batch, when using batching. The
+     * time starts when the first record is added to the batch. By default, the records from each poll are routed as
+     * soon as they are polled.
+     */
+    public void setBatchingIntervalMs(long batchingIntervalMs) {
+        this.batchingIntervalMs = batchingIntervalMs;
+    }
+
     public String getClientId() {
         return clientId;
     }
@@ -54,6 +54,22 @@ public class KafkaConsumer extends DefaultConsumer {
     @Override
     protected void doBuild() throws Exception {
         super.doBuild();
+        if (endpoint.getConfiguration().getConsumerWorkers() > 0) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option allowManualCommit cannot be used together with consumerWorkers");
+            }
+            if (endpoint.getConfiguration().isBreakOnFirstError()) {
+                throw new IllegalArgumentException("The option breakOnFirstError cannot be used together with consumerWorkers");
+            }
+        }
+        if (endpoint.getConfiguration().isBatching()) {
+            if (endpoint.getConfiguration().isAllowManualCommit()) {
+                throw new IllegalArgumentException("The option allowManualCommit cannot be used together with batching");
+            }
+            if (endpoint.getConfiguration().getConsumerWorkers() > 0) {
+                throw new IllegalArgumentException("The option consumerWorkers cannot be used together with batching");
+            }
+        }
         if (endpoint.getComponent().getPollExceptionStrategy() != null) {
             pollExceptionStrategy = endpoint.getComponent().getPollExceptionStrategy();
         } else {
@@ -85,6 +101,12 @@ public class KafkaConsumer extends DefaultConsumer {
         ObjectHelper.ifNotEmpty(configuration.getGroupInstanceId(),
                 v -> props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG, v));
 
+        if (configuration.getConsumerWorkers() > 0 || configuration.isBatching()) {
+            // the kafka client would auto commit records which are still being processed by the workers (or
+            // collected into a batch), so the processed records are committed by the consumer instead
+            props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        }
+
         return props;
     }
 
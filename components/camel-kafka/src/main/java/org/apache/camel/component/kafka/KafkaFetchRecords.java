@@ -18,6 +18,7 @@ package org.apache.camel.component.kafka;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -31,10 +32,13 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordBatchProcessor;
+import org.apache.camel.component.kafka.consumer.support.KafkaRecordDispatcher;
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor;
 import org.apache.camel.component.kafka.consumer.support.PartitionAssignmentListener;
 import org.apache.camel.support.BridgeExceptionHandlerToErrorHandler;
 import org.apache.camel.util.IOHelper;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.common.TopicPartition;
@@ -60,6 +64,8 @@ class KafkaFetchRecords implements Runnable {
     private final ReentrantLock lock = new ReentrantLock();
     private final AtomicBoolean stopping = new AtomicBoolean(false);
     private final ConcurrentLinkedQueue<KafkaAsyncManualCommit> asyncCommits = new ConcurrentLinkedQueue<>();
+    private KafkaRecordDispatcher dispatcher;
+    private KafkaRecordBatchProcessor batchProcessor;
 
     private boolean retry = true;
     private boolean reconnect; // must be false at init (this is the policy whether to reconnect)
@@ -137,9 +143,13 @@ class KafkaFetchRecords implements Runnable {
     }
 
     private void subscribe() {
-        PartitionAssignmentListener listener = new PartitionAssignmentListener(
+        ConsumerRebalanceListener listener = new PartitionAssignmentListener(
                 threadId, topicName,
                 kafkaConsumer.getEndpoint().getConfiguration(), consumer, lastProcessedOffset, this::isRunnable);
+        if (kafkaConsumer.getEndpoint().getConfiguration().getConsumerWorkers() > 0
+                || kafkaConsumer.getEndpoint().getConfiguration().isBatching()) {
+            listener = new InflightRecordsRebalanceListener(listener);
+        }
 
         if (topicPattern != null) {
             LOG.info("Subscribing {} to topic pattern {}", threadId, topicName);
@@ -164,14 +174,38 @@ class KafkaFetchRecords implements Runnable {
             LOG.trace("Polling {} from topic: {} with timeout: {}", threadId, topicName, pollTimeoutMs);
 
             KafkaRecordProcessor kafkaRecordProcessor = buildKafkaRecordProcessor();
+            if (kafkaConsumer.getEndpoint().getConfiguration().getConsumerWorkers() > 0) {
+                dispatcher = new KafkaRecordDispatcher(
+                        kafkaConsumer, kafkaRecordProcessor, consumer, threadId, lastProcessedOffset);
+                dispatcher.start();
+            } else if (kafkaConsumer.getEndpoint().getConfiguration().isBatching()) {
+                batchProcessor = new KafkaRecordBatchProcessor(
+                        kafkaConsumer, kafkaRecordProcessor, consumer, threadId, lastProcessedOffset);
+            }
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             while (isKafkaConsumerRunnable() && isRetrying() && isConnected()) {
-                ConsumerRecords<Object, Object> allRecords = consumer.poll(pollDuration);
+                ConsumerRecords<Object, Object> allRecords = consumer.poll(
+                        batchProcessor != null ? batchProcessor.getPollDuration(pollDuration) : pollDuration);
 
                 processAsyncCommits();
 
-                partitionLastOffset = processPolledRecords(allRecords, kafkaRecordProcessor);
+                if (dispatcher != null) {
+                    logRecords(allRecords);
+                    dispatcher.dispatch(allRecords);
+                    dispatcher.commitProcessed(false);
+                } else if (batchProcessor != null) {
+                    logRecords(allRecords);
+                    if (batchProcessor.process(allRecords)) {
+                        LOG.debug("We hit an error ... setting flags to force reconnect");
+                        // force re-connect, so the batch is consumed again from the last committed offset
+                        setReconnect(true);
+                        setConnected(false);
+                        setRetry(false); // to close the current consumer
+                    }
+                } else {
+                    partitionLastOffset = processPolledRecords(allRecords, kafkaRecordProcessor);
+                }
             }
 
             if (!isConnected()) {
@@ -203,6 +237,15 @@ class KafkaFetchRecords implements Runnable {
 
             handleAccordingToStrategy(partitionLastOffset, e);
         } finally {
+            if (dispatcher != null) {
+                dispatcher.stop();
+                dispatcher = null;
+            }
+            if (batchProcessor != null) {
+                batchProcessor.clear();
+                batchProcessor = null;
+            }
+
             lock.unlock();
 
             // only close if not retry
@@ -246,6 +289,16 @@ class KafkaFetchRecords implements Runnable {
 
     private void commit() {
         processAsyncCommits();
+        if (dispatcher != null) {
+            // the records being processed must be done before committing the current position
+            dispatcher.drain();
+        }
+        if (batchProcessor != null) {
+            // the processed batches are already committed, and the records collected into the current batch
+            // have not been processed, so they must not be committed
+            batchProcessor.clear();
+            return;
+        }
         if (isAutoCommitEnabled()) {
             if ("async".equals(kafkaConsumer.getEndpoint().getConfiguration().getAutoCommitOnStop())) {
                 LOG.info("Auto commitAsync on stop {} from topic {}", threadId, topicName);
@@ -492,6 +545,33 @@ class KafkaFetchRecords implements Runnable {
         safeStop();
     }
 
+    /**
+     * Lets the dispatcher (or batch processor) finish processing and commit the records from the revoked partitions
+     */
+    private final class InflightRecordsRebalanceListener implements ConsumerRebalanceListener {
+        private final ConsumerRebalanceListener delegate;
+
+        private InflightRecordsRebalanceListener(ConsumerRebalanceListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (dispatcher != null) {
+                dispatcher.onPartitionsRevoked(partitions);
+            }
+            if (batchProcessor != null && !isStopping()) {
+                batchProcessor.flush();
+            }
+            delegate.onPartitionsRevoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            delegate.onPartitionsAssigned(partitions);
+        }
+    }
+
     private boolean isAutoCommitEnabled() {
         return kafkaConsumer.getEndpoint().getConfiguration().getAutoCommitEnable() != null
                 && kafkaConsumer.getEndpoint().getConfiguration().getAutoCommitEnable();
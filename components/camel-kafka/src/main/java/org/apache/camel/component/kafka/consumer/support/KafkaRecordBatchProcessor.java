@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.serializeOffsetKey;
+
+/**
+ * Collects the polled records into batches, which are routed as a single exchange with a list of exchanges (one per
+ * record) as the message body.
+ * <p/>
+ * A batch is completed when it reaches the maximum number of records or bytes, or when the batching interval has
+ * elapsed since the first record was added. The offsets of the records are committed after the batch has been
+ * processed, so the records which are collected but not yet processed are consumed again after a restart or rebalance.
+ * <p/>
+ * All methods must be called by the consumer thread, as the Kafka consumer is not thread safe.
+ */
+public class KafkaRecordBatchProcessor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordBatchProcessor.class);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final Consumer<?, ?> consumer;
+    private final KafkaConfiguration configuration;
+    private final String threadId;
+    private final Map<String, Long> lastProcessedOffset;
+    private final List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+    private long batchBytes;
+    private long batchStartTime;
+    private boolean breakOnErrorHit;
+
+    public KafkaRecordBatchProcessor(KafkaConsumer camelKafkaConsumer, KafkaRecordProcessor kafkaRecordProcessor,
+                                     Consumer<?, ?> consumer, String threadId, Map<String, Long> lastProcessedOffset) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.kafkaRecordProcessor = kafkaRecordProcessor;
+        this.consumer = consumer;
+        this.configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.threadId = threadId;
+        this.lastProcessedOffset = lastProcessedOffset;
+    }
+
+    /**
+     * The duration of the next poll, which is shortened so the current batch is completed in time
+     */
+    public Duration getPollDuration(Duration pollDuration) {
+        long interval = configuration.getBatchingIntervalMs();
+        if (batch.isEmpty() || interval <= 0) {
+            return pollDuration;
+        }
+        long remaining = Math.max(0, batchStartTime + interval - System.currentTimeMillis());
+        return remaining < pollDuration.toMillis() ? Duration.ofMillis(remaining) : pollDuration;
+    }
+
+    /**
+     * Adds the polled records to the batch, and processes the batches which are complete
+     *
+     * @return true if the processing of a batch failed and the consumer should break out (breakOnFirstError)
+     */
+    public boolean process(ConsumerRecords<Object, Object> allRecords) {
+        for (ConsumerRecord<Object, Object> record : allRecords) {
+            if (breakOnErrorHit) {
+                // the remaining records are consumed again when the consumer reconnects
+                break;
+            }
+            if (batch.isEmpty()) {
+                batchStartTime = System.currentTimeMillis();
+            }
+            batch.add(record);
+            batchBytes += Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+
+            if (batch.size() >= configuration.getBatchingMaxRecords()
+                    || configuration.getBatchingMaxBytes() > 0 && batchBytes >= configuration.getBatchingMaxBytes()) {
+                flush();
+            }
+        }
+
+        if (!breakOnErrorHit && !batch.isEmpty() && (configuration.getBatchingIntervalMs() <= 0
+                || System.currentTimeMillis() - batchStartTime >= configuration.getBatchingIntervalMs())) {
+            flush();
+        }
+
+        boolean answer = breakOnErrorHit;
+        breakOnErrorHit = false;
+        return answer;
+    }
+
+    /**
+     * Processes the records from the current batch and commits their offsets
+     */
+    public void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processing batch of {} records ({} bytes) on consumer {}", batch.size(), batchBytes, threadId);
+        }
+
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        List<Exchange> exchanges = new ArrayList<>(batch.size());
+        for (ConsumerRecord<Object, Object> record : batch) {
+            Exchange child = camelKafkaConsumer.getEndpoint().createExchange();
+            kafkaRecordProcessor.setupExchange(child, record);
+            exchanges.add(child);
+            offsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::max);
+        }
+        clear();
+
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        exchange.setProperty(Exchange.BATCH_SIZE, exchanges.size());
+        exchange.getMessage().setBody(exchanges);
+        try {
+            camelKafkaConsumer.getProcessor().process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+
+        if (exchange.getException() != null) {
+            if (configuration.isBreakOnFirstError()) {
+                LOG.warn("Error during processing batch {} on consumer {}. Will reconnect and consume the batch again.",
+                        exchange, threadId, exchange.getException());
+                breakOnErrorHit = true;
+                camelKafkaConsumer.releaseExchange(exchange, false);
+                return;
+            }
+            camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                    exchange.getException());
+        }
+        camelKafkaConsumer.releaseExchange(exchange, false);
+
+        commitOffsets(offsets);
+    }
+
+    private void commitOffsets(Map<TopicPartition, Long> offsets) {
+        offsets.forEach((partition, offset) -> lastProcessedOffset.put(serializeOffsetKey(partition), offset));
+
+        if (configuration.getOffsetRepository() != null) {
+            offsets.forEach((partition, offset) -> KafkaRecordProcessor.commitOffset(configuration, consumer, partition,
+                    offset, false, false, threadId));
+        } else if (isAutoCommitEnabled()) {
+            Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+            offsets.forEach((partition, offset) -> commits.put(partition, new OffsetAndMetadata(offset + 1)));
+            LOG.debug("Committing offsets {} on consumer {}", commits, threadId);
+            consumer.commitSync(commits, Duration.ofMillis(configuration.getCommitTimeoutMs()));
+        }
+    }
+
+    /**
+     * Discards the records from the current batch, which have not been processed (nor committed)
+     */
+    public void clear() {
+        batch.clear();
+        batchBytes = 0;
+    }
+
+    private boolean isAutoCommitEnabled() {
+        return configuration.getAutoCommitEnable() != null && configuration.getAutoCommitEnable();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.serializeOffsetKey;
+
+/**
+ * Dispatches the polled records to a number of worker threads, so the records are processed in parallel while the
+ * consumer thread continues polling.
+ * <p/>
+ * The records are assigned to the workers by partition (or by key), so the records from the same partition (or with the
+ * same key) are processed in order. As records may complete out of order, then the offsets are tracked per partition
+ * using a {@link OffsetWatermark}, and only the offsets where all the previous records are processed are committed.
+ * <p/>
+ * A partition is paused when it has too many records being processed (twice the max poll records), and resumed again
+ * when the workers have caught up (no more than max poll records being processed).
+ * <p/>
+ * All methods (except for the processing of the records) must be called by the consumer thread, as the Kafka consumer
+ * is not thread safe.
+ */
+public class KafkaRecordDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordDispatcher.class);
+    private static final int DEFAULT_MAX_POLL_RECORDS = 500;
+    // the number of polls a partition can have pending before it is paused
+    private static final int MAX_PENDING_POLLS = 2;
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final Consumer<?, ?> consumer;
+    private final KafkaConfiguration configuration;
+    private final String threadId;
+    private final Map<String, Long> lastProcessedOffset;
+    private final boolean orderByKey;
+    private final int maxPollRecords;
+    private final Map<TopicPartition, OffsetWatermark> watermarks = new HashMap<>();
+    private final Set<TopicPartition> paused = new HashSet<>();
+    private ExecutorService[] workers;
+    private long lastCommitTime;
+
+    public KafkaRecordDispatcher(KafkaConsumer camelKafkaConsumer, KafkaRecordProcessor kafkaRecordProcessor,
+                                 Consumer<?, ?> consumer, String threadId, Map<String, Long> lastProcessedOffset) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.kafkaRecordProcessor = kafkaRecordProcessor;
+        this.consumer = consumer;
+        this.configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        this.threadId = threadId;
+        this.lastProcessedOffset = lastProcessedOffset;
+        this.orderByKey = "key".equals(configuration.getConsumerWorkersOrdering());
+        this.maxPollRecords = configuration.getMaxPollRecords() != null
+                ? configuration.getMaxPollRecords() : DEFAULT_MAX_POLL_RECORDS;
+    }
+
+    public void start() {
+        ExecutorServiceManager manager = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        workers = new ExecutorService[configuration.getConsumerWorkers()];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = manager.newSingleThreadExecutor(this, "KafkaConsumerWorker[" + threadId + "-" + i + "]");
+        }
+        lastCommitTime = System.currentTimeMillis();
+        LOG.debug("Started {} workers for consumer {} ordered by {}", workers.length, threadId,
+                configuration.getConsumerWorkersOrdering());
+    }
+
+    /**
+     * Dispatches the polled records to the workers
+     */
+    public void dispatch(ConsumerRecords<Object, Object> allRecords) {
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext()) {
+            TopicPartition partition = partitionIterator.next();
+            OffsetWatermark watermark = watermarks.computeIfAbsent(partition, p -> new OffsetWatermark());
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = partitionRecords.iterator();
+            boolean partitionHasNext = partitionIterator.hasNext();
+            while (recordIterator.hasNext()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                boolean recordHasNext = recordIterator.hasNext();
+
+                watermark.dispatched(record.offset());
+                workers[selectWorker(partition, record)]
+                        .execute(() -> processRecord(partition, partitionHasNext, recordHasNext, record, watermark));
+            }
+
+            // allow the next poll to be fetched while the workers process the current, and only pause
+            // if the workers are falling further behind
+            if (watermark.getPendingCount() > maxPollRecords * MAX_PENDING_POLLS && paused.add(partition)) {
+                LOG.debug("Pausing partition {} on consumer {} as {} records are being processed", partition, threadId,
+                        watermark.getPendingCount());
+                consumer.pause(Collections.singleton(partition));
+            }
+        }
+    }
+
+    private int selectWorker(TopicPartition partition, ConsumerRecord<Object, Object> record) {
+        if (orderByKey && record.key() != null) {
+            return Math.floorMod(record.key().hashCode(), workers.length);
+        }
+        return Math.floorMod(partition.hashCode(), workers.length);
+    }
+
+    private void processRecord(
+            TopicPartition partition, boolean partitionHasNext, boolean recordHasNext,
+            ConsumerRecord<Object, Object> record, OffsetWatermark watermark) {
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        try {
+            kafkaRecordProcessor.processExchange(exchange, partition, partitionHasNext, recordHasNext, record,
+                    KafkaRecordProcessor.ProcessResult.newUnprocessed(), camelKafkaConsumer.getExceptionHandler());
+        } catch (Exception e) {
+            camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange, e);
+        } finally {
+            camelKafkaConsumer.releaseExchange(exchange, false);
+            watermark.completed(record.offset());
+        }
+    }
+
+    /**
+     * Commits the offsets of the processed records (if the auto commit interval has elapsed), and resumes the
+     * partitions where the workers have caught up.
+     *
+     * @param force whether to commit synchronously regardless of the auto commit interval
+     */
+    public void commitProcessed(boolean force) {
+        for (Iterator<TopicPartition> it = paused.iterator(); it.hasNext();) {
+            TopicPartition partition = it.next();
+            OffsetWatermark watermark = watermarks.get(partition);
+            if (watermark == null || watermark.getPendingCount() <= maxPollRecords) {
+                LOG.debug("Resuming partition {} on consumer {}", partition, threadId);
+                consumer.resume(Collections.singleton(partition));
+                it.remove();
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        Integer interval = configuration.getAutoCommitIntervalMs();
+        if (!force && interval != null && now - lastCommitTime < interval) {
+            return;
+        }
+        lastCommitTime = now;
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (Map.Entry<TopicPartition, OffsetWatermark> entry : watermarks.entrySet()) {
+            TopicPartition partition = entry.getKey();
+            OffsetWatermark watermark = entry.getValue();
+            long offset = watermark.getWatermark();
+            if (offset > watermark.getCommitted()) {
+                lastProcessedOffset.put(serializeOffsetKey(partition), offset);
+                offsets.put(partition, new OffsetAndMetadata(offset + 1));
+                watermark.setCommitted(offset);
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        if (configuration.getOffsetRepository() != null) {
+            offsets.forEach((partition, offset) -> KafkaRecordProcessor.commitOffset(configuration, consumer, partition,
+                    offset.offset() - 1, false, false, threadId));
+        } else if (isAutoCommitEnabled()) {
+            LOG.debug("Committing offsets {} on consumer {}", offsets, threadId);
+            if (force) {
+                consumer.commitSync(offsets, Duration.ofMillis(configuration.getCommitTimeoutMs()));
+            } else {
+                consumer.commitAsync(offsets, (committed, e) -> {
+                    if (e != null) {
+                        LOG.warn("Error committing offsets {} on consumer {} due {}", committed, threadId, e.getMessage(),
+                                e);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Waits for the records from the revoked partitions to be processed, and commits their offsets before the
+     * partitions are assigned to another consumer.
+     */
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        awaitCompletion(partitions);
+        commitProcessed(true);
+        for (TopicPartition partition : partitions) {
+            watermarks.remove(partition);
+            paused.remove(partition);
+        }
+    }
+
+    /**
+     * Waits for all the records to be processed and commits their offsets.
+     */
+    public void drain() {
+        awaitCompletion(watermarks.keySet());
+        try {
+            commitProcessed(true);
+        } catch (Exception e) {
+            LOG.warn("Error committing offsets on consumer {} due {}", threadId, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Drains and stops the workers.
+     */
+    public void stop() {
+        drain();
+        if (workers != null) {
+            ExecutorServiceManager manager = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager();
+            for (ExecutorService worker : workers) {
+                manager.shutdown(worker);
+            }
+            workers = null;
+        }
+        watermarks.clear();
+        paused.clear();
+    }
+
+    private void awaitCompletion(Collection<TopicPartition> partitions) {
+        long timeout = configuration.getShutdownTimeout();
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            for (TopicPartition partition : partitions) {
+                OffsetWatermark watermark = watermarks.get(partition);
+                if (watermark != null
+                        && !watermark.awaitCompletion(Math.max(0, deadline - System.currentTimeMillis()))) {
+                    LOG.warn("The processing of {} records from partition {} did not finish within {} millis",
+                            watermark.getPendingCount(), partition, timeout);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isAutoCommitEnabled() {
+        return configuration.getAutoCommitEnable() != null && configuration.getAutoCommitEnable();
+    }
+}
@@ -121,6 +121,14 @@ public class KafkaRecordProcessor {
                         headerDeserializer.deserialize(header.key(), header.value())));
     }
 
+    /**
+     * Populates the exchange with the body and headers from the record, without processing the exchange
+     */
+    void setupExchange(Exchange exchange, ConsumerRecord<Object, Object> record) {
+        setupExchangeMessage(exchange.getMessage(), record);
+        propagateHeaders(record, exchange);
+    }
+
     public ProcessResult processExchange(
             Exchange exchange, TopicPartition partition, boolean partitionHasNext,
             boolean recordHasNext, ConsumerRecord<Object, Object> record, ProcessResult lastResult,
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.TreeSet;
+
+import static org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessor.START_OFFSET;
+
+/**
+ * Tracks the offsets of the records from a partition which are being processed, to find the offset up to which all the
+ * records have been processed (the watermark). The watermark is the offset that is safe to commit, even when the
+ * records are not completed in the order they were polled.
+ */
+public class OffsetWatermark {
+
+    private final TreeSet<Long> pending = new TreeSet<>();
+    private long lastDispatched = START_OFFSET;
+    private long committed = START_OFFSET;
+
+    /**
+     * The record with the given offset is about to be processed
+     */
+    public synchronized void dispatched(long offset) {
+        pending.add(offset);
+        lastDispatched = Math.max(lastDispatched, offset);
+    }
+
+    /**
+     * The record with the given offset has been processed
+     */
+    public synchronized void completed(long offset) {
+        pending.remove(offset);
+        if (pending.isEmpty()) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * The number of records which are dispatched but not yet processed
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * The offset of the last record where all the previous records have been processed, or -1 if no records have been
+     * processed.
+     */
+    public synchronized long getWatermark() {
+        return pending.isEmpty() ? lastDispatched : pending.first() - 1;
+    }
+
+    /**
+     * The last committed watermark (only used by the consumer thread)
+     */
+    public long getCommitted() {
+        return committed;
+    }
+
+    public void setCommitted(long committed) {
+        this.committed = committed;
+    }
+
+    /**
+     * Waits until all the dispatched records have been processed
+     *
+     * @param  timeout the maximum time to wait in millis
+     * @return         true if all the records have been processed, false if timeout
+     */
+    public synchronized boolean awaitCompletion(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        while (!pending.isEmpty()) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ExceptionHandler;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class KafkaRecordDispatcherTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("test", 0);
+
+    private final CountDownLatch latch = new CountDownLatch(1);
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private CamelContext context;
+    private KafkaRecordDispatcher dispatcher;
+    private long offset;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        context = new DefaultCamelContext();
+        context.start();
+
+        configuration.setConsumerWorkers(1);
+        configuration.setMaxPollRecords(10);
+
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(endpoint.getCamelContext()).thenReturn(context);
+        KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(camelKafkaConsumer.createExchange(anyBoolean())).thenAnswer(i -> new DefaultExchange(context));
+        when(camelKafkaConsumer.getExceptionHandler()).thenReturn(mock(ExceptionHandler.class));
+
+        // the worker is blocked until the latch is released
+        KafkaRecordProcessor processor = mock(KafkaRecordProcessor.class);
+        when(processor.processExchange(any(), any(), anyBoolean(), anyBoolean(), any(), any(), any())).thenAnswer(i -> {
+            latch.await(10, TimeUnit.SECONDS);
+            return KafkaRecordProcessor.ProcessResult.newUnprocessed();
+        });
+
+        consumer.assign(Collections.singleton(PARTITION));
+        dispatcher = new KafkaRecordDispatcher(camelKafkaConsumer, processor, consumer, "test", new HashMap<>());
+        dispatcher.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        latch.countDown();
+        dispatcher.stop();
+        context.stop();
+    }
+
+    @Test
+    public void testPauseWhenWorkersFallBehind() throws Exception {
+        // a full poll is not enough to pause the partition
+        dispatcher.dispatch(poll(10));
+        assertTrue(consumer.paused().isEmpty());
+        dispatcher.dispatch(poll(10));
+        assertTrue(consumer.paused().isEmpty());
+
+        // but more than two polls behind is
+        dispatcher.dispatch(poll(1));
+        assertEquals(Collections.singleton(PARTITION), consumer.paused());
+
+        // and the partition is resumed when the workers have caught up
+        latch.countDown();
+        dispatcher.drain();
+        assertTrue(consumer.paused().isEmpty());
+        assertEquals(21, consumer.committed(Collections.singleton(PARTITION)).get(PARTITION).offset());
+    }
+
+    private ConsumerRecords<Object, Object> poll(int count) {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            records.add(new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset++, "key", "value"));
+        }
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> map = Collections.singletonMap(PARTITION, records);
+        return new ConsumerRecords<>(map);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OffsetWatermarkTest {
+
+    @Test
+    public void testWatermarkInOrder() {
+        OffsetWatermark watermark = new OffsetWatermark();
+        assertEquals(KafkaRecordProcessor.START_OFFSET, watermark.getWatermark());
+
+        watermark.dispatched(10);
+        watermark.dispatched(11);
+        assertEquals(9, watermark.getWatermark());
+
+        watermark.completed(10);
+        assertEquals(10, watermark.getWatermark());
+        watermark.completed(11);
+        assertEquals(11, watermark.getWatermark());
+        assertEquals(0, watermark.getPendingCount());
+    }
+
+    @Test
+    public void testWatermarkOutOfOrder() {
+        OffsetWatermark watermark = new OffsetWatermark();
+        watermark.dispatched(10);
+        watermark.dispatched(11);
+        watermark.dispatched(12);
+
+        // the later records are done, but the first is still being processed
+        watermark.completed(12);
+        watermark.completed(11);
+        assertEquals(9, watermark.getWatermark());
+        assertEquals(1, watermark.getPendingCount());
+
+        watermark.completed(10);
+        assertEquals(12, watermark.getWatermark());
+    }
+
+    @Test
+    public void testAwaitCompletion() throws Exception {
+        OffsetWatermark watermark = new OffsetWatermark();
+        watermark.dispatched(1);
+        assertFalse(watermark.awaitCompletion(10));
+
+        CompletableFuture.runAsync(() -> watermark.completed(1), CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+        assertTrue(watermark.awaitCompletion(5000));
+        assertEquals(1, watermark.getWatermark());
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.Exchange;
+import org.apache.camel.Message;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class KafkaConsumerBatchingIT extends BaseEmbeddedKafkaTestSupport {
+
+    public static final String TOPIC = "test-batching";
+
+    @EndpointInject("kafka:" + TOPIC
+                    + "?groupId=group-batching&autoOffsetReset=earliest&batching=true&batchingMaxRecords=10"
+                    + "&batchingIntervalMs=1000")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("batching")
+                        .process(exchange -> {
+                            List<?> records = exchange.getMessage().getBody(List.class);
+                            batchSizes.add(records.size());
+                        })
+                        .split(body())
+                        .process(exchange -> {
+                            // each part is the exchange of a record
+                            Message record = exchange.getMessage().getBody(Exchange.class).getMessage();
+                            exchange.getMessage().setHeaders(record.getHeaders());
+                            exchange.getMessage().setBody(record.getBody());
+                        })
+                        .to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaRecordsAreConsumedInBatches() throws Exception {
+        to.expectedMessageCount(25);
+
+        for (int k = 0; k < 25; k++) {
+            producer.send(new ProducerRecord<>(TOPIC, "key", "m" + k));
+        }
+
+        to.assertIsSatisfied();
+
+        List<String> bodies = new ArrayList<>();
+        for (Exchange exchange : to.getExchanges()) {
+            bodies.add(exchange.getMessage().getBody(String.class));
+            assertEquals(TOPIC, exchange.getMessage().getHeader(KafkaConstants.TOPIC));
+            assertEquals("key", exchange.getMessage().getHeader(KafkaConstants.KEY));
+        }
+        for (int k = 0; k < 25; k++) {
+            assertEquals("m" + k, bodies.get(k));
+        }
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 10), "Batches larger than 10 records: " + batchSizes);
+
+        // the processed batches are committed, so a restarted consumer does not receive them again
+        to.reset();
+        to.expectedBodiesReceived("m25");
+        context.getRouteController().stopRoute("batching");
+        context.getRouteController().startRoute("batching");
+        producer.send(new ProducerRecord<>(TOPIC, "key", "m25"));
+
+        to.assertIsSatisfied();
+    }
+}
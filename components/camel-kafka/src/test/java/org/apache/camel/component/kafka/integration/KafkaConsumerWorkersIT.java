@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.integration;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.Endpoint;
+import org.apache.camel.EndpointInject;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class KafkaConsumerWorkersIT extends BaseEmbeddedKafkaTestSupport {
+
+    public static final String TOPIC = "test-workers";
+
+    @EndpointInject("kafka:" + TOPIC
+                    + "?groupId=group-workers&autoOffsetReset=earliest&consumerWorkers=4&consumerWorkersOrdering=key"
+                    + "&autoCommitIntervalMs=100")
+    private Endpoint from;
+
+    @EndpointInject("mock:result")
+    private MockEndpoint to;
+
+    private final Map<String, List<String>> bodiesByKey = new ConcurrentHashMap<>();
+
+    private org.apache.kafka.clients.producer.KafkaProducer<String, String> producer;
+
+    @BeforeEach
+    public void before() {
+        Properties props = getDefaultProperties();
+        producer = new org.apache.kafka.clients.producer.KafkaProducer<>(props);
+    }
+
+    @AfterEach
+    public void after() {
+        if (producer != null) {
+            producer.close();
+        }
+        // clean all test topics
+        kafkaAdminClient.deleteTopics(Collections.singletonList(TOPIC));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(from).routeId("workers")
+                        .process(exchange -> {
+                            String key = exchange.getMessage().getHeader(KafkaConstants.KEY, String.class);
+                            bodiesByKey.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>())
+                                    .add(exchange.getMessage().getBody(String.class));
+                        })
+                        .to(to);
+            }
+        };
+    }
+
+    @Test
+    public void kafkaMessagesAreProcessedInOrderPerKey() throws Exception {
+        to.expectedMessageCount(100);
+
+        for (int k = 0; k < 100; k++) {
+            producer.send(new ProducerRecord<>(TOPIC, "key" + (k % 5), "m" + k));
+        }
+
+        to.assertIsSatisfied();
+
+        for (int key = 0; key < 5; key++) {
+            List<String> bodies = bodiesByKey.get("key" + key);
+            assertEquals(20, bodies.size());
+            for (int i = 0; i < bodies.size(); i++) {
+                assertEquals("m" + (i * 5 + key), bodies.get(i));
+            }
+        }
+
+        // the processed records are committed, so a restarted consumer does not receive them again
+        to.reset();
+        to.expectedBodiesReceived("m100");
+        context.getRouteController().stopRoute("workers");
+        context.getRouteController().startRoute("workers");
+        producer.send(new ProducerRecord<>(TOPIC, "key0", "m100"));
+
+        to.assertIsSatisfied();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.leveldb.serializer;
+
+import java.io.IOException;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+
+/**
+ * A serializer which stores the exchanges using the compact {@link BinaryExchangeHolderCodec} instead of Java
+ * serialization.
+ * <p/>
+ * The keys are serialized the same way as {@link DefaultLevelDBSerializer}, and exchanges that was stored using Java
+ * serialization (such as before switching to this serializer) can still be read, so an existing repository can be
+ * migrated to this serializer.
+ */
+public class BinaryLevelDBSerializer extends DefaultLevelDBSerializer {
+
+    private final BinaryExchangeHolderCodec codec;
+
+    public BinaryLevelDBSerializer() {
+        this(false);
+    }
+
+    /**
+     * @param compress whether to compress the stored exchanges (using deflate)
+     */
+    public BinaryLevelDBSerializer(boolean compress) {
+        this.codec = new BinaryExchangeHolderCodec(compress);
+    }
+
+    @Override
+    public byte[] serializeExchange(CamelContext camelContext, Exchange exchange, boolean allowSerializedHeaders)
+            throws IOException {
+        return serializeExchange(camelContext, exchange, allowSerializedHeaders, codec::encode);
+    }
+
+    @Override
+    public Exchange deserializeExchange(CamelContext camelContext, byte[] buffer) throws IOException {
+        if (BinaryExchangeHolderCodec.isBinaryFormat(buffer)) {
+            return deserializeExchange(camelContext, buffer, b -> codec.decode(camelContext, b));
+        }
+        // fallback to java serialization
+        return super.deserializeExchange(camelContext, buffer);
+    }
+}
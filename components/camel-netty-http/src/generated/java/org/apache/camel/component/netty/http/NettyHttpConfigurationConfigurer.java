@@ -109,6 +109,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "OkStatusCodeRange": target.setOkStatusCodeRange(property(camelContext, java.lang.String.class, value)); return true;
         case "options":
         case "Options": target.setOptions(property(camelContext, java.util.Map.class, value)); return true;
+        case "passthroughbytebuf":
+        case "PassThroughByteBuf": target.setPassThroughByteBuf(property(camelContext, boolean.class, value)); return true;
         case "passphrase":
         case "Passphrase": target.setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "path":
@@ -292,6 +294,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "OkStatusCodeRange": return java.lang.String.class;
         case "options":
         case "Options": return java.util.Map.class;
+        case "passthroughbytebuf":
+        case "PassThroughByteBuf": return boolean.class;
         case "passphrase":
         case "Passphrase": return java.lang.String.class;
         case "path":
@@ -476,6 +480,8 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "OkStatusCodeRange": return target.getOkStatusCodeRange();
         case "options":
         case "Options": return target.getOptions();
+        case "passthroughbytebuf":
+        case "PassThroughByteBuf": return target.isPassThroughByteBuf();
         case "passphrase":
         case "Passphrase": return target.getPassphrase();
         case "path":
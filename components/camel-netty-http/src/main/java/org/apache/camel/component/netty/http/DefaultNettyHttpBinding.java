@@ -17,6 +17,7 @@
 package org.apache.camel.component.netty.http;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
@@ -50,6 +51,7 @@ import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Message;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.TypeConverter;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.component.netty.NettyConstants;
 import org.apache.camel.component.netty.NettyConverter;
 import org.apache.camel.spi.HeaderFilterStrategy;
@@ -447,6 +449,13 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             response.headers().set(TRANSFER_ENCODING, CHUNKED);
         }
 
+        // the content of a compressed response must pass through the compressor so it cannot be transferred from the file
+        File file = configuration.isCompression() ? null : getFileBody(body);
+        if (response == null && file != null) {
+            response = new OutboundFileHttpResponse(
+                    file, new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.valueOf(code)));
+        }
+
         if (response == null) {
             if (body instanceof ByteBuf) {
                 buffer = (ByteBuf) body;
@@ -560,6 +569,23 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
         return codeToUse;
     }
 
+    /**
+     * Gets the file of the body if the body is a file (such as from the file component), which is then transferred to
+     * the channel directly from the file system instead of being read into memory.
+     *
+     * @param  body the message body
+     * @return      the file, or <tt>null</tt> if the body is not a file
+     */
+    protected File getFileBody(Object body) {
+        if (body instanceof WrappedFile) {
+            body = ((WrappedFile<?>) body).getFile();
+        }
+        if (body instanceof File && ((File) body).isFile()) {
+            return (File) body;
+        }
+        return null;
+    }
+
     @Override
     public HttpRequest toNettyRequest(Message message, String fullUri, NettyHttpConfiguration configuration) throws Exception {
         LOG.trace("toNettyRequest: {}", message);
@@ -622,6 +648,11 @@ public class DefaultNettyHttpBinding implements NettyHttpBinding, Cloneable {
             request.headers().set(TRANSFER_ENCODING, CHUNKED);
         }
 
+        File file = request == null ? getFileBody(body) : null;
+        if (file != null) {
+            request = new OutboundFileHttpRequest(file, new DefaultHttpRequest(protocol, httpMethod, uriForRequest));
+        }
+
         if (request == null) {
             request = new DefaultFullHttpRequest(protocol, httpMethod, uriForRequest);
 
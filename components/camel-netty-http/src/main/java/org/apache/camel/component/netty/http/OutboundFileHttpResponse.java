@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.http;
+
+import java.io.File;
+
+import io.netty.handler.codec.http.DefaultHttpResponse;
+
+/**
+ * A HTTP response which content is a file, which is transferred to the channel directly from the file system by the
+ * {@link org.apache.camel.component.netty.http.handlers.HttpOutboundStreamHandler}.
+ */
+public class OutboundFileHttpResponse extends DefaultHttpResponse {
+    private final File file;
+
+    public OutboundFileHttpResponse(File file, DefaultHttpResponse response) {
+        super(response.protocolVersion(), response.status());
+        this.file = file;
+    }
+
+    public DefaultHttpResponse getResponse() {
+        return new DefaultHttpResponse(this.protocolVersion(), this.status(), this.headers());
+    }
+
+    public File getFile() {
+        return file;
+    }
+}
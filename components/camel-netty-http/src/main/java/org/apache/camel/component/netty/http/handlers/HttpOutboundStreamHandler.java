@@ -16,10 +16,22 @@
  */
 package org.apache.camel.component.netty.http.handlers;
 
+import java.io.File;
+import java.io.RandomAccessFile;
+
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.DefaultChannelPromise;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpMessage;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedFile;
 import io.netty.handler.stream.ChunkedWriteHandler;
+import org.apache.camel.component.netty.http.OutboundFileHttpRequest;
+import org.apache.camel.component.netty.http.OutboundFileHttpResponse;
 import org.apache.camel.component.netty.http.OutboundStreamHttpRequest;
 import org.apache.camel.component.netty.http.OutboundStreamHttpResponse;
 
@@ -34,6 +46,14 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
         } else if (msg instanceof OutboundStreamHttpResponse) {
             super.write(ctx, ((OutboundStreamHttpResponse) msg).getResponse(), promise);
             needNewPromise = true;
+        } else if (msg instanceof OutboundFileHttpRequest) {
+            OutboundFileHttpRequest request = (OutboundFileHttpRequest) msg;
+            writeFile(ctx, request.getRequest(), request.getFile(), promise);
+            return;
+        } else if (msg instanceof OutboundFileHttpResponse) {
+            OutboundFileHttpResponse response = (OutboundFileHttpResponse) msg;
+            writeFile(ctx, response.getResponse(), response.getFile(), promise);
+            return;
         }
 
         if (needNewPromise) {
@@ -42,4 +62,21 @@ public class HttpOutboundStreamHandler extends ChunkedWriteHandler {
 
         super.write(ctx, msg, promise);
     }
+
+    private void writeFile(ChannelHandlerContext ctx, HttpMessage message, File file, ChannelPromise promise)
+            throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        long length = raf.length();
+        HttpUtil.setContentLength(message, length);
+        super.write(ctx, message, new DefaultChannelPromise(ctx.channel()));
+
+        if (ctx.pipeline().get(SslHandler.class) == null) {
+            // transfer the file to the socket directly from the file system (zero copy)
+            super.write(ctx, new DefaultFileRegion(raf.getChannel(), 0, length), new DefaultChannelPromise(ctx.channel()));
+            super.write(ctx, LastHttpContent.EMPTY_LAST_CONTENT, promise);
+        } else {
+            // the content must be encrypted so write the file in chunks
+            super.write(ctx, new HttpChunkedInput(new ChunkedFile(raf)), promise);
+        }
+    }
 }
@@ -95,6 +95,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noreplyloglevel":
         case "noReplyLogLevel": getOrCreateConfiguration(target).setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options": getOrCreateConfiguration(target).setOptions(property(camelContext, java.util.Map.class, value)); return true;
+        case "passthroughbytebuf":
+        case "passThroughByteBuf": getOrCreateConfiguration(target).setPassThroughByteBuf(property(camelContext, boolean.class, value)); return true;
         case "passphrase": getOrCreateConfiguration(target).setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": getOrCreateConfiguration(target).setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
@@ -234,6 +236,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noreplyloglevel":
         case "noReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options": return java.util.Map.class;
+        case "passthroughbytebuf":
+        case "passThroughByteBuf": return boolean.class;
         case "passphrase": return java.lang.String.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
@@ -374,6 +378,8 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "noreplyloglevel":
         case "noReplyLogLevel": return getOrCreateConfiguration(target).getNoReplyLogLevel();
         case "options": return getOrCreateConfiguration(target).getOptions();
+        case "passthroughbytebuf":
+        case "passThroughByteBuf": return getOrCreateConfiguration(target).isPassThroughByteBuf();
         case "passphrase": return getOrCreateConfiguration(target).getPassphrase();
         case "producerpoolenabled":
         case "producerPoolEnabled": return getOrCreateConfiguration(target).isProducerPoolEnabled();
@@ -89,6 +89,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "NoReplyLogLevel": target.setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options":
         case "Options": target.setOptions(property(camelContext, java.util.Map.class, value)); return true;
+        case "passthroughbytebuf":
+        case "PassThroughByteBuf": target.setPassThroughByteBuf(property(camelContext, boolean.class, value)); return true;
         case "passphrase":
         case "Passphrase": target.setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "port":
@@ -238,6 +240,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "NoReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options":
         case "Options": return java.util.Map.class;
+        case "passthroughbytebuf":
+        case "PassThroughByteBuf": return boolean.class;
         case "passphrase":
         case "Passphrase": return java.lang.String.class;
         case "port":
@@ -388,6 +392,8 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "NoReplyLogLevel": return target.getNoReplyLogLevel();
         case "options":
         case "Options": return target.getOptions();
+        case "passthroughbytebuf":
+        case "PassThroughByteBuf": return target.isPassThroughByteBuf();
         case "passphrase":
         case "Passphrase": return target.getPassphrase();
         case "port":
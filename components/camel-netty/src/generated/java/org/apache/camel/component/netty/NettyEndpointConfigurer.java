@@ -85,6 +85,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noreplyloglevel":
         case "noReplyLogLevel": target.getConfiguration().setNoReplyLogLevel(property(camelContext, org.apache.camel.LoggingLevel.class, value)); return true;
         case "options": target.getConfiguration().setOptions(property(camelContext, java.util.Map.class, value)); return true;
+        case "passthroughbytebuf":
+        case "passThroughByteBuf": target.getConfiguration().setPassThroughByteBuf(property(camelContext, boolean.class, value)); return true;
         case "passphrase": target.getConfiguration().setPassphrase(property(camelContext, java.lang.String.class, value)); return true;
         case "producerpoolenabled":
         case "producerPoolEnabled": target.getConfiguration().setProducerPoolEnabled(property(camelContext, boolean.class, value)); return true;
@@ -220,6 +222,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noreplyloglevel":
         case "noReplyLogLevel": return org.apache.camel.LoggingLevel.class;
         case "options": return java.util.Map.class;
+        case "passthroughbytebuf":
+        case "passThroughByteBuf": return boolean.class;
         case "passphrase": return java.lang.String.class;
         case "producerpoolenabled":
         case "producerPoolEnabled": return boolean.class;
@@ -356,6 +360,8 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "noreplyloglevel":
         case "noReplyLogLevel": return target.getConfiguration().getNoReplyLogLevel();
         case "options": return target.getConfiguration().getOptions();
+        case "passthroughbytebuf":
+        case "passThroughByteBuf": return target.getConfiguration().isPassThroughByteBuf();
         case "passphrase": return target.getConfiguration().getPassphrase();
         case "producerpoolenabled":
         case "producerPoolEnabled": return target.getConfiguration().isProducerPoolEnabled();
@@ -20,7 +20,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(74);
+        Set<String> props = new HashSet<>(75);
         props.add("usingExecutorService");
         props.add("disconnect");
         props.add("enabledProtocols");
@@ -61,6 +61,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("nettyServerBootstrapFactory");
         props.add("decoderMaxLineLength");
         props.add("exceptionHandler");
+        props.add("passThroughByteBuf");
         props.add("broadcast");
         props.add("trustStoreResource");
         props.add("bossCount");
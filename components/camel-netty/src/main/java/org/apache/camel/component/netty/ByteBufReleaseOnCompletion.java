@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.util.ReferenceCountUtil;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.SynchronizationAdapter;
+
+/**
+ * Releases the pooled {@link ByteBuf} bodies which are passed through an exchange, when the exchange is done.
+ *
+ * @see NettyConfiguration#isPassThroughByteBuf()
+ */
+final class ByteBufReleaseOnCompletion extends SynchronizationAdapter {
+
+    private final List<ByteBuf> buffers = new ArrayList<>(2);
+
+    synchronized void add(ByteBuf buffer) {
+        buffers.add(buffer);
+    }
+
+    synchronized boolean contains(ByteBuf buffer) {
+        for (ByteBuf b : buffers) {
+            if (b == buffer) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void onDone(Exchange exchange) {
+        for (ByteBuf buffer : buffers) {
+            ReferenceCountUtil.safeRelease(buffer);
+        }
+        buffers.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "ByteBufReleaseOnCompletion";
+    }
+}
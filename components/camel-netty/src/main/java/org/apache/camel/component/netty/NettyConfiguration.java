@@ -111,6 +111,8 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     private boolean useByteBuf;
     @UriParam(label = "advanced")
     private boolean udpByteArrayCodec;
+    @UriParam(label = "codec")
+    private boolean passThroughByteBuf;
     @UriParam(label = "common")
     private boolean reuseChannel;
     @UriParam(label = "producer,advanced")
@@ -255,6 +257,9 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
                 } else if ("udp".equalsIgnoreCase(protocol) && isUdpByteArrayCodec()) {
                     encoders.add(ChannelHandlerFactories.newByteArrayEncoder(protocol));
                     decoders.add(ChannelHandlerFactories.newByteArrayDecoder(protocol));
+                } else if (!"udp".equalsIgnoreCase(protocol) && isPassThroughByteBuf()) {
+                    // netty reads and writes ByteBuf natively so there is no need for encoders and decoders
+                    LOG.debug("Using no encoders and decoders as the ByteBuf bodies are passed through");
                 } else {
                     // Fall back to allowing Strings to be serialized only
                     Charset charset = getEncoding() != null ? Charset.forName(getEncoding()) : CharsetUtil.UTF_8;
@@ -675,6 +680,21 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.useByteBuf = useByteBuf;
     }
 
+    public boolean isPassThroughByteBuf() {
+        return passThroughByteBuf;
+    }
+
+    /**
+     * For TCP, whether to use the pooled Netty ByteBuf which is read from the channel as the message body, without
+     * copying it to a byte array or String, and to write ByteBuf bodies without copying them either. The buffer is
+     * released when the exchange is done, so the body must not be used after the exchange is done (for example by an
+     * asynchronous wire tap or seda endpoint), unless it is first converted to another type. This avoids heap copies in
+     * proxy style routes. No default encoders and decoders are used, unless textline is enabled.
+     */
+    public void setPassThroughByteBuf(boolean passThroughByteBuf) {
+        this.passThroughByteBuf = passThroughByteBuf;
+    }
+
     public boolean isUdpByteArrayCodec() {
         return udpByteArrayCodec;
     }
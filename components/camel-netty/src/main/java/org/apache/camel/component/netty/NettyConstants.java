@@ -35,6 +35,7 @@ public final class NettyConstants {
     public static final String NETTY_REQUEST_TIMEOUT = "CamelNettyRequestTimeout";
     public static final String NETTY_CHANNEL = "CamelNettyChannel";
     public static final String NETTY_CLIENT_CONTINUE = "CamelClientContinue";
+    public static final String NETTY_BYTEBUF_RELEASE = "CamelNettyByteBufRelease";
 
     private NettyConstants() {
         // Utility class
@@ -21,6 +21,8 @@ import java.io.InputStream;
 import java.io.ObjectInput;
 import java.io.ObjectInputStream;
 import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.sax.SAXSource;
@@ -30,10 +32,11 @@ import javax.xml.transform.stream.StreamSource;
 import org.w3c.dom.Document;
 
 import io.netty.buffer.ByteBuf;
-import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.support.ExchangeHelper;
 
 /**
  * A set of converter methods for working with Netty types
@@ -47,7 +50,10 @@ public final class NettyConverter {
 
     @Converter
     public static byte[] toByteArray(ByteBuf buffer, Exchange exchange) {
-        if (buffer.hasArray()) {
+        // only use the backing array as-is when it holds exactly the readable bytes, as pooled
+        // buffers are slices of a larger array
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.readerIndex() == 0
+                && buffer.readableBytes() == buffer.array().length) {
             return buffer.array();
         }
         byte[] bytes = new byte[buffer.readableBytes()];
@@ -63,12 +69,10 @@ public final class NettyConverter {
 
     @Converter
     public static String toString(ByteBuf buffer, Exchange exchange) throws UnsupportedEncodingException {
-        byte[] bytes = toByteArray(buffer, exchange);
-        // use type converter as it can handle encoding set on the Exchange
-        if (exchange != null) {
-            return exchange.getContext().getTypeConverter().convertTo(String.class, exchange, bytes);
-        }
-        return new String(bytes, "UTF-8");
+        // decode directly from the buffer to avoid copying it to a byte array first
+        Charset charset = exchange != null
+                ? Charset.forName(ExchangeHelper.getCharsetName(exchange)) : StandardCharsets.UTF_8;
+        return buffer.toString(charset);
     }
 
     @Converter
@@ -84,9 +88,8 @@ public final class NettyConverter {
 
     @Converter
     public static ByteBuf toByteBuffer(byte[] bytes) {
-        ByteBuf buf = ByteBufAllocator.DEFAULT.buffer(bytes.length);
-        buf.writeBytes(bytes);
-        return buf;
+        // wrap the bytes instead of copying them into a new buffer
+        return Unpooled.wrappedBuffer(bytes);
     }
 
     @Converter
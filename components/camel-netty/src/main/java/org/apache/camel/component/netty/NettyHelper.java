@@ -20,6 +20,7 @@ import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.concurrent.ThreadFactory;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -28,6 +29,7 @@ import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
 import org.apache.camel.NoTypeConversionAvailableException;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.slf4j.Logger;
@@ -92,6 +94,12 @@ public final class NettyHelper {
     public static void writeBodyAsync(
             Logger log, Channel channel, SocketAddress remoteAddress, Object body,
             Exchange exchange, ChannelFutureListener listener) {
+        if (body instanceof ByteBuf && isReleasedOnCompletion(exchange, (ByteBuf) body)) {
+            // netty releases the buffer when it has been written, but the exchange still owns the buffer
+            // so write a retained duplicate which shares the memory of the buffer
+            body = ((ByteBuf) body).retainedDuplicate();
+        }
+
         ChannelFuture future;
         if (remoteAddress != null) {
             if (log.isDebugEnabled()) {
@@ -114,6 +122,30 @@ public final class NettyHelper {
         }
     }
 
+    /**
+     * Retains the given pooled buffer until the exchange is done, so the buffer can be used as message body without
+     * copying its content. The buffer is released when the exchange is done.
+     *
+     * @param exchange the exchange
+     * @param buffer   the buffer which netty releases once it has been read
+     */
+    public static void retainUntilDone(Exchange exchange, ByteBuf buffer) {
+        ByteBufReleaseOnCompletion release
+                = exchange.getProperty(NettyConstants.NETTY_BYTEBUF_RELEASE, ByteBufReleaseOnCompletion.class);
+        if (release == null) {
+            release = new ByteBufReleaseOnCompletion();
+            exchange.setProperty(NettyConstants.NETTY_BYTEBUF_RELEASE, release);
+            exchange.adapt(ExtendedExchange.class).addOnCompletion(release);
+        }
+        release.add(buffer.retain());
+    }
+
+    private static boolean isReleasedOnCompletion(Exchange exchange, ByteBuf buffer) {
+        ByteBufReleaseOnCompletion release
+                = exchange.getProperty(NettyConstants.NETTY_BYTEBUF_RELEASE, ByteBufReleaseOnCompletion.class);
+        return release != null && release.contains(buffer);
+    }
+
     /**
      * Closes the given channel asynchronously
      *
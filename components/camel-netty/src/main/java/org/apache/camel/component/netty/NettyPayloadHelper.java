@@ -41,7 +41,7 @@ public final class NettyPayloadHelper {
             // we should transfer the entire exchange over the wire (includes in/out)
             return DefaultExchangeHolder.marshal(exchange, true, endpoint.getConfiguration().isAllowSerializedHeaders());
         } else {
-            if (endpoint.getConfiguration().isUseByteBuf()) {
+            if (endpoint.getConfiguration().isUseByteBuf() || endpoint.getConfiguration().isPassThroughByteBuf()) {
                 // Just leverage the type converter
                 return exchange.getIn().getBody(ByteBuf.class);
             } else {
@@ -55,6 +55,9 @@ public final class NettyPayloadHelper {
         if (endpoint.getConfiguration().isTransferExchange()) {
             // we should transfer the entire exchange over the wire (includes in/out)
             return DefaultExchangeHolder.marshal(exchange);
+        } else if (endpoint.getConfiguration().isPassThroughByteBuf()) {
+            // there is no encoder so the body must be a ByteBuf
+            return exchange.getOut().getBody(ByteBuf.class);
         } else {
             // normal transfer using the body only
             return exchange.getOut().getBody();
@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.netty.handlers;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -179,6 +180,12 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             return;
         }
 
+        if (msg instanceof ByteBuf && producer.getConfiguration().isPassThroughByteBuf()) {
+            // netty releases the message when this method returns, so keep the pooled buffer
+            // until the exchange is done, instead of copying it
+            NettyHelper.retainUntilDone(exchange, (ByteBuf) msg);
+        }
+
         Boolean continueWaitForAnswer = exchange.getProperty(NettyConstants.NETTY_CLIENT_CONTINUE, Boolean.class);
         if (continueWaitForAnswer != null && continueWaitForAnswer) {
             exchange.removeProperty(NettyConstants.NETTY_CLIENT_CONTINUE);
@@ -18,6 +18,7 @@ package org.apache.camel.component.netty.handlers;
 
 import java.net.SocketAddress;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -103,6 +104,12 @@ public class ServerChannelHandler extends SimpleChannelInboundHandler<Object> {
         // we want to handle the UoW
         consumer.createUoW(exchange);
 
+        if (msg instanceof ByteBuf && consumer.getConfiguration().isPassThroughByteBuf()) {
+            // netty releases the message when this method returns, so keep the pooled buffer
+            // until the exchange is done, instead of copying it
+            NettyHelper.retainUntilDone(exchange, (ByteBuf) msg);
+        }
+
         beforeProcess(exchange, ctx, msg);
 
         // process accordingly to endpoint configuration
@@ -66,4 +66,12 @@ public class NettyConverterTest extends CamelTestSupport {
         assertEquals(PAYLOAD, result);
     }
 
+    @Test
+    public void testByteArrayConversion() {
+        // the pooled buffer is a slice of a larger array so the readable bytes must be copied
+        byte[] result = context.getTypeConverter().convertTo(byte[].class, new DefaultExchange(context), buf);
+        assertNotNull(result);
+        assertEquals(PAYLOAD, new String(result));
+    }
+
 }
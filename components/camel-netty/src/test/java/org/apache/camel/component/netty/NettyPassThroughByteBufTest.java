@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.camel.builder.NotifyBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.test.AvailablePortFinder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyPassThroughByteBufTest extends BaseNettyTest {
+
+    @RegisterExtension
+    protected AvailablePortFinder.Port port2 = AvailablePortFinder.find();
+
+    private final List<ByteBuf> buffers = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testPassThroughByteBuf() throws Exception {
+        getMockEndpoint("mock:before").expectedMessageCount(1);
+        getMockEndpoint("mock:before").message(0).body().isInstanceOf(ByteBuf.class);
+        getMockEndpoint("mock:proxy").expectedBodiesReceived("Camel");
+        getMockEndpoint("mock:after").expectedMessageCount(1);
+        getMockEndpoint("mock:after").message(0).body().isInstanceOf(ByteBuf.class);
+
+        Object body = template.requestBody("netty:tcp://localhost:" + port.getPort() + "?sync=true&textline=true", "Camel\n");
+        assertEquals("Bye Camel", body);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testByteBufReleasedWhenDone() throws Exception {
+        NotifyBuilder notify = new NotifyBuilder(context).fromRoute("passThrough").whenDone(1).create();
+
+        Object body = template.requestBody("netty:tcp://localhost:" + port.getPort() + "?sync=true&textline=true", "Camel\n");
+        assertEquals("Bye Camel", body);
+        assertTrue(notify.matches(5, TimeUnit.SECONDS));
+
+        // the pooled buffers of the request and the reply are released when the exchange is done
+        assertEquals(2, buffers.size());
+        for (ByteBuf buffer : buffers) {
+            assertEquals(0, buffer.refCnt());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                fromF("netty:tcp://localhost:%s?sync=true&passThroughByteBuf=true", port.getPort()).routeId("passThrough")
+                        .to("mock:before")
+                        .process(e -> buffers.add(e.getMessage().getBody(ByteBuf.class)))
+                        .toF("netty:tcp://localhost:%s?sync=true&passThroughByteBuf=true", port2.getPort())
+                        .to("mock:after")
+                        .process(e -> buffers.add(e.getMessage().getBody(ByteBuf.class)));
+
+                fromF("netty:tcp://localhost:%s?sync=true&textline=true", port2.getPort())
+                        .to("mock:proxy")
+                        .transform().simple("Bye ${body}\n");
+            }
+        };
+    }
+}
@@ -0,0 +1,390 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A bounded multi-producer single-consumer {@link BlockingQueue} where the producers never take a lock.
+ * <p/>
+ * Producers append to the tail of a linked list using a single atomic swap, which means a producer never waits for
+ * another producer or for the consumer (unless the queue is full and the producer is blocking). Adding a collection of
+ * elements using {@link #addAll(Collection)} links all the elements in one atomic operation.
+ * <p/>
+ * The consumer side is guarded by a lock which is uncontended when there is a single consumer thread. Using multiple
+ * concurrent consumers is supported, but they will then take turns removing elements from the queue.
+ * <p/>
+ * A producer blocking on a full queue backs off by parking a short while before trying again, as the consumer does not
+ * signal producers.
+ */
+public class MpscBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    private static final long PRODUCER_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final AtomicInteger count = new AtomicInteger();
+    private final AtomicReference<Node<E>> last;
+    private final ReentrantLock takeLock = new ReentrantLock();
+    // the consumer waiting for an element (at most one as the consumers hold the take lock while waiting)
+    private volatile Thread waiter;
+    // the stub node which the consumer removes elements after (guarded by take lock)
+    private Node<E> first;
+
+    public MpscBlockingQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    public MpscBlockingQueue(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        this.capacity = capacity;
+        this.first = new Node<>(null);
+        this.last = new AtomicReference<>(first);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        checkNotNull(e);
+        if (!reserve(1)) {
+            return false;
+        }
+        Node<E> node = new Node<>(e);
+        link(node, node);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        checkNotNull(e);
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (!reserve(1)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            LockSupport.parkNanos(this, Math.min(remaining, PRODUCER_BACKOFF_NANOS));
+        }
+        Node<E> node = new Node<>(e);
+        link(node, node);
+        return true;
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        checkNotNull(e);
+        while (!reserve(1)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(this, PRODUCER_BACKOFF_NANOS);
+        }
+        Node<E> node = new Node<>(e);
+        link(node, node);
+    }
+
+    /**
+     * Adds all the elements in one atomic operation, so the elements are kept together in the queue.
+     *
+     * @throws IllegalStateException if there is not room in the queue for all the elements, in which case none of the
+     *                               elements has been added
+     */
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot add queue to itself");
+        }
+        Node<E> head = null;
+        Node<E> tail = null;
+        int size = 0;
+        for (E e : c) {
+            checkNotNull(e);
+            Node<E> node = new Node<>(e);
+            if (head == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+        if (size == 0) {
+            return false;
+        }
+        if (!reserve(size)) {
+            throw new IllegalStateException("Queue full");
+        }
+        link(head, tail);
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        final ReentrantLock lock = this.takeLock;
+        lock.lock();
+        try {
+            return dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        long deadline = System.nanoTime() + nanos;
+        final ReentrantLock lock = this.takeLock;
+        if (!lock.tryLock(nanos, TimeUnit.NANOSECONDS)) {
+            return null;
+        }
+        try {
+            while (true) {
+                E e = dequeue();
+                if (e != null) {
+                    return e;
+                }
+                nanos = deadline - System.nanoTime();
+                if (nanos <= 0) {
+                    return null;
+                }
+                awaitElement(nanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        final ReentrantLock lock = this.takeLock;
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                E e = dequeue();
+                if (e != null) {
+                    return e;
+                }
+                awaitElement(0);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public E peek() {
+        final ReentrantLock lock = this.takeLock;
+        lock.lock();
+        try {
+            for (Node<E> node = first.next; node != null; node = node.next) {
+                E e = node.item;
+                if (e != null) {
+                    return e;
+                }
+            }
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        final ReentrantLock lock = this.takeLock;
+        lock.lock();
+        try {
+            for (Node<E> node = first.next; node != null; node = node.next) {
+                if (o.equals(node.item)) {
+                    // leave the node in the list, the consumer skips removed nodes
+                    node.item = null;
+                    count.decrementAndGet();
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain queue to itself");
+        }
+        final ReentrantLock lock = this.takeLock;
+        lock.lock();
+        try {
+            int n = 0;
+            while (n < maxElements) {
+                E e = dequeue();
+                if (e == null) {
+                    break;
+                }
+                c.add(e);
+                n++;
+            }
+            return n;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    /**
+     * Returns a weakly consistent iterator, which does not support removing elements.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private Node<E> node = first;
+            private E nextItem = advance();
+
+            @Override
+            public boolean hasNext() {
+                return nextItem != null;
+            }
+
+            @Override
+            public E next() {
+                E answer = nextItem;
+                if (answer == null) {
+                    throw new NoSuchElementException();
+                }
+                nextItem = advance();
+                return answer;
+            }
+
+            private E advance() {
+                for (Node<E> next = node.next; next != null; next = next.next) {
+                    node = next;
+                    E e = next.item;
+                    if (e != null) {
+                        return e;
+                    }
+                }
+                return null;
+            }
+        };
+    }
+
+    private boolean reserve(int size) {
+        while (true) {
+            int c = count.get();
+            if (c > capacity - size) {
+                return false;
+            }
+            if (count.compareAndSet(c, c + size)) {
+                return true;
+            }
+        }
+    }
+
+    private void link(Node<E> head, Node<E> tail) {
+        Node<E> prev = last.getAndSet(tail);
+        prev.next = head;
+        Thread t = waiter;
+        if (t != null) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    /**
+     * Removes the next element, must be called while holding the take lock.
+     */
+    private E dequeue() {
+        Node<E> next = first.next;
+        while (next != null) {
+            first = next;
+            E e = next.item;
+            if (e != null) {
+                next.item = null;
+                count.decrementAndGet();
+                return e;
+            }
+            // the element was removed, so skip to the next
+            next = next.next;
+        }
+        return null;
+    }
+
+    /**
+     * Parks the consumer until an element may be available, must be called while holding the take lock.
+     */
+    private void awaitElement(long nanos) throws InterruptedException {
+        waiter = Thread.currentThread();
+        try {
+            // check again after publishing the waiter, so we do not miss a producer signal
+            if (first.next == null) {
+                if (nanos > 0) {
+                    LockSupport.parkNanos(this, nanos);
+                } else {
+                    LockSupport.park(this);
+                }
+            }
+        } finally {
+            waiter = null;
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException();
+        }
+    }
+
+    private static void checkNotNull(Object e) {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+    }
+
+    private static final class Node<E> {
+        volatile E item;
+        volatile Node<E> next;
+
+        Node(E item) {
+            this.item = item;
+        }
+    }
+}
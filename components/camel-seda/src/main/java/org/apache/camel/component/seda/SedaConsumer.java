@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -25,6 +26,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
@@ -55,10 +57,14 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final boolean groupExchanges;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.groupExchanges = endpoint.isGroupExchanges();
     }
 
     @Override
@@ -180,20 +186,10 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
-                        }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (batchSize > 1 || groupExchanges) {
+                        processBatch(queue, exchange);
+                    } else {
+                        processExchange(exchange);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -213,6 +209,89 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Processes the exchange taken from the queue
+     *
+     * @param exchange the exchange
+     */
+    protected void processExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Drains up to the batch size of exchanges from the queue (including the already polled exchange) and processes
+     * them either one by one, or as a single grouped exchange.
+     *
+     * @param queue the queue
+     * @param first the exchange already polled from the queue
+     */
+    protected void processBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(Math.max(batchSize, 1));
+        batch.add(first);
+        if (batchSize > 1) {
+            queue.drainTo(batch, batchSize - 1);
+        }
+        int total = batch.size();
+        LOG.trace("Drained {} exchanges from queue {}", total, ObjectHelper.getIdentityHashCode(queue));
+
+        if (groupExchanges) {
+            processGroupedExchange(batch);
+        } else {
+            for (int i = 0; i < total; i++) {
+                Exchange exchange = batch.get(i);
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, i == total - 1);
+                processExchange(exchange);
+            }
+        }
+    }
+
+    /**
+     * Processes the exchanges as a single exchange where the message body is the list of exchanges. When the grouped
+     * exchange is done, then the exchanges are done as well.
+     *
+     * @param exchanges the exchanges
+     */
+    protected void processGroupedExchange(List<Exchange> exchanges) {
+        Exchange group = getEndpoint().createExchange();
+        group.setProperty(ExchangePropertyKey.BATCH_SIZE, exchanges.size());
+        group.getIn().setBody(exchanges);
+        try {
+            sendToConsumers(prepareExchange(group));
+        } catch (Exception e) {
+            group.setException(e);
+        }
+
+        for (Exchange exchange : exchanges) {
+            if (group.getException() != null && exchange.getException() == null) {
+                exchange.setException(group.getException());
+            }
+            // the exchanges are not routed on their own, so done their completions (such as a waiting producer)
+            List<Synchronization> completions = exchange.adapt(ExtendedExchange.class).handoverCompletions();
+            UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+        }
+
+        // log exception if an exception occurred and was not handled
+        if (group.getException() != null) {
+            getExceptionHandler().handleException("Error processing exchange", group, group.getException());
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -84,6 +84,10 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer", defaultValue = "1")
+    private int batchSize = 1;
+    @UriParam(label = "consumer")
+    private boolean groupExchanges;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -99,6 +103,8 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean failIfNoConsumers;
     @UriParam(label = "producer")
     private boolean discardIfNoConsumers;
+    @UriParam(label = "producer")
+    private boolean ungroupExchanges;
 
     private BlockingQueueFactory<Exchange> queueFactory;
 
@@ -453,6 +459,48 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.purgeWhenStopping = purgeWhenStopping;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * The maximum number of exchanges a consumer takes from the queue at once. When the consumer wakes up it drains up
+     * to this number of exchanges which are then processed one by one (or as a single grouped exchange), which reduces
+     * contention on the queue under heavy load. The exchanges are marked with the batch size and index as exchange
+     * properties.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public boolean isGroupExchanges() {
+        return groupExchanges;
+    }
+
+    /**
+     * Whether the consumer should deliver the exchanges taken from the queue at once (see batchSize) as a single
+     * exchange, where the message body is a java.util.List of the exchanges.
+     */
+    public void setGroupExchanges(boolean groupExchanges) {
+        this.groupExchanges = groupExchanges;
+    }
+
+    @ManagedAttribute
+    public boolean isUngroupExchanges() {
+        return ungroupExchanges;
+    }
+
+    /**
+     * Whether the producer should add each exchange from a grouped exchange (where the message body is a java.util.List
+     * of exchanges) to the queue individually. The exchanges are added to the queue at once using a bulk offer. This
+     * only applies when the producer does not wait for the task to complete.
+     */
+    public void setUngroupExchanges(boolean ungroupExchanges) {
+        this.ungroupExchanges = ungroupExchanges;
+    }
+
     /**
      * Returns the current pending exchanges
      */
@@ -16,6 +16,8 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -40,6 +42,7 @@ public class SedaProducer extends DefaultAsyncProducer {
     private final boolean blockWhenFull;
     private final boolean discardWhenFull;
     private final long offerTimeout;
+    private final boolean ungroupExchanges;
 
     public SedaProducer(SedaEndpoint endpoint, WaitForTaskToComplete waitForTaskToComplete,
                         long timeout, boolean blockWhenFull, boolean discardWhenFull, long offerTimeout) {
@@ -50,6 +53,7 @@ public class SedaProducer extends DefaultAsyncProducer {
         this.blockWhenFull = blockWhenFull;
         this.discardWhenFull = discardWhenFull;
         this.offerTimeout = offerTimeout;
+        this.ungroupExchanges = endpoint.isUngroupExchanges();
     }
 
     @Override
@@ -146,7 +150,12 @@ public class SedaProducer extends DefaultAsyncProducer {
         } else {
             // no wait, eg its a InOnly then just add to queue and return
             try {
-                addToQueue(exchange, true);
+                List<Exchange> grouped = ungroupExchanges ? getGroupedExchanges(exchange) : null;
+                if (grouped != null) {
+                    addAllToQueue(exchange, grouped);
+                } else {
+                    addToQueue(exchange, true);
+                }
             } catch (SedaConsumerNotAvailableException e) {
                 exchange.setException(e);
                 callback.done(true);
@@ -160,6 +169,21 @@ public class SedaProducer extends DefaultAsyncProducer {
         return true;
     }
 
+    /**
+     * Gets the exchanges if the message body is a list of exchanges (a grouped exchange), or <tt>null</tt> if not.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Exchange> getGroupedExchanges(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        if (body instanceof List) {
+            List<?> list = (List<?>) body;
+            if (!list.isEmpty() && list.stream().allMatch(Exchange.class::isInstance)) {
+                return (List<Exchange>) list;
+            }
+        }
+        return null;
+    }
+
     protected Exchange prepareCopy(Exchange exchange, boolean handover) {
         // use a new copy of the exchange to route async (and use same message id)
         // if handover we need to do special handover to avoid handing over
@@ -191,6 +215,56 @@ public class SedaProducer extends DefaultAsyncProducer {
      * @param copy     whether to create a copy of the exchange to use for adding to the queue
      */
     protected void addToQueue(Exchange exchange, boolean copy) throws SedaConsumerNotAvailableException {
+        BlockingQueue<Exchange> queue = resolveQueue(exchange);
+        if (queue == null) {
+            return;
+        }
+
+        Exchange target = exchange;
+
+        // handover the completion so its the copy which performs that, as we do not wait
+        if (copy) {
+            target = prepareCopy(exchange, true);
+        }
+
+        LOG.trace("Adding Exchange to queue: {}", target);
+        offerToQueue(queue, target);
+    }
+
+    /**
+     * Strategy method for adding the exchanges of a grouped exchange to the queue.
+     * <p>
+     * The exchanges are added at once using a bulk offer, unless blockWhenFull or discardWhenFull is true, which
+     * requires adding the exchanges one by one.
+     *
+     * @param exchange  the grouped exchange
+     * @param exchanges the exchanges to add to the queue (a copy of each exchange is added)
+     */
+    protected void addAllToQueue(Exchange exchange, List<Exchange> exchanges) throws SedaConsumerNotAvailableException {
+        BlockingQueue<Exchange> queue = resolveQueue(exchange);
+        if (queue == null) {
+            return;
+        }
+
+        List<Exchange> targets = new ArrayList<>(exchanges.size());
+        for (Exchange answer : exchanges) {
+            targets.add(prepareCopy(answer, true));
+        }
+
+        LOG.trace("Adding {} Exchanges to queue", targets.size());
+        if (!discardWhenFull && !blockWhenFull) {
+            queue.addAll(targets);
+        } else {
+            for (Exchange target : targets) {
+                offerToQueue(queue, target);
+            }
+        }
+    }
+
+    /**
+     * Gets the queue to add to, or <tt>null</tt> if the exchange should be discarded as there are no consumers.
+     */
+    private BlockingQueue<Exchange> resolveQueue(Exchange exchange) throws SedaConsumerNotAvailableException {
         BlockingQueue<Exchange> queue = null;
         QueueReference queueReference = endpoint.getQueueReference();
         if (queueReference != null) {
@@ -206,18 +280,13 @@ public class SedaProducer extends DefaultAsyncProducer {
                 throw new SedaConsumerNotAvailableException("No consumers available on endpoint: " + endpoint, exchange);
             } else if (endpoint.isDiscardIfNoConsumers()) {
                 LOG.debug("Discard message as no active consumers on endpoint: {}", endpoint);
-                return;
+                return null;
             }
         }
+        return queue;
+    }
 
-        Exchange target = exchange;
-
-        // handover the completion so its the copy which performs that, as we do not wait
-        if (copy) {
-            target = prepareCopy(exchange, true);
-        }
-
-        LOG.trace("Adding Exchange to queue: {}", target);
+    private void offerToQueue(BlockingQueue<Exchange> queue, Exchange target) {
         if (discardWhenFull) {
             try {
                 boolean added = queue.offer(target, 0, TimeUnit.MILLISECONDS);
@@ -52,6 +52,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": target.setMaxMessagesPerPoll(property(camelContext, int.class, value)); return true;
+        case "microbatchinterval":
+        case "microBatchInterval": target.setMicroBatchInterval(property(camelContext, long.class, value)); return true;
+        case "microbatchsize":
+        case "microBatchSize": target.setMicroBatchSize(property(camelContext, int.class, value)); return true;
         case "noop": target.setNoop(property(camelContext, boolean.class, value)); return true;
         case "onconsume":
         case "onConsume": target.setOnConsume(property(camelContext, java.lang.String.class, value)); return true;
@@ -146,6 +150,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return boolean.class;
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return int.class;
+        case "microbatchinterval":
+        case "microBatchInterval": return long.class;
+        case "microbatchsize":
+        case "microBatchSize": return int.class;
         case "noop": return boolean.class;
         case "onconsume":
         case "onConsume": return java.lang.String.class;
@@ -236,6 +244,10 @@ public class SqlEndpointConfigurer extends PropertyConfigurerSupport implements
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maxmessagesperpoll":
         case "maxMessagesPerPoll": return target.getMaxMessagesPerPoll();
+        case "microbatchinterval":
+        case "microBatchInterval": return target.getMicroBatchInterval();
+        case "microbatchsize":
+        case "microBatchSize": return target.getMicroBatchSize();
         case "noop": return target.isNoop();
         case "onconsume":
         case "onConsume": return target.getOnConsume();
@@ -20,7 +20,7 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(46);
+        Set<String> props = new HashSet<>(48);
         props.add("backoffMultiplier");
         props.add("breakBatchOnConsumeFail");
         props.add("onConsume");
@@ -44,8 +44,10 @@ public class SqlEndpointUriFactory extends org.apache.camel.support.component.En
         props.add("maxMessagesPerPoll");
         props.add("placeholder");
         props.add("scheduledExecutorService");
+        props.add("microBatchSize");
         props.add("repeatCount");
         props.add("timeUnit");
+        props.add("microBatchInterval");
         props.add("query");
         props.add("onConsumeBatchComplete");
         props.add("sendEmptyMessageWhenIdle");
@@ -23,6 +23,7 @@ import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.spi.Metadata;
 import org.apache.camel.spi.UriEndpoint;
+import org.apache.camel.spi.UriParam;
 import org.apache.camel.spi.UriPath;
 import org.apache.camel.util.UnsafeUriCharactersEncoder;
 
@@ -36,6 +37,15 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
     @UriPath(description = "Sets the SQL query to perform. You can externalize the query by using file: or classpath: as prefix and specify the location of the file.")
     @Metadata(required = true)
     private String query;
+    @UriParam(label = "producer,advanced",
+              description = "Enables micro batching when greater than zero. Concurrent exchanges executing the same insert, update,"
+                            + " delete or merge statement are then coalesced into JDBC batches of up to this size,"
+                            + " and each exchange is completed when its batch has been committed.")
+    private int microBatchSize;
+    @UriParam(label = "producer,advanced", defaultValue = "100",
+              description = "The maximum time in millis an exchange waits for its micro batch to be full, before the batch"
+                            + " is executed anyway.")
+    private long microBatchInterval = 100;
 
     public SqlEndpoint() {
     }
@@ -73,6 +83,13 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
                 this, query, getJdbcTemplate(), prepareStrategy, isBatch(),
                 isAlwaysPopulateStatement(), isUseMessageBodyForSql());
         result.setParametersCount(getParametersCount());
+        if (microBatchSize > 0) {
+            if (isBatch()) {
+                throw new IllegalArgumentException("The options batch and microBatchSize cannot be used together");
+            }
+            return new SqlMicroBatchProducer(
+                    this, result, getJdbcTemplate(), prepareStrategy, microBatchSize, microBatchInterval);
+        }
         return result;
     }
 
@@ -94,4 +111,28 @@ public class SqlEndpoint extends DefaultSqlEndpoint {
         this.query = query;
     }
 
+    public int getMicroBatchSize() {
+        return microBatchSize;
+    }
+
+    /**
+     * Enables micro batching when greater than zero. Concurrent exchanges executing the same insert, update, delete or
+     * merge statement are then coalesced into JDBC batches of up to this size, and each exchange is completed when its
+     * batch has been committed.
+     */
+    public void setMicroBatchSize(int microBatchSize) {
+        this.microBatchSize = microBatchSize;
+    }
+
+    public long getMicroBatchInterval() {
+        return microBatchInterval;
+    }
+
+    /**
+     * The maximum time in millis an exchange waits for its micro batch to be full, before the batch is executed anyway.
+     */
+    public void setMicroBatchInterval(long microBatchInterval) {
+        this.microBatchInterval = microBatchInterval;
+    }
+
 }
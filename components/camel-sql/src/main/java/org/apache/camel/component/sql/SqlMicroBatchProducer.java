@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.Exchange;
+import org.apache.camel.support.DefaultAsyncProducer;
+import org.apache.camel.support.service.ServiceHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.springframework.jdbc.support.JdbcUtils.closeStatement;
+
+/**
+ * A producer which coalesces concurrent exchanges executing the same insert, update, delete or merge statement into
+ * JDBC batches.
+ * <p/>
+ * A batch is executed when it has reached the micro batch size, or when the micro batch interval has elapsed since the
+ * first exchange was added to the batch. Each batch is executed in its own transaction, and the callback of each
+ * exchange is completed when the batch has been committed. If the batch fails then it is rolled back, and the
+ * statements are executed one by one, so only the exchanges which are failing themselves fail.
+ * <p/>
+ * Exchanges which cannot be batched (transacted exchanges, queries and retrieving generated keys) are processed
+ * directly by the {@link SqlProducer}.
+ */
+public class SqlMicroBatchProducer extends DefaultAsyncProducer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SqlMicroBatchProducer.class);
+
+    private final SqlProducer delegate;
+    private final JdbcTemplate jdbcTemplate;
+    private final SqlPrepareStatementStrategy sqlPrepareStatementStrategy;
+    private final int microBatchSize;
+    private final long microBatchInterval;
+    private final Map<String, MicroBatch> batches = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public SqlMicroBatchProducer(SqlEndpoint endpoint, SqlProducer delegate, JdbcTemplate jdbcTemplate,
+                                 SqlPrepareStatementStrategy sqlPrepareStatementStrategy,
+                                 int microBatchSize, long microBatchInterval) {
+        super(endpoint);
+        this.delegate = delegate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.sqlPrepareStatementStrategy = sqlPrepareStatementStrategy;
+        this.microBatchSize = microBatchSize;
+        this.microBatchInterval = microBatchInterval;
+    }
+
+    @Override
+    public SqlEndpoint getEndpoint() {
+        return (SqlEndpoint) super.getEndpoint();
+    }
+
+    @Override
+    public boolean process(Exchange exchange, AsyncCallback callback) {
+        MicroBatch full = null;
+        try {
+            final String sql = delegate.resolveSql(exchange);
+            final String preparedQuery
+                    = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
+
+            if (!isBatchable(exchange, preparedQuery)) {
+                delegate.process(exchange);
+                callback.done(true);
+                return true;
+            }
+
+            synchronized (batches) {
+                MicroBatch batch = batches.computeIfAbsent(preparedQuery, MicroBatch::new);
+                batch.entries.add(new Entry(exchange, callback, sql));
+                if (batch.entries.size() >= microBatchSize) {
+                    batches.remove(preparedQuery);
+                    if (batch.timer != null) {
+                        batch.timer.cancel(false);
+                    }
+                    full = batch;
+                } else if (batch.timer == null) {
+                    batch.timer = scheduler.schedule(() -> onInterval(batch), microBatchInterval, TimeUnit.MILLISECONDS);
+                }
+            }
+        } catch (Exception e) {
+            exchange.setException(e);
+            callback.done(true);
+            return true;
+        }
+
+        if (full != null) {
+            // execute the batch on the current thread which gives back pressure to the callers
+            execute(full);
+        }
+        return false;
+    }
+
+    private boolean isBatchable(Exchange exchange, String preparedQuery) {
+        if (exchange.isTransacted()) {
+            // the batch is executed in its own transaction
+            return false;
+        }
+        if (exchange.getIn().getHeader(SqlConstants.SQL_RETRIEVE_GENERATED_KEYS, false, Boolean.class)) {
+            return false;
+        }
+        String statement = preparedQuery.trim().toLowerCase(Locale.ENGLISH);
+        return statement.startsWith("insert") || statement.startsWith("update") || statement.startsWith("delete")
+                || statement.startsWith("merge");
+    }
+
+    private void onInterval(MicroBatch batch) {
+        synchronized (batches) {
+            if (batches.get(batch.preparedQuery) != batch) {
+                // the batch has already been executed as it was full
+                return;
+            }
+            batches.remove(batch.preparedQuery);
+        }
+        execute(batch);
+    }
+
+    private void execute(MicroBatch batch) {
+        List<Entry> entries = batch.entries;
+        try {
+            int[] updateCounts = executeBatch(batch);
+            for (int i = 0; i < entries.size(); i++) {
+                Exchange exchange = entries.get(i).exchange;
+                exchange.getMessage().setHeader(SqlConstants.SQL_UPDATE_COUNT, updateCounts[i]);
+            }
+        } catch (Exception e) {
+            LOG.debug("Executing batch of {} statements failed due {}. Executing the statements one by one.",
+                    entries.size(), e.getMessage(), e);
+            for (Entry entry : entries) {
+                try {
+                    delegate.process(entry.exchange);
+                } catch (Exception ex) {
+                    entry.exchange.setException(ex);
+                }
+            }
+        }
+        for (Entry entry : entries) {
+            entry.callback.done(false);
+        }
+    }
+
+    private int[] executeBatch(MicroBatch batch) {
+        LOG.trace("Executing batch of {} statements: {}", batch.entries.size(), batch.preparedQuery);
+        return jdbcTemplate.execute((ConnectionCallback<int[]>) con -> {
+            boolean autoCommit = con.getAutoCommit();
+            PreparedStatement ps = null;
+            try {
+                if (autoCommit) {
+                    con.setAutoCommit(false);
+                }
+                ps = con.prepareStatement(batch.preparedQuery);
+                for (Entry entry : batch.entries) {
+                    delegate.populateStatement(ps, entry.exchange, entry.sql, batch.preparedQuery);
+                    ps.addBatch();
+                }
+                int[] updateCounts = ps.executeBatch();
+                con.commit();
+                return updateCounts;
+            } catch (Exception e) {
+                con.rollback();
+                throw e;
+            } finally {
+                closeStatement(ps);
+                if (autoCommit) {
+                    con.setAutoCommit(true);
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void doInit() throws Exception {
+        super.doInit();
+        ServiceHelper.initService(delegate);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        ServiceHelper.startService(delegate);
+        scheduler = getEndpoint().getCamelContext().getExecutorServiceManager().newSingleThreadScheduledExecutor(this,
+                "SqlMicroBatch");
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        // execute the pending batches before stopping
+        List<MicroBatch> pending;
+        synchronized (batches) {
+            pending = new ArrayList<>(batches.values());
+            batches.clear();
+        }
+        for (MicroBatch batch : pending) {
+            if (batch.timer != null) {
+                batch.timer.cancel(false);
+            }
+            execute(batch);
+        }
+        if (scheduler != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdown(scheduler);
+            scheduler = null;
+        }
+        ServiceHelper.stopService(delegate);
+        super.doStop();
+    }
+
+    private static final class MicroBatch {
+        private final String preparedQuery;
+        private final List<Entry> entries = new ArrayList<>();
+        private ScheduledFuture<?> timer;
+
+        MicroBatch(String preparedQuery) {
+            this.preparedQuery = preparedQuery;
+        }
+    }
+
+    private static final class Entry {
+        private final Exchange exchange;
+        private final AsyncCallback callback;
+        private final String sql;
+
+        Entry(Exchange exchange, AsyncCallback callback, String sql) {
+            this.exchange = exchange;
+            this.callback = callback;
+            this.sql = sql;
+        }
+    }
+}
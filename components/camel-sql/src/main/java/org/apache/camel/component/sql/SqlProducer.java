@@ -93,13 +93,7 @@ public class SqlProducer extends DefaultProducer {
 
     @Override
     public void process(final Exchange exchange) throws Exception {
-        final String sql;
-        if (useMessageBodyForSql) {
-            sql = exchange.getIn().getBody(String.class);
-        } else {
-            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
-            sql = queryHeader != null ? queryHeader : resolvedQuery;
-        }
+        final String sql = resolveSql(exchange);
         final String preparedQuery
                 = sqlPrepareStatementStrategy.prepareQuery(sql, getEndpoint().isAllowNamedParameters(), exchange);
 
@@ -142,6 +136,15 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
+    String resolveSql(Exchange exchange) {
+        if (useMessageBodyForSql) {
+            return exchange.getIn().getBody(String.class);
+        } else {
+            String queryHeader = exchange.getIn().getHeader(SqlConstants.SQL_QUERY, String.class);
+            return queryHeader != null ? queryHeader : resolvedQuery;
+        }
+    }
+
     private Object processInternal(
             Exchange exchange, PreparedStatementCreator statementCreator,
             String sql, String preparedQuery, Boolean shouldRetrieveGeneratedKeys) {
@@ -248,7 +251,7 @@ public class SqlProducer extends DefaultProducer {
         }
     }
 
-    private void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
+    void populateStatement(PreparedStatement ps, Exchange exchange, String sql, String preparedQuery)
             throws SQLException {
         int expected = parametersCount > 0 ? parametersCount : ps.getParameterMetaData().getParameterCount();
 
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+import org.apache.camel.support.DefaultExchangeHolder;
+
+/**
+ * A {@link JdbcCamelCodec} which stores the exchanges using the compact {@link BinaryExchangeHolderCodec} instead of
+ * Java serialization.
+ * <p/>
+ * Exchanges that was stored using Java serialization (such as before switching to this codec) can still be read, so
+ * existing rows are migrated to the binary format when they are updated.
+ */
+public class BinaryJdbcCamelCodec extends JdbcCamelCodec {
+
+    private final BinaryExchangeHolderCodec codec = new BinaryExchangeHolderCodec();
+
+    public boolean isCompress() {
+        return codec.isCompress();
+    }
+
+    /**
+     * Whether to compress the stored exchanges (using deflate).
+     */
+    public void setCompress(boolean compress) {
+        codec.setCompress(compress);
+    }
+
+    @Override
+    protected void encode(DefaultExchangeHolder object, OutputStream bytesOut) throws IOException {
+        codec.encode(object, bytesOut);
+    }
+
+    @Override
+    protected DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn)
+            throws IOException, ClassNotFoundException {
+        InputStream in = bytesIn.markSupported() ? bytesIn : new BufferedInputStream(bytesIn);
+        // peek the header to detect the format
+        byte[] header = new byte[4];
+        in.mark(header.length);
+        int len = 0;
+        int n = 0;
+        while (n != -1 && len < header.length) {
+            n = in.read(header, len, header.length - len);
+            if (n > 0) {
+                len += n;
+            }
+        }
+        in.reset();
+        if (len == header.length && BinaryExchangeHolderCodec.isBinaryFormat(header)) {
+            return codec.decode(camelContext, in);
+        }
+        // fallback to java serialization
+        return super.decode(camelContext, in);
+    }
+}
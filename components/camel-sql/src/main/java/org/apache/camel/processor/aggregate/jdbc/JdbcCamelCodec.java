@@ -93,13 +93,13 @@ public class JdbcCamelCodec {
         return answer;
     }
 
-    private void encode(Object object, OutputStream bytesOut) throws IOException {
+    protected void encode(DefaultExchangeHolder object, OutputStream bytesOut) throws IOException {
         try (ObjectOutputStream objectOut = new ObjectOutputStream(bytesOut)) {
             objectOut.writeObject(object);
         }
     }
 
-    private DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn)
+    protected DefaultExchangeHolder decode(CamelContext camelContext, InputStream bytesIn)
             throws IOException, ClassNotFoundException {
         ObjectInputStream objectIn = null;
         Object obj = null;
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.sql;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SqlProducerMicroBatchTest extends CamelTestSupport {
+
+    private EmbeddedDatabase db;
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void testMicroBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(20);
+
+        List<Exchange> replies = sendConcurrently("direct:insert", 20, 100);
+
+        assertMockEndpointsSatisfied();
+        for (Exchange reply : replies) {
+            assertEquals(1, reply.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        }
+        assertEquals(23, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testMicroBatchInterval() throws Exception {
+        // a single exchange is executed when the interval has elapsed
+        Exchange reply = template.request("direct:insert", e -> {
+            Map<String, Object> body = new HashMap<>();
+            body.put("id", 100);
+            body.put("project", "Kafka");
+            e.getIn().setBody(body);
+        });
+
+        assertEquals(1, reply.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+        assertEquals("Kafka", jdbcTemplate.queryForObject("select project from projects where id = 100", String.class));
+    }
+
+    @Test
+    public void testMicroBatchFailure() throws Exception {
+        // the ids 1, 2 and 3 already exist so those exchanges fail, while the others in the same batches succeed
+        List<Exchange> replies = sendConcurrently("direct:insert", 10, 1);
+
+        int failed = 0;
+        for (Exchange reply : replies) {
+            if (reply.isFailed()) {
+                failed++;
+            } else {
+                assertEquals(1, reply.getMessage().getHeader(SqlConstants.SQL_UPDATE_COUNT));
+            }
+        }
+        assertEquals(3, failed);
+        assertEquals(10, jdbcTemplate.queryForObject("select count(*) from projects", Integer.class));
+    }
+
+    @Test
+    public void testSelectIsNotBatched() throws Exception {
+        List<?> rows = template.requestBody("direct:select", 1, List.class);
+        assertNotNull(rows);
+        assertEquals(1, rows.size());
+        assertTrue(rows.get(0).toString().contains("Camel"));
+    }
+
+    private List<Exchange> sendConcurrently(String uri, int count, int firstId) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(count);
+        List<Future<Exchange>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final int id = firstId + i;
+            futures.add(executor.submit((Callable<Exchange>) () -> template.request(uri, e -> {
+                Map<String, Object> body = new HashMap<>();
+                body.put("id", id);
+                body.put("project", "P" + id);
+                e.getIn().setBody(body);
+            })));
+        }
+        List<Exchange> replies = new ArrayList<>();
+        for (Future<Exchange> future : futures) {
+            replies.add(future.get());
+        }
+        executor.shutdownNow();
+        return replies;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        db = new EmbeddedDatabaseBuilder()
+                .setName(getClass().getSimpleName())
+                .setType(EmbeddedDatabaseType.DERBY)
+                .addScript("sql/createAndPopulateDatabase.sql").build();
+        jdbcTemplate = new JdbcTemplate(db);
+
+        super.setUp();
+    }
+
+    @Override
+    @AfterEach
+    public void tearDown() throws Exception {
+        super.tearDown();
+
+        db.shutdown();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            public void configure() {
+                getContext().getComponent("sql", SqlComponent.class).setDataSource(db);
+
+                from("direct:insert")
+                        .to("sql:insert into projects (id, project, license) values (:#id, :#project, 'ASF')"
+                            + "?microBatchSize=5&microBatchInterval=200")
+                        .to("mock:result");
+
+                from("direct:select")
+                        .to("sql:select * from projects where id = #?microBatchSize=5");
+            }
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregate.jdbc;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.support.BinaryExchangeHolderCodec;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JdbcAggregateBinaryCodecTest extends AbstractJdbcAggregationTestSupport {
+
+    @Test
+    public void testBinaryCodec() throws Exception {
+        BinaryJdbcCamelCodec codec = new BinaryJdbcCamelCodec();
+        repo.setJdbcCamelCodec(codec);
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World".getBytes());
+        exchange.getIn().setHeader("name", "Camel");
+        exchange.getIn().setHeader("number", 123);
+
+        byte[] data = codec.marshallExchange(context, exchange, false);
+        assertTrue(BinaryExchangeHolderCodec.isBinaryFormat(data));
+
+        repoAddAndGet("foo", exchange);
+
+        Exchange actual = repo.get(context, "foo");
+        assertArrayEquals("Hello World".getBytes(), actual.getIn().getBody(byte[].class));
+        assertEquals("Camel", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("number"));
+    }
+
+    @Test
+    public void testReadJavaSerialized() throws Exception {
+        // store the exchange using java serialization
+        repo.setJdbcCamelCodec(new JdbcCamelCodec());
+
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Camel");
+        exchange = repoAddAndGet("foo", exchange);
+
+        // switch to binary codec which can still read the stored exchange
+        BinaryJdbcCamelCodec codec = new BinaryJdbcCamelCodec();
+        codec.setCompress(true);
+        repo.setJdbcCamelCodec(codec);
+
+        Exchange actual = repo.get(context, "foo");
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Camel", actual.getIn().getHeader("name"));
+
+        // and update it using the binary codec
+        exchange.getIn().setBody("Bye World");
+        repoAddAndGet("foo", exchange);
+
+        actual = repo.get(context, "foo");
+        assertEquals("Bye World", actual.getIn().getBody());
+        assertEquals("Camel", actual.getIn().getHeader("name"));
+    }
+
+}
@@ -20,7 +20,7 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> PROPERTY_NAMES;
     private static final Set<String> SECRET_PROPERTY_NAMES;
     static {
-        Set<String> props = new HashSet<>(19);
+        Set<String> props = new HashSet<>(22);
         props.add("exchangePattern");
         props.add("pollTimeout");
         props.add("failIfNoConsumers");
@@ -35,7 +35,10 @@ public class StubEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("offerTimeout");
         props.add("size");
         props.add("discardIfNoConsumers");
+        props.add("ungroupExchanges");
         props.add("name");
+        props.add("batchSize");
+        props.add("groupExchanges");
         props.add("exceptionHandler");
         props.add("purgeWhenStopping");
         props.add("multipleConsumers");
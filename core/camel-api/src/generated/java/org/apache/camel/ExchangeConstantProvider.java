@@ -11,7 +11,7 @@ public class ExchangeConstantProvider {
 
     private static final Map<String, String> MAP;
     static {
-        Map<String, String> map = new HashMap<>(151);
+        Map<String, String> map = new HashMap<>(152);
         map.put("ACCEPT_CONTENT_TYPE", "CamelAcceptContentType");
         map.put("AGGREGATED_COLLECTION_GUARD", "CamelAggregatedCollectionGuard");
         map.put("AGGREGATED_COMPLETED_BY", "CamelAggregatedCompletedBy");
@@ -101,6 +101,7 @@ public class ExchangeConstantProvider {
         map.put("LOG_EIP_NAME", "CamelLogEipName");
         map.put("LOOP_INDEX", "CamelLoopIndex");
         map.put("LOOP_SIZE", "CamelLoopSize");
+        map.put("MAXIMUM_CACHE_POOL_IDLE_TIMEOUT", "CamelMaximumCachePoolIdleTimeout");
         map.put("MAXIMUM_CACHE_POOL_SIZE", "CamelMaximumCachePoolSize");
         map.put("MAXIMUM_ENDPOINT_CACHE_SIZE", "CamelMaximumEndpointCacheSize");
         map.put("MAXIMUM_SIMPLE_CACHE_SIZE", "CamelMaximumSimpleCacheSize");
@@ -117,6 +117,41 @@ public interface ProducerCache extends Service {
      */
     void cleanUp();
 
+    /**
+     * Number of times a pooled producer was acquired from the cache
+     */
+    default long getHits() {
+        return 0;
+    }
+
+    /**
+     * Number of times a producer was not in the cache and had to be created
+     */
+    default long getMisses() {
+        return 0;
+    }
+
+    /**
+     * Number of producers created by the cache
+     */
+    default long getCreated() {
+        return 0;
+    }
+
+    /**
+     * Number of producers evicted (and stopped) from the cache, because the cache was full or the producers were idle
+     */
+    default long getEvicted() {
+        return 0;
+    }
+
+    /**
+     * Resets the hits, misses, created and evicted counters
+     */
+    default void resetStatistics() {
+        // noop
+    }
+
     /**
      * Whether {@link org.apache.camel.spi.EventNotifier} is enabled
      */
@@ -42,6 +42,25 @@ public interface RouteController extends CamelContextAware, StaticService {
      */
     void setLoggingLevel(LoggingLevel loggingLevel);
 
+    /**
+     * Whether routes should be started in parallel. The default is false, which starts the routes one by one.
+     * <p/>
+     * Routes with an explicit startup order are still started one by one, in that order, and routes that consume from
+     * the same endpoint are started one after the other. All the other routes are warmed up and started concurrently
+     * using a thread pool from the default thread pool profile.
+     */
+    boolean isParallelStartup();
+
+    /**
+     * Sets whether routes should be started in parallel. The default is false, which starts the routes one by one.
+     * <p/>
+     * Routes with an explicit startup order are still started one by one, in that order, and routes that consume from
+     * the same endpoint are started one after the other. All the other routes are warmed up and started concurrently
+     * using a thread pool from the default thread pool profile. Custom {@link LifecycleStrategy} implementations must
+     * then be thread-safe, as their callbacks can be invoked concurrently for different routes.
+     */
+    void setParallelStartup(boolean parallelStartup);
+
     /**
      * Whether this route controller is a regular or supervising controller.
      */
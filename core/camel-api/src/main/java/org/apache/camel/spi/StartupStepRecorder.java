@@ -103,6 +103,21 @@ public interface StartupStepRecorder extends StaticService {
      */
     StartupStep beginStep(Class<?> type, String name, String description);
 
+    /**
+     * Beings a new step as a child of the given parent step. This is used when the step is executed by another thread
+     * than the thread that began the parent step, such as when starting routes in parallel.
+     * <p>
+     * Important must call {@link #endStep(StartupStep)} to end the step.
+     *
+     * @param parent      the parent step, or <tt>null</tt> to use the current step of this thread as parent
+     * @param type        the source
+     * @param name        name of the step
+     * @param description description of the step
+     */
+    default StartupStep beginStep(StartupStep parent, Class<?> type, String name, String description) {
+        return beginStep(type, name, description);
+    }
+
     /**
      * Ends the step
      */
@@ -192,6 +192,26 @@ public interface StreamCachingStrategy extends StaticService {
 
     boolean isAnySpoolRules();
 
+    /**
+     * Sets whether in-memory stream caches should be stored off-heap in pooled direct buffers instead of byte arrays on
+     * the heap. This reduces the pressure on the garbage collector when caching large or many streams.
+     * <p/>
+     * The default value is <tt>false</tt>.
+     */
+    void setOffHeap(boolean offHeap);
+
+    boolean isOffHeap();
+
+    /**
+     * Sets whether stream caches spooled to disk should be read using a memory-mapped file instead of a file input
+     * stream. This option is not used when a spool cipher is in use.
+     * <p/>
+     * The default value is <tt>false</tt>.
+     */
+    void setSpoolMemoryMapped(boolean spoolMemoryMapped);
+
+    boolean isSpoolMemoryMapped();
+
     /**
      * Gets the utilization statistics.
      */
@@ -61,6 +61,14 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of times the type converters to use for converting between two types had to be resolved (slow path),
+         * as the result was not already known
+         */
+        default long getResolveCounter() {
+            return 0;
+        }
+
         /**
          * Reset the counters
          */
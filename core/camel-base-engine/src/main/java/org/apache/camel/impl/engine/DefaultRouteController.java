@@ -43,6 +43,7 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
     private ExtendedCamelContext camelContext;
 
     private LoggingLevel loggingLevel = LoggingLevel.DEBUG;
+    private boolean parallelStartup;
 
     public DefaultRouteController() {
         this(null);
@@ -76,6 +77,16 @@ public class DefaultRouteController extends ServiceSupport implements RouteContr
         this.loggingLevel = loggingLevel;
     }
 
+    @Override
+    public boolean isParallelStartup() {
+        return parallelStartup;
+    }
+
+    @Override
+    public void setParallelStartup(boolean parallelStartup) {
+        this.parallelStartup = parallelStartup;
+    }
+
     @Override
     public boolean isSupervising() {
         return this instanceof SupervisingRouteController;
@@ -56,6 +56,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private final UtilizationStatistics statistics = new UtilizationStatistics();
     private final Set<SpoolRule> spoolRules = new LinkedHashSet<>();
     private boolean anySpoolRules;
+    private boolean offHeap;
+    private boolean spoolMemoryMapped;
 
     @Override
     public CamelContext getCamelContext() {
@@ -162,6 +164,26 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.anySpoolRules = anySpoolTasks;
     }
 
+    @Override
+    public boolean isOffHeap() {
+        return offHeap;
+    }
+
+    @Override
+    public void setOffHeap(boolean offHeap) {
+        this.offHeap = offHeap;
+    }
+
+    @Override
+    public boolean isSpoolMemoryMapped() {
+        return spoolMemoryMapped;
+    }
+
+    @Override
+    public void setSpoolMemoryMapped(boolean spoolMemoryMapped) {
+        this.spoolMemoryMapped = spoolMemoryMapped;
+    }
+
     @Override
     public Statistics getStatistics() {
         return statistics;
@@ -354,7 +376,9 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
                + ", bufferSize=" + bufferSize
-               + ", anySpoolRules=" + anySpoolRules + "]";
+               + ", anySpoolRules=" + anySpoolRules
+               + ", offHeap=" + offHeap
+               + ", spoolMemoryMapped=" + spoolMemoryMapped + "]";
     }
 
     private final class FixedThresholdSpoolRule implements SpoolRule {
@@ -47,6 +47,16 @@ class InternalRouteController implements RouteController {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public boolean isParallelStartup() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setParallelStartup(boolean parallelStartup) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean isSupervising() {
         return false;
@@ -19,10 +19,14 @@ package org.apache.camel.impl.engine;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.camel.Consumer;
 import org.apache.camel.Endpoint;
@@ -30,6 +34,7 @@ import org.apache.camel.FailedToStartRouteException;
 import org.apache.camel.LoggingLevel;
 import org.apache.camel.MultipleConsumersSupport;
 import org.apache.camel.Route;
+import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.ServiceStatus;
 import org.apache.camel.StartupListener;
 import org.apache.camel.StartupStep;
@@ -38,9 +43,11 @@ import org.apache.camel.SuspendableService;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.LifecycleStrategy;
 import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.support.OrderedComparator;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.URISupport;
+import org.apache.camel.util.function.ThrowingConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -284,6 +291,18 @@ class InternalRouteStartupManager {
     }
 
     void doWarmUpRoutes(Map<Integer, DefaultRouteStartupOrder> inputs, boolean autoStartup) throws FailedToStartRouteException {
+        if (isParallelStartup(inputs.size())) {
+            try {
+                doStartInParallel(inputs.values(), "Warmup Routes", "Warump Route",
+                        order -> doWarmUpRoute(order.getRouteService(), autoStartup));
+            } catch (FailedToStartRouteException e) {
+                throw e;
+            } catch (Exception e) {
+                throw RuntimeCamelException.wrapRuntimeException(e);
+            }
+            return;
+        }
+
         // now prepare the routes by starting its services before we start the
         // input
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
@@ -299,18 +318,25 @@ class InternalRouteStartupManager {
             StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, routeService.getId(),
                     "Warump Route");
             try {
-                LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
-                setupRoute.set(routeService.getRoute());
-                // ensure we setup before warmup
-                routeService.setUp();
-                routeService.warmUp();
+                doWarmUpRoute(routeService, autoStartup);
             } finally {
-                setupRoute.remove();
                 abstractCamelContext.getStartupStepRecorder().endStep(step);
             }
         }
     }
 
+    private void doWarmUpRoute(RouteService routeService, boolean autoStartup) throws FailedToStartRouteException {
+        try {
+            LOG.debug("Warming up route id: {} having autoStartup={}", routeService.getId(), autoStartup);
+            setupRoute.set(routeService.getRoute());
+            // ensure we setup before warmup
+            routeService.setUp();
+            routeService.warmUp();
+        } finally {
+            setupRoute.remove();
+        }
+    }
+
     void doResumeRouteConsumers(Map<Integer, DefaultRouteStartupOrder> inputs, boolean addingRoutes) throws Exception {
         doStartOrResumeRouteConsumers(inputs, true, addingRoutes);
     }
@@ -327,9 +353,10 @@ class InternalRouteStartupManager {
             Map<Integer, DefaultRouteStartupOrder> inputs, boolean resumeOnly, boolean addingRoute)
             throws Exception {
         List<Endpoint> routeInputs = new ArrayList<>();
+        boolean parallel = isParallelStartup(inputs.size());
+        List<DefaultRouteStartupOrder> parallelRoutes = new ArrayList<>();
 
         for (Map.Entry<Integer, DefaultRouteStartupOrder> entry : inputs.entrySet()) {
-            Integer order = entry.getKey();
             Route route = entry.getValue().getRoute();
             RouteService routeService = entry.getValue().getRouteService();
 
@@ -343,6 +370,17 @@ class InternalRouteStartupManager {
                 continue;
             }
 
+            if (parallel) {
+                // check for clashes up front, and start the routes in parallel afterwards
+                Consumer consumer = routeService.getInput();
+                if (consumer != null) {
+                    doCheckMultipleConsumers(route, consumer.getEndpoint(), routeInputs);
+                    routeInputs.add(consumer.getEndpoint());
+                }
+                parallelRoutes.add(entry.getValue());
+                continue;
+            }
+
             StartupStep step = abstractCamelContext.getStartupStepRecorder().beginStep(Route.class, route.getRouteId(),
                     "Start Route");
 
@@ -351,101 +389,245 @@ class InternalRouteStartupManager {
             if (consumer != null) {
                 Endpoint endpoint = consumer.getEndpoint();
 
-                // check multiple consumer violation, with the other routes to be started
-                if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+                doCheckMultipleConsumers(route, endpoint, routeInputs);
+
+                doStartOrResumeRouteConsumer(entry.getValue(), consumer, resumeOnly);
+
+                routeInputs.add(endpoint);
 
-                // check for multiple consumer violations with existing routes
-                // which have already been started, or is currently starting
-                List<Endpoint> existingEndpoints = new ArrayList<>();
-                for (Route existingRoute : abstractCamelContext.getRoutes()) {
-                    if (route.getId().equals(existingRoute.getId())) {
-                        // skip ourselves
-                        continue;
+                doAddRouteStartupOrder(entry.getValue());
+            }
+
+            doStartOrResumeRouteService(route, routeService, resumeOnly);
+
+            abstractCamelContext.getStartupStepRecorder().endStep(step);
+        }
+
+        if (!parallelRoutes.isEmpty()) {
+            try {
+                doStartInParallel(parallelRoutes, "Start Routes", "Start Route", order -> {
+                    Consumer consumer = order.getRouteService().getInput();
+                    if (consumer != null) {
+                        doStartOrResumeRouteConsumer(order, consumer, resumeOnly);
                     }
-                    Endpoint existing = existingRoute.getEndpoint();
-                    ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
-                    if (status != null && (status.isStarted() || status.isStarting())) {
-                        existingEndpoints.add(existing);
+                    doStartOrResumeRouteService(order.getRoute(), order.getRouteService(), resumeOnly);
+                });
+            } finally {
+                // add in the startup order (and not the order they completed) so they are stopped in reverse order
+                for (DefaultRouteStartupOrder order : parallelRoutes) {
+                    if (order.getRouteService().getInput() != null) {
+                        doAddRouteStartupOrder(order);
                     }
                 }
-                if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
-                    throw new FailedToStartRouteException(
-                            routeService.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
-                }
+            }
+        }
+    }
 
-                // start the consumer on the route
-                LOG.debug("Route: {} >>> {}", route.getId(), route);
-                if (resumeOnly) {
-                    LOG.debug("Resuming consumer (order: {}) on route: {}", order, route.getId());
-                } else {
-                    LOG.debug("Starting consumer (order: {}) on route: {}", order, route.getId());
-                }
+    private void doCheckMultipleConsumers(Route route, Endpoint endpoint, List<Endpoint> routeInputs)
+            throws FailedToStartRouteException {
+        // check multiple consumer violation, with the other routes to be started
+        if (!doCheckMultipleConsumerSupportClash(endpoint, routeInputs)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
 
-                if (resumeOnly && route.supportsSuspension()) {
-                    // if we are resuming and the route can be resumed
-                    ServiceHelper.resumeService(consumer);
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
-                } else {
-                    // when starting we should invoke the lifecycle strategies
-                    for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
-                        strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
-                    }
-                    try {
-                        abstractCamelContext.startService(consumer);
-                        route.getProperties().remove("route.start.exception");
-                    } catch (Exception e) {
-                        route.getProperties().put("route.start.exception", e);
-                        throw e;
-                    }
+        // check for multiple consumer violations with existing routes
+        // which have already been started, or is currently starting
+        List<Endpoint> existingEndpoints = new ArrayList<>();
+        for (Route existingRoute : abstractCamelContext.getRoutes()) {
+            if (route.getId().equals(existingRoute.getId())) {
+                // skip ourselves
+                continue;
+            }
+            Endpoint existing = existingRoute.getEndpoint();
+            ServiceStatus status = abstractCamelContext.getRouteStatus(existingRoute.getId());
+            if (status != null && (status.isStarted() || status.isStarting())) {
+                existingEndpoints.add(existing);
+            }
+        }
+        if (!doCheckMultipleConsumerSupportClash(endpoint, existingEndpoints)) {
+            throw new FailedToStartRouteException(
+                    route.getId(), "Multiple consumers for the same endpoint is not allowed: " + endpoint);
+        }
+    }
 
-                    // use basic endpoint uri to not log verbose details or potential sensitive data
-                    String uri = endpoint.getEndpointBaseUri();
-                    uri = URISupport.sanitizeUri(uri);
-                    routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
-                            getRouteLoggerLogLevel());
-                }
+    private void doStartOrResumeRouteConsumer(DefaultRouteStartupOrder order, Consumer consumer, boolean resumeOnly)
+            throws Exception {
+        Route route = order.getRoute();
+        Endpoint endpoint = consumer.getEndpoint();
+
+        // start the consumer on the route
+        LOG.debug("Route: {} >>> {}", route.getId(), route);
+        if (resumeOnly) {
+            LOG.debug("Resuming consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+        } else {
+            LOG.debug("Starting consumer (order: {}) on route: {}", order.getStartupOrder(), route.getId());
+        }
 
-                routeInputs.add(endpoint);
+        if (resumeOnly && route.supportsSuspension()) {
+            // if we are resuming and the route can be resumed
+            ServiceHelper.resumeService(consumer);
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = endpoint.getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " + route.getId() + " resumed and consuming from: " + uri,
+                    getRouteLoggerLogLevel());
+        } else {
+            // when starting we should invoke the lifecycle strategies
+            for (LifecycleStrategy strategy : abstractCamelContext.getLifecycleStrategies()) {
+                strategy.onServiceAdd(abstractCamelContext.getCamelContextReference(), consumer, route);
+            }
+            try {
+                abstractCamelContext.startService(consumer);
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            }
 
-                // add to the order which they was started, so we know how to
-                // stop them in reverse order
-                // but only add if we haven't already registered it before (we
-                // dont want to double add when restarting)
-                boolean found = false;
-                for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
-                    if (other.getRoute().getId().equals(route.getId())) {
-                        found = true;
-                        break;
-                    }
-                }
-                if (!found) {
-                    abstractCamelContext.getRouteStartupOrder().add(entry.getValue());
-                }
+            // use basic endpoint uri to not log verbose details or potential sensitive data
+            String uri = endpoint.getEndpointBaseUri();
+            uri = URISupport.sanitizeUri(uri);
+            routeLogger.log("Route: " + route.getId() + " started and consuming from: " + uri,
+                    getRouteLoggerLogLevel());
+        }
+    }
+
+    private void doAddRouteStartupOrder(DefaultRouteStartupOrder order) {
+        // add to the order which they was started, so we know how to
+        // stop them in reverse order
+        // but only add if we haven't already registered it before (we
+        // dont want to double add when restarting)
+        boolean found = false;
+        for (RouteStartupOrder other : abstractCamelContext.getRouteStartupOrder()) {
+            if (other.getRoute().getId().equals(order.getRoute().getId())) {
+                found = true;
+                break;
             }
+        }
+        if (!found) {
+            abstractCamelContext.getRouteStartupOrder().add(order);
+        }
+    }
 
-            if (resumeOnly) {
-                routeService.resume();
-            } else {
-                // and start the route service (no need to start children as
-                // they are already warmed up)
+    private void doStartOrResumeRouteService(Route route, RouteService routeService, boolean resumeOnly) throws Exception {
+        if (resumeOnly) {
+            routeService.resume();
+        } else {
+            // and start the route service (no need to start children as
+            // they are already warmed up)
+            try {
+                routeService.start();
+                route.getProperties().remove("route.start.exception");
+            } catch (Exception e) {
+                route.getProperties().put("route.start.exception", e);
+                throw e;
+            }
+        }
+    }
+
+    private boolean isParallelStartup(int routes) {
+        return routes > 1 && abstractCamelContext.getRouteController().isParallelStartup();
+    }
+
+    /**
+     * Runs the task for the given routes (in startup order) in parallel.
+     * <p/>
+     * The routes are split into groups which are run one after the other, where routes with an explicit startup order
+     * are a group of their own. Within a group the routes that consume from the same endpoint are run one after the
+     * other, and all the other routes are run concurrently. Each group is recorded as a startup step, with the steps of
+     * its routes as children, so the slowest route of each group (the critical path) can be identified.
+     */
+    private void doStartInParallel(
+            Collection<DefaultRouteStartupOrder> routes, String groupDescription, String routeDescription,
+            ThrowingConsumer<DefaultRouteStartupOrder, Exception> task)
+            throws Exception {
+        StartupStepRecorder recorder = abstractCamelContext.getStartupStepRecorder();
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+
+        ExecutorService executor
+                = abstractCamelContext.getExecutorServiceManager().newDefaultThreadPool(this, "RouteStartup");
+        try {
+            List<Collection<List<DefaultRouteStartupOrder>>> groups = groupRoutes(routes);
+            for (int i = 0; i < groups.size(); i++) {
+                Collection<List<DefaultRouteStartupOrder>> group = groups.get(i);
+                StartupStep step = recorder.beginStep(Route.class, "group-" + (i + 1), groupDescription);
                 try {
-                    routeService.start();
-                    route.getProperties().remove("route.start.exception");
-                } catch (Exception e) {
-                    route.getProperties().put("route.start.exception", e);
-                    throw e;
+                    List<Future<?>> futures = new ArrayList<>(group.size());
+                    for (List<DefaultRouteStartupOrder> chain : group) {
+                        futures.add(executor.submit(() -> {
+                            ClassLoader old = Thread.currentThread().getContextClassLoader();
+                            Thread.currentThread().setContextClassLoader(tccl);
+                            abstractCamelContext.setStartingRoutes(true);
+                            try {
+                                for (DefaultRouteStartupOrder order : chain) {
+                                    StartupStep routeStep = recorder.beginStep(step, Route.class,
+                                            order.getRoute().getRouteId(), routeDescription);
+                                    try {
+                                        task.accept(order);
+                                    } finally {
+                                        recorder.endStep(routeStep);
+                                    }
+                                }
+                            } finally {
+                                abstractCamelContext.setStartingRoutes(false);
+                                Thread.currentThread().setContextClassLoader(old);
+                            }
+                            return null;
+                        }));
+                    }
+                    // wait for all the routes in the group, and fail with the first error (in startup order)
+                    Exception cause = null;
+                    for (Future<?> future : futures) {
+                        try {
+                            future.get();
+                        } catch (ExecutionException e) {
+                            if (cause == null) {
+                                cause = e.getCause() instanceof Exception
+                                        ? (Exception) e.getCause() : new RuntimeCamelException(e.getCause());
+                            }
+                        }
+                    }
+                    if (cause != null) {
+                        throw cause;
+                    }
+                } finally {
+                    recorder.endStep(step);
                 }
             }
+        } finally {
+            abstractCamelContext.getExecutorServiceManager().shutdownNow(executor);
+        }
+    }
 
-            abstractCamelContext.getStartupStepRecorder().endStep(step);
+    /**
+     * Groups the routes (in startup order) for parallel startup. Each group is a collection of chains of routes, where
+     * the chains can run concurrently, and the routes in a chain must run one after the other.
+     */
+    private static List<Collection<List<DefaultRouteStartupOrder>>> groupRoutes(Collection<DefaultRouteStartupOrder> routes) {
+        List<Collection<List<DefaultRouteStartupOrder>>> answer = new ArrayList<>();
+        Map<Object, List<DefaultRouteStartupOrder>> group = new LinkedHashMap<>();
+        for (DefaultRouteStartupOrder order : routes) {
+            if (order.getRoute().getStartupOrder() != null) {
+                // an explicit startup order must be honoured so it is a group of its own
+                if (!group.isEmpty()) {
+                    answer.add(group.values());
+                    group = new LinkedHashMap<>();
+                }
+                List<DefaultRouteStartupOrder> chain = new ArrayList<>(1);
+                chain.add(order);
+                answer.add(Collections.singletonList(chain));
+            } else {
+                // routes sharing the same endpoint are chained
+                Consumer consumer = order.getRouteService().getInput();
+                Object key = consumer != null ? consumer.getEndpoint() : order;
+                group.computeIfAbsent(key, k -> new ArrayList<>()).add(order);
+            }
+        }
+        if (!group.isEmpty()) {
+            answer.add(group.values());
         }
+        return answer;
     }
 
     private boolean doCheckMultipleConsumerSupportClash(Endpoint endpoint, List<Endpoint> routeInputs) {
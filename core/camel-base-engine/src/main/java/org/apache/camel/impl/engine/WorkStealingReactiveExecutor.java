@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Experimental;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A work-stealing {@link ReactiveExecutor} that runs the scheduled tasks on a {@link ForkJoinPool}.
+ * <p/>
+ * Unlike {@link DefaultReactiveExecutor}, which runs the scheduled tasks on the thread that scheduled them, this
+ * executor hands over the tasks to a pool of worker threads. Tasks scheduled from a worker thread are queued on the
+ * worker's own queue, and idle workers steal queued tasks from busy workers, so the routing done on behalf of a few
+ * consumer threads can be spread across all the cores.
+ * <p/>
+ * The synchronous and queue based scheduling ({@link #scheduleSync(Runnable)}, {@link #scheduleQueue(Runnable)} and
+ * {@link #executeFromQueue()}) must run on the current thread (such as transacted routing), and is therefore delegated
+ * to a {@link DefaultReactiveExecutor}.
+ * <p/>
+ * This executor is not in use by default, but can be configured on the {@link org.apache.camel.ExtendedCamelContext}
+ * via <tt>setReactiveExecutor</tt>.
+ */
+@Experimental
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport
+        implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final DefaultReactiveExecutor local = new DefaultReactiveExecutor();
+    private CamelContext camelContext;
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+    private long shutdownTimeout = 10000;
+    private volatile ForkJoinPool pool;
+
+    // use for statistics so we have insights at runtime
+    private boolean statisticsEnabled;
+    private final LongAdder scheduledTasks = new LongAdder();
+    private final LongAdder executedTasks = new LongAdder();
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of worker threads. Is by default the number of available processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    /**
+     * Timeout in millis to wait for pending tasks to complete when stopping.
+     */
+    public void setShutdownTimeout(long shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        doSchedule(runnable);
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        // there is no notion of prioritized tasks in the pool, so its scheduled as any other task
+        doSchedule(runnable);
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        local.scheduleSync(runnable);
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        local.scheduleQueue(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        return local.executeFromQueue();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+        this.local.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @ManagedAttribute(description = "Number of tasks stolen by a worker thread from the queue of another worker thread")
+    public long getStealCount() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getStealCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks queued in the queues of the worker threads")
+    public long getQueuedTaskCount() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getQueuedTaskCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of tasks scheduled from non worker threads that are not yet running")
+    public int getQueuedSubmissionCount() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getQueuedSubmissionCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads that are currently running tasks")
+    public int getActiveThreadCount() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getActiveThreadCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads that have been started")
+    public int getPoolSize() {
+        ForkJoinPool fjp = pool;
+        return fjp != null ? fjp.getPoolSize() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of scheduled tasks (only available if statistics is enabled)")
+    public long getScheduledTasks() {
+        return scheduledTasks.sum();
+    }
+
+    @ManagedAttribute(description = "Number of executed tasks (only available if statistics is enabled)")
+    public long getExecutedTasks() {
+        return executedTasks.sum();
+    }
+
+    private void doSchedule(Runnable runnable) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Schedule: {}", runnable);
+        }
+        ForkJoinPool fjp = pool;
+        if (fjp == null) {
+            // not started (or stopped) so run on the current thread
+            local.schedule(runnable);
+            return;
+        }
+        if (statisticsEnabled) {
+            scheduledTasks.increment();
+        }
+        ForkJoinTask<?> task = ForkJoinTask.adapt(new Task(runnable));
+        Thread thread = Thread.currentThread();
+        if (thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == fjp) {
+            // push to the queue of the current worker, where it can be stolen by idle workers
+            task.fork();
+        } else {
+            fjp.execute(task);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(local);
+
+        final String name = camelContext != null
+                ? camelContext.getExecutorServiceManager().resolveThreadName("WorkStealingReactiveExecutor")
+                : "WorkStealingReactiveExecutor";
+        // the pool index is not assigned until the worker thread is started, so use a counter for the thread name
+        final AtomicInteger counter = new AtomicInteger();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            thread.setName(name + " #" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        // use async mode as the tasks are never joined, which also keeps the tasks in the order they were scheduled
+        pool = new ForkJoinPool(parallelism, factory, null, true);
+        LOG.debug("Started WorkStealingReactiveExecutor with parallelism: {}", parallelism);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ForkJoinPool fjp = pool;
+        pool = null;
+        if (fjp != null) {
+            fjp.shutdown();
+            if (!fjp.awaitTermination(shutdownTimeout, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Timeout waiting for {} pending tasks to complete. Will force shutdown.",
+                        fjp.getQueuedTaskCount() + fjp.getQueuedSubmissionCount());
+                fjp.shutdownNow();
+            }
+            if (LOG.isDebugEnabled() && statisticsEnabled) {
+                LOG.debug("Stopping WorkStealingReactiveExecutor [scheduledTasks: {}, executedTasks: {}, stealCount: {}]",
+                        getScheduledTasks(), getExecutedTasks(), fjp.getStealCount());
+            }
+        }
+        ServiceHelper.stopService(local);
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor[parallelism=" + parallelism + "]";
+    }
+
+    private final class Task implements Runnable {
+
+        private final Runnable runnable;
+
+        private Task(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("Running: {}", runnable);
+                }
+                runnable.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            } finally {
+                if (statisticsEnabled) {
+                    executedTasks.increment();
+                }
+            }
+        }
+    }
+
+}
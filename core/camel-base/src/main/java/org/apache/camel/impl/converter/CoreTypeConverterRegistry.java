@@ -17,7 +17,9 @@
 package org.apache.camel.impl.converter;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -38,6 +40,7 @@ import org.apache.camel.converter.ObjectConverter;
 import org.apache.camel.spi.BulkTypeConverters;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.spi.Injector;
+import org.apache.camel.spi.TypeConverterLoader;
 import org.apache.camel.spi.TypeConverterRegistry;
 import org.apache.camel.support.MessageHelper;
 import org.apache.camel.support.TypeConverterSupport;
@@ -62,6 +65,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final List<BulkTypeConverters> bulkTypeConverters = new ArrayList<>();
     // custom type converters (from camel components and end users)
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
+    // the resolved converters for converting between two types, which is cleared when the type converters are changed
+    protected final DoubleMap<Class<?>, Class<?>, TypeConverterDispatch> dispatchTable = new DoubleMap<>(16);
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
     // special enum converter for optional performance
@@ -73,12 +78,15 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder resolveCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Override;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.WARN;
 
     // to keep track of number of converters in the bulked classes
     private int sumBulkTypeConverters;
+    // incremented when the dispatch table is cleared, to not add stale entries resolved before it was cleared
+    private volatile int dispatchVersion;
 
     public CoreTypeConverterRegistry() {
     }
@@ -448,26 +456,34 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             attemptCounter.increment();
         }
 
+        // lookup the converters to use, which are only resolved the first time (slow path)
+        final Class<?> fromType = value.getClass();
+        final int version = dispatchVersion;
+        TypeConverterDispatch dispatch = dispatchTable.get(type, fromType);
+        if (dispatch == null) {
+            if (statisticsEnabled) {
+                resolveCounter.increment();
+            }
+            dispatch = resolveDispatch(type, fromType);
+            putDispatch(type, fromType, dispatch, version);
+        }
+
         // attempt bulk first which is the fastest
-        for (BulkTypeConverters bulk : bulkTypeConverters) {
+        for (BulkTypeConverters bulk : dispatch.bulks) {
             if (trace) {
-                LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), value.getClass(),
-                        type);
+                LOG.trace("Using bulk converter: {} to convert [{}=>{}]", bulk.getClass().getSimpleName(), fromType, type);
             }
-            Object rc;
-
-            rc = bulk.convertTo(value.getClass(), type, exchange, value);
-
+            Object rc = bulk.convertTo(fromType, type, exchange, value);
             if (rc != null) {
                 return rc;
             }
         }
 
         // try to find a suitable type converter
-        TypeConverter converter = getOrFindTypeConverter(type, value.getClass());
+        TypeConverter converter = dispatch.converter;
         if (converter != null) {
             if (trace) {
-                LOG.trace("Using converter: {} to convert [{}=>{}]", converter, value.getClass(), type);
+                LOG.trace("Using converter: {} to convert [{}=>{}]", converter, fromType, type);
             }
             Object rc;
             if (tryConvert) {
@@ -486,7 +502,6 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (type.isPrimitive()) {
             Class<?> primitiveType = ObjectHelper.convertPrimitiveTypeToWrapperType(type);
             if (primitiveType != type) {
-                Class<?> fromType = value.getClass();
                 TypeConverter tc = getOrFindTypeConverter(primitiveType, fromType);
                 if (tc != null) {
                     // add the type as a known type converter as we can convert from primitive to object converter
@@ -534,7 +549,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                                 type.getCanonicalName(), value.getClass().getCanonicalName(),
                                 fallback.getFallbackTypeConverter());
                     }
-                    addTypeConverter(type, value.getClass(), fallback.getFallbackTypeConverter());
+                    addTypeConverter(type, fromType, fallback.getFallbackTypeConverter());
                 }
 
                 if (LOG.isTraceEnabled()) {
@@ -550,13 +565,94 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (!tryConvert) {
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
-            typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            typeMappings.put(type, fromType, MISS_CONVERTER);
+            putDispatch(type, fromType, new TypeConverterDispatch(dispatch.bulks, MISS_CONVERTER), version);
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
         return TypeConverter.MISS_VALUE;
     }
 
+    /**
+     * Resolves the bulk converters and the type converter (which may be a match on a super type or interface) to use
+     * for converting between the given types.
+     */
+    protected TypeConverterDispatch resolveDispatch(Class<?> toType, Class<?> fromType) {
+        List<BulkTypeConverters> bulks = new ArrayList<>(1);
+        if (fromType.isArray() && !fromType.getComponentType().isPrimitive()) {
+            // arrays are covariant so any of the bulk converters may be able to convert
+            bulks.addAll(bulkTypeConverters);
+        } else {
+            // the bulk converters convert values which are an instance of the types they can convert from
+            Set<Class<?>> types = new LinkedHashSet<>();
+            collectTypes(fromType, types);
+            for (BulkTypeConverters bulk : bulkTypeConverters) {
+                if (!(bulk instanceof TypeConverterLoader)) {
+                    // only the generated bulk converters (which are also loaders) are known to expose all their
+                    // conversions via lookup, so custom bulk converters must always be tried
+                    bulks.add(bulk);
+                    continue;
+                }
+                for (Class<?> type : types) {
+                    if (bulk.lookup(toType, type) != null) {
+                        bulks.add(bulk);
+                        break;
+                    }
+                }
+            }
+        }
+        TypeConverter converter = getOrFindTypeConverter(toType, fromType);
+        LOG.trace("Resolved bulk converters: {} and converter: {} to convert [{}=>{}]", bulks, converter, fromType, toType);
+        return new TypeConverterDispatch(bulks.toArray(new BulkTypeConverters[0]), converter);
+    }
+
+    private static void collectTypes(Class<?> type, Set<Class<?>> types) {
+        while (type != null && types.add(type)) {
+            for (Class<?> i : type.getInterfaces()) {
+                collectTypes(i, types);
+            }
+            type = type.getSuperclass();
+        }
+        types.add(Object.class);
+    }
+
+    private void putDispatch(Class<?> toType, Class<?> fromType, TypeConverterDispatch dispatch, int version) {
+        synchronized (dispatchTable) {
+            if (version == dispatchVersion) {
+                dispatchTable.put(toType, fromType, dispatch);
+            }
+        }
+    }
+
+    /**
+     * Clears the resolved converters, which must be done when the type converters have been changed.
+     */
+    protected void clearDispatchTable() {
+        synchronized (dispatchTable) {
+            dispatchVersion++;
+            dispatchTable.clear();
+        }
+    }
+
+    /**
+     * Clears the resolved converters which may use a type converter added for converting between the given types, which
+     * are the converters from the given type or any of its sub types.
+     */
+    protected void clearDispatch(Class<?> toType, Class<?> fromType) {
+        synchronized (dispatchTable) {
+            dispatchVersion++;
+            List<Class<?>> fromTypes = new ArrayList<>(1);
+            dispatchTable.forEach((k1, k2, v) -> {
+                if (k1 == toType && fromType.isAssignableFrom(k2)) {
+                    fromTypes.add(k2);
+                }
+            });
+            for (Class<?> type : fromTypes) {
+                dispatchTable.remove(toType, type);
+            }
+        }
+    }
+
     public TypeConverter getTypeConverter(Class<?> toType, Class<?> fromType) {
         return typeMappings.get(toType, fromType);
     }
@@ -572,6 +668,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            clearDispatchTable();
         }
     }
 
@@ -603,13 +700,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                clearDispatch(toType, fromType);
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean removed = typeMappings.remove(toType, fromType);
+        clearDispatchTable();
+        return removed;
     }
 
     @Override
@@ -762,6 +862,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        clearDispatchTable();
         statistics.reset();
     }
 
@@ -797,6 +898,11 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getResolveCounter() {
+            return resolveCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -804,6 +910,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            resolveCounter.reset();
         }
 
         @Override
@@ -818,8 +925,32 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, resolves=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getResolveCounter());
+        }
+    }
+
+    /**
+     * The resolved converters for converting between two types. A dispatch without any converters is the cached result
+     * that only the fallback converters can be used.
+     */
+    protected static final class TypeConverterDispatch {
+        private final BulkTypeConverters[] bulks;
+        private final TypeConverter converter;
+
+        TypeConverterDispatch(BulkTypeConverters[] bulks, TypeConverter converter) {
+            this.bulks = bulks;
+            this.converter = converter;
+        }
+
+        public BulkTypeConverters[] getBulks() {
+            return bulks;
+        }
+
+        public TypeConverter getConverter() {
+            return converter;
         }
     }
 
@@ -1996,6 +1996,16 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
                 throw new UnsupportedOperationException();
             }
 
+            @Override
+            public boolean isParallelStartup() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void setParallelStartup(boolean parallelStartup) {
+                throw new UnsupportedOperationException();
+            }
+
             @Override
             public boolean isSupervising() {
                 return false;
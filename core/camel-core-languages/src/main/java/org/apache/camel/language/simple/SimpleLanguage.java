@@ -51,6 +51,7 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     boolean allowEscape = true;
 
     // use caches to avoid re-parsing the same expressions over and over again
+    // (the caches are lock-free as they are in use by dynamic EIPs such as toD and recipient list)
     private Map<String, Expression> cacheExpression;
     private Map<String, Predicate> cachePredicate;
 
@@ -66,8 +67,8 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         if (cacheExpression == null && cachePredicate == null && getCamelContext() != null) {
             int maxSize = CamelContextHelper.getMaximumSimpleCacheSize(getCamelContext());
             if (maxSize > 0) {
-                cacheExpression = LRUCacheFactory.newLRUCache(16, maxSize, false);
-                cachePredicate = LRUCacheFactory.newLRUCache(16, maxSize, false);
+                cacheExpression = LRUCacheFactory.newLFUCache(16, maxSize);
+                cachePredicate = LRUCacheFactory.newLFUCache(16, maxSize);
                 LOG.debug("Simple language predicate/expression cache size: {}", maxSize);
             } else {
                 LOG.debug("Simple language disabled predicate/expression cache");
@@ -102,6 +103,22 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
         }
     }
 
+    /**
+     * Gets the cache of parsed expressions, or <tt>null</tt> if caching is disabled
+     */
+    @SuppressWarnings("unchecked")
+    public LRUCache<String, Expression> getExpressionCache() {
+        return cacheExpression instanceof LRUCache ? (LRUCache<String, Expression>) cacheExpression : null;
+    }
+
+    /**
+     * Gets the cache of parsed predicates, or <tt>null</tt> if caching is disabled
+     */
+    @SuppressWarnings("unchecked")
+    public LRUCache<String, Predicate> getPredicateCache() {
+        return cachePredicate instanceof LRUCache ? (LRUCache<String, Predicate>) cachePredicate : null;
+    }
+
     @Override
     public Predicate createPredicate(String expression) {
         ObjectHelper.notNull(expression, "expression");
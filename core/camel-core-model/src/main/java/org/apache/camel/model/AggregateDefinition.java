@@ -81,6 +81,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String parallelAggregation;
+    @XmlAttribute
     private String executorServiceRef;
     @XmlAttribute
     private String timeoutCheckerExecutorServiceRef;
@@ -467,6 +470,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getParallelAggregation() {
+        return parallelAggregation;
+    }
+
+    public void setParallelAggregation(String parallelAggregation) {
+        this.parallelAggregation = parallelAggregation;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -1041,6 +1052,18 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on parallel aggregation, where exchanges with different correlation keys are aggregated in parallel,
+     * instead of aggregating one exchange at a time. Exchanges with the same correlation key are still aggregated one
+     * at a time in the order they arrive. This cannot be used together with optimistic locking,
+     * completionFromBatchConsumer or completionOnNewCorrelationGroup, and the aggregationRepository must be thread
+     * safe.
+     */
+    public AggregateDefinition parallelAggregation() {
+        setParallelAggregation(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
@@ -79,6 +79,12 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String stopOnAggregateException;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Integer")
+    private String maxInflight;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String orderedAggregation;
 
     public SplitDefinition() {
     }
@@ -320,6 +326,68 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * The maximum number of splitted messages in flight when parallelProcessing is used, which are the messages that
+     * are being processed or are waiting to be aggregated. When the limit is reached, then the splitter does not split
+     * the next message until a message has been aggregated. When used together with streaming, then a huge message can
+     * be splitted and processed in parallel using a bounded amount of memory. By default there is no limit.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxInflight(int maxInflight) {
+        return maxInflight(Integer.toString(maxInflight));
+    }
+
+    /**
+     * The maximum number of splitted messages in flight when parallelProcessing is used, which are the messages that
+     * are being processed or are waiting to be aggregated. When the limit is reached, then the splitter does not split
+     * the next message until a message has been aggregated. When used together with streaming, then a huge message can
+     * be splitted and processed in parallel using a bounded amount of memory. By default there is no limit.
+     *
+     * @return the builder
+     */
+    public SplitDefinition maxInflight(String maxInflight) {
+        setMaxInflight(maxInflight);
+        return this;
+    }
+
+    /**
+     * If enabled then the replies are aggregated in the same order as the messages were splitted, also when in
+     * streaming mode (in non-streaming mode the replies are always aggregated in order). When used together with
+     * maxInflight, then a slow message holds back the aggregation of the messages splitted after it, and the splitter
+     * waits to split more messages until the slow message has been aggregated.
+     *
+     * @return the builder
+     */
+    public SplitDefinition orderedAggregation() {
+        return orderedAggregation(true);
+    }
+
+    /**
+     * If enabled then the replies are aggregated in the same order as the messages were splitted, also when in
+     * streaming mode (in non-streaming mode the replies are always aggregated in order). When used together with
+     * maxInflight, then a slow message holds back the aggregation of the messages splitted after it, and the splitter
+     * waits to split more messages until the slow message has been aggregated.
+     *
+     * @return the builder
+     */
+    public SplitDefinition orderedAggregation(boolean orderedAggregation) {
+        return orderedAggregation(Boolean.toString(orderedAggregation));
+    }
+
+    /**
+     * If enabled then the replies are aggregated in the same order as the messages were splitted, also when in
+     * streaming mode (in non-streaming mode the replies are always aggregated in order). When used together with
+     * maxInflight, then a slow message holds back the aggregation of the messages splitted after it, and the splitter
+     * waits to split more messages until the slow message has been aggregated.
+     *
+     * @return the builder
+     */
+    public SplitDefinition orderedAggregation(String orderedAggregation) {
+        setOrderedAggregation(orderedAggregation);
+        return this;
+    }
+
     /**
      * When in streaming mode, then the splitter splits the original message on-demand, and each splitted message is
      * processed one by one. This reduces memory usage as the splitter do not split all the messages first, but then we
@@ -601,6 +669,22 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.stopOnAggregateException = stopOnAggregateException;
     }
 
+    public String getMaxInflight() {
+        return maxInflight;
+    }
+
+    public void setMaxInflight(String maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    public String getOrderedAggregation() {
+        return orderedAggregation;
+    }
+
+    public void setOrderedAggregation(String orderedAggregation) {
+        this.orderedAggregation = orderedAggregation;
+    }
+
     public String getStopOnException() {
         return stopOnException;
     }
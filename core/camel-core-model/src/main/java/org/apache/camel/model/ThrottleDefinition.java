@@ -58,6 +58,9 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
     @XmlAttribute
     @Metadata(javaType = "java.lang.Boolean")
     private String rejectExecution;
+    @XmlAttribute
+    @Metadata(javaType = "java.lang.Boolean")
+    private String tokenBucket;
 
     public ThrottleDefinition() {
     }
@@ -249,6 +252,43 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         return this;
     }
 
+    /**
+     * Enables the token bucket throttler, which calculates the time each exchange is allowed to continue, instead of
+     * using a queue of permits per correlation key. The exchanges are spaced evenly, with a burst of up to the maximum
+     * requests per period. Delayed exchanges block the thread while delaying, unless asyncDelayed is enabled, where
+     * they are scheduled to continue routing instead (except for transacted exchanges).
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket() {
+        return tokenBucket(true);
+    }
+
+    /**
+     * Enables the token bucket throttler, which calculates the time each exchange is allowed to continue, instead of
+     * using a queue of permits per correlation key. The exchanges are spaced evenly, with a burst of up to the maximum
+     * requests per period. Delayed exchanges block the thread while delaying, unless asyncDelayed is enabled, where
+     * they are scheduled to continue routing instead (except for transacted exchanges).
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket(boolean tokenBucket) {
+        return tokenBucket(Boolean.toString(tokenBucket));
+    }
+
+    /**
+     * Enables the token bucket throttler, which calculates the time each exchange is allowed to continue, instead of
+     * using a queue of permits per correlation key. The exchanges are spaced evenly, with a burst of up to the maximum
+     * requests per period. Delayed exchanges block the thread while delaying, unless asyncDelayed is enabled, where
+     * they are scheduled to continue routing instead (except for transacted exchanges).
+     *
+     * @return the builder
+     */
+    public ThrottleDefinition tokenBucket(String tokenBucket) {
+        setTokenBucket(tokenBucket);
+        return this;
+    }
+
     /**
      * To use a custom thread pool (ScheduledExecutorService) by the throttler.
      *
@@ -337,6 +377,14 @@ public class ThrottleDefinition extends ExpressionNode implements ExecutorServic
         this.rejectExecution = rejectExecution;
     }
 
+    public String getTokenBucket() {
+        return tokenBucket;
+    }
+
+    public void setTokenBucket(String tokenBucket) {
+        this.tokenBucket = tokenBucket;
+    }
+
     /**
      * The expression used to calculate the correlation key to use for throttle grouping. The Exchange which has the
      * same correlation key is throttled together.
@@ -171,6 +171,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInflight;
+    private boolean orderedAggregation;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -395,6 +397,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean waiting = new AtomicBoolean();
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -423,10 +426,15 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.mdc = null;
             }
+            // when limiting the in flight exchanges, then the exchanges waiting to be aggregated in order
+            // are bounded by the limit as well
+            boolean ordered = !isStreaming() || orderedAggregation;
             if (capacity > 0) {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock, capacity);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, capacity);
+            } else if (maxInflight > 0) {
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock, maxInflight);
             } else {
-                this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
+                this.completion = new AsyncCompletionService<>(scheduler, ordered, lock);
             }
         }
 
@@ -451,6 +459,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                         doAggregate(result, exchange, original);
                         if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
                             doDone(result.get(), true);
+                        } else if (maxInflight > 0) {
+                            scheduleNextIfBelowMaxInflight();
                         }
                     }
                 } catch (Throwable e) {
@@ -463,6 +473,16 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Schedules this task to send the next exchange, if it is waiting to do so and the number of exchanges which
+         * are sent but not yet aggregated is below the max inflight limit.
+         */
+        protected void scheduleNextIfBelowMaxInflight() {
+            if (nbExchangeSent.get() - nbAggregated.get() < maxInflight && waiting.compareAndSet(true, false)) {
+                schedule(this);
+            }
+        }
+
         protected void timeout() {
             Lock lock = this.lock;
             if (lock.tryLock()) {
@@ -589,7 +609,14 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
                 if (hasNext && isParallelProcessing()) {
-                    schedule(this);
+                    if (maxInflight > 0) {
+                        // only move on if below the limit, otherwise the next pair is sent
+                        // when one of the pairs in flight has been aggregated
+                        waiting.set(true);
+                        scheduleNextIfBelowMaxInflight();
+                    } else {
+                        schedule(this);
+                    }
                 }
             } catch (Exception e) {
                 original.setException(e);
@@ -1263,6 +1290,30 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    public int getMaxInflight() {
+        return maxInflight;
+    }
+
+    /**
+     * The maximum number of exchanges in flight when using parallel processing, which are the exchanges that are being
+     * processed or are waiting to be aggregated. When the limit is reached, then the next exchange is not created (such
+     * as splitting the next part from a stream) until an exchange has been aggregated. By default there is no limit.
+     */
+    public void setMaxInflight(int maxInflight) {
+        this.maxInflight = maxInflight;
+    }
+
+    public boolean isOrderedAggregation() {
+        return orderedAggregation;
+    }
+
+    /**
+     * Whether to aggregate the replies in the same order as the exchanges were sent, also when in streaming mode.
+     */
+    public void setOrderedAggregation(boolean orderedAggregation) {
+        this.orderedAggregation = orderedAggregation;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
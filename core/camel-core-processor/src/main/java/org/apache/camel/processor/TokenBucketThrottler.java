@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.camel.AsyncCallback;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link Throttler} which uses a token bucket (implemented as the generic cell rate algorithm) per correlation key,
+ * instead of a queue of permits.
+ * <p/>
+ * Each correlation key only keeps the theoretical arrival time of the next exchange, which is updated lock-free, and
+ * from which the time an exchange is allowed to continue is calculated. The exchanges are spaced by timePeriodMillis /
+ * maxRequestsPerPeriod (the emission interval), with a burst tolerance of (maxRequestsPerPeriod - 1) emission
+ * intervals. This means that an idle throttler lets a burst of up to maxRequestsPerPeriod exchanges through, after
+ * which the exchanges are spaced by the emission interval. Unlike the rolling window of the {@link Throttler}, up to (2
+ * * maxRequestsPerPeriod - 1) exchanges may therefore be allowed within a single timePeriodMillis following a burst,
+ * while the long running rate is maxRequestsPerPeriod per timePeriodMillis.
+ * <p/>
+ * An exchange that must be delayed reserves its slot, and is delayed on the current thread, unless asyncDelayed is
+ * enabled, where the exchange is scheduled to continue routing (via the reactive executor) when the slot is due, so the
+ * thread does not block while delaying. Transacted exchanges are always delayed on the current thread, as they must be
+ * processed by the same thread.
+ */
+public class TokenBucketThrottler extends Throttler {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenBucketThrottler.class);
+
+    private static final String DEFAULT_KEY = "CamelThrottlerDefaultKey";
+
+    private final CamelContext camelContext;
+    private final ScheduledExecutorService asyncExecutor;
+    private final Expression correlationExpression;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private ReactiveExecutor reactiveExecutor;
+    private ScheduledFuture<?> cleanFuture;
+
+    public TokenBucketThrottler(final CamelContext camelContext, final Expression maxRequestsPerPeriodExpression,
+                                final long timePeriodMillis,
+                                final ScheduledExecutorService asyncExecutor, final boolean shutdownAsyncExecutor,
+                                final boolean rejectExecution, Expression correlation) {
+        super(camelContext, maxRequestsPerPeriodExpression, timePeriodMillis, asyncExecutor, shutdownAsyncExecutor,
+              rejectExecution, correlation);
+        this.camelContext = camelContext;
+        this.asyncExecutor = asyncExecutor;
+        this.correlationExpression = correlation;
+    }
+
+    @Override
+    public boolean process(final Exchange exchange, final AsyncCallback callback) {
+        try {
+            if (!isRunAllowed()) {
+                throw new RejectedExecutionException("Run is not allowed");
+            }
+
+            String key = DEFAULT_KEY;
+            if (correlationExpression != null) {
+                key = correlationExpression.evaluate(exchange, String.class);
+            }
+            TokenBucket bucket = buckets.computeIfAbsent(key, k -> new TokenBucket());
+            int rate = bucket.calculateAndSetMaxRequestsPerPeriod(exchange);
+
+            long delay = bucket.acquire(rate, TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis()), isRejectExecution());
+            if (delay < 0) {
+                throw new ThrottlerRejectedExecutionException(
+                        "Exceeded the max throttle rate of " + rate + " within " + getTimePeriodMillis() + "ms");
+            } else if (delay == 0) {
+                if (LOG.isTraceEnabled()) {
+                    LOG.trace("No throttling applied to exchangeId: {}", exchange.getExchangeId());
+                }
+            } else if (!isAsyncDelayed() || exchange.isTransacted()) {
+                delay(exchange, delay);
+            } else {
+                return processDelayed(exchange, callback, delay);
+            }
+        } catch (final Throwable t) {
+            exchange.setException(t);
+        }
+        callback.done(true);
+        return true;
+    }
+
+    /**
+     * Schedules the exchange to continue routing after the delay, or if the executor rejects the task and
+     * isCallerRunsWhenRejected() is enabled, then delay on the current thread.
+     */
+    protected boolean processDelayed(final Exchange exchange, final AsyncCallback callback, long delay) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Throttled for {}ms, scheduling to continue routing exchangeId: {}",
+                    TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+        }
+        try {
+            asyncExecutor.schedule(() -> reactiveExecutor.schedule(() -> {
+                if (!isRunAllowed()) {
+                    exchange.setException(new RejectedExecutionException("Run is not allowed"));
+                }
+                callback.done(false);
+            }), delay, TimeUnit.NANOSECONDS);
+            return false;
+        } catch (final RejectedExecutionException e) {
+            if (isCallerRunsWhenRejected()) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("AsyncExecutor is full, rejected exchange will be delayed in the current thread, exchangeId: {}",
+                            exchange.getExchangeId());
+                }
+                delay(exchange, delay);
+            } else {
+                exchange.setException(e);
+            }
+            callback.done(true);
+            return true;
+        }
+    }
+
+    private void delay(Exchange exchange, long delay) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Throttled for {}ms, exchangeId: {}", TimeUnit.NANOSECONDS.toMillis(delay), exchange.getExchangeId());
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // determine if we can still run, or the camel context is forcing a shutdown
+            boolean forceShutdown = exchange.getContext().getShutdownStrategy().isForceShutdown();
+            if (forceShutdown) {
+                String msg = "Run not allowed as ShutdownStrategy is forcing shutting down, will reject executing exchange: "
+                             + exchange;
+                LOG.debug(msg);
+                exchange.setException(new RejectedExecutionException(msg, e));
+            } else {
+                exchange.setException(e);
+            }
+        }
+    }
+
+    /**
+     * Removes the buckets of the correlation keys which have not been used for a while
+     */
+    private void clean() {
+        long now = System.nanoTime();
+        long idle = TimeUnit.MILLISECONDS.toNanos(getTimePeriodMillis());
+        buckets.values().removeIf(bucket -> now - bucket.tat.get() > idle);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+        // the executor is always used for cleaning the buckets
+        ObjectHelper.notNull(asyncExecutor, "executorService", this);
+        reactiveExecutor = camelContext.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        long period = getTimePeriodMillis() * 10;
+        cleanFuture = asyncExecutor.scheduleWithFixedDelay(this::clean, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (cleanFuture != null) {
+            cleanFuture.cancel(false);
+            cleanFuture = null;
+        }
+        super.doStop();
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        buckets.clear();
+        super.doShutdown();
+    }
+
+    @Override
+    public int getCurrentMaximumRequestsPerPeriod() {
+        return buckets.values().stream().mapToInt(TokenBucket::getThrottleRate).max().orElse(0);
+    }
+
+    private final class TokenBucket {
+        // the theoretical arrival time (in nanos) of the next exchange if the exchanges arrive at the throttle rate
+        private final AtomicLong tat = new AtomicLong(System.nanoTime());
+        private volatile int throttleRate;
+
+        int getThrottleRate() {
+            return throttleRate;
+        }
+
+        /**
+         * Acquires a slot for an exchange
+         *
+         * @return the delay in nanos until the exchange is allowed to continue, or -1 if the exchange should be
+         *         rejected
+         */
+        long acquire(int rate, long period, boolean reject) {
+            // the time between each exchange at the throttle rate
+            final long interval = period / rate;
+            while (true) {
+                long now = System.nanoTime();
+                long current = tat.get();
+                long next = Math.max(current, now) + interval;
+                // the burst tolerance is (rate - 1) intervals ahead of the previous slot, so an idle bucket lets a
+                // burst of up to the throttle rate through, after which the exchanges are spaced by the interval
+                long delay = next - interval - (rate - 1) * interval - now;
+                if (delay > 0 && reject) {
+                    return -1;
+                }
+                if (tat.compareAndSet(current, next)) {
+                    return Math.max(delay, 0);
+                }
+            }
+        }
+
+        /**
+         * Evaluates the maxRequestsPerPeriodExpression and adjusts the throttle rate up or down.
+         */
+        int calculateAndSetMaxRequestsPerPeriod(final Exchange exchange) throws Exception {
+            Integer newThrottle = getMaximumRequestsPerPeriodExpression().evaluate(exchange, Integer.class);
+
+            if (newThrottle != null && newThrottle <= 0) {
+                throw new IllegalStateException("The maximumRequestsPerPeriod must be a positive number, was: " + newThrottle);
+            }
+
+            if (newThrottle == null && throttleRate == 0) {
+                throw new RuntimeExchangeException(
+                        "The maxRequestsPerPeriodExpression was evaluated as null: " + getMaximumRequestsPerPeriodExpression(),
+                        exchange);
+            }
+
+            if (newThrottle != null && newThrottle != throttleRate) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Throttle rate changed from {} to {}, triggered by ExchangeId: {}", throttleRate,
+                            newThrottle, exchange.getExchangeId());
+                }
+                throttleRate = newThrottle;
+            }
+            return throttleRate;
+        }
+    }
+
+    @Override
+    public String getTraceLabel() {
+        return "throttle[" + getMaximumRequestsPerPeriodExpression() + " per: " + getTimePeriodMillis() + " (token bucket)]";
+    }
+}
@@ -69,6 +69,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.StripedLock;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -92,6 +93,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     public static final String AGGREGATE_TIMEOUT_CHECKER = "AggregateTimeoutChecker";
     public static final String AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR = "AggregateOptimisticLockingExecutor";
 
+    public static final int DEFAULT_PARALLEL_AGGREGATION_LOCK_STRIPES = 64;
+
     public static final String COMPLETED_BY_SIZE = "size";
     public static final String COMPLETED_BY_PREDICATE = "predicate";
     public static final String COMPLETED_BY_CONSUMER = "consumer";
@@ -103,6 +106,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
 
     private volatile Lock lock;
+    private volatile StripedLock stripedLock;
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -230,6 +234,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private boolean parallelAggregation;
+    private int parallelAggregationLockStripes = DEFAULT_PARALLEL_AGGREGATION_LOCK_STRIPES;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -401,14 +407,25 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroups(copy);
         removeFlagCompleteAllGroupsInclusive(copy);
 
+        // in parallel aggregation mode we only need to lock the correlation key
+        final StripedLock striped = stripedLock;
+        final Lock aggregationLock = striped != null ? striped.getLock(key) : lock;
+        final AtomicBoolean forceCompletionOfAllGroups = striped != null ? new AtomicBoolean() : null;
+
         List<Exchange> aggregated = null;
-        lock.lock();
+        aggregationLock.lock();
         try {
-            aggregated = doAggregation(key, copy);
+            aggregated = doAggregation(key, copy, forceCompletionOfAllGroups);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            aggregationLock.unlock();
+        }
+
+        if (forceCompletionOfAllGroups != null && forceCompletionOfAllGroups.get()) {
+            // in parallel aggregation mode we cannot force completion of all groups while holding the lock of the
+            // correlation key, so its done after the lock has been released
+            forceCompletionOfAllGroups();
         }
 
         // we are completed so do that work outside the lock
@@ -470,11 +487,15 @@ public class AggregateProcessor extends AsyncProcessorSupport
      *
      * @param  key                                     the correlation key
      * @param  newExchange                             the exchange
+     * @param  forceCompletionOfAllGroups              in parallel aggregation mode this is set to <tt>true</tt> if all
+     *                                                 groups should be force completed after the lock has been
+     *                                                 released, is <tt>null</tt> otherwise
      * @return                                         the aggregated exchange(s) which is complete, or <tt>null</tt> if
      *                                                 not yet complete
      * @throws org.apache.camel.CamelExchangeException is thrown if error aggregating
      */
-    private List<Exchange> doAggregation(String key, Exchange newExchange) throws CamelExchangeException {
+    private List<Exchange> doAggregation(String key, Exchange newExchange, AtomicBoolean forceCompletionOfAllGroups)
+            throws CamelExchangeException {
         LOG.trace("onAggregation +++ start +++ with correlation key: {}", key);
 
         List<Exchange> list = new ArrayList<>();
@@ -574,7 +595,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (forceCompletionOfAllGroups != null) {
+                forceCompletionOfAllGroups.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -1092,6 +1117,30 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public boolean isParallelAggregation() {
+        return parallelAggregation;
+    }
+
+    /**
+     * Whether exchanges with different correlation keys can be aggregated in parallel, instead of aggregating one
+     * exchange at a time. Exchanges with the same correlation key are still aggregated one at a time.
+     */
+    public void setParallelAggregation(boolean parallelAggregation) {
+        this.parallelAggregation = parallelAggregation;
+    }
+
+    public int getParallelAggregationLockStripes() {
+        return parallelAggregationLockStripes;
+    }
+
+    /**
+     * Number of lock stripes the correlation keys are spread over in parallel aggregation mode. Correlation keys mapped
+     * to the same stripe are aggregated one at a time.
+     */
+    public void setParallelAggregationLockStripes(int parallelAggregationLockStripes) {
+        this.parallelAggregationLockStripes = parallelAggregationLockStripes;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1236,7 +1285,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
             // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
+            // (unless the correlation keys can be aggregated in parallel)
+            super(executor, requestMapPollTimeMillis, optimisticLocking || parallelAggregation);
             addListener(this::onEviction);
         }
 
@@ -1505,6 +1555,22 @@ public class AggregateProcessor extends AsyncProcessorSupport
             }
             LOG.info("Optimistic locking is enabled");
         }
+        if (parallelAggregation) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException(
+                        "Only one of parallelAggregation or optimisticLocking can be used, not both.");
+            }
+            // these completions work across all the correlation keys and requires aggregating one exchange at a time
+            if (isCompletionFromBatchConsumer()) {
+                throw new IllegalArgumentException(
+                        "Parallel aggregation cannot be used together with completionFromBatchConsumer");
+            }
+            if (isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Parallel aggregation cannot be used together with completionOnNewCorrelationGroup");
+            }
+            LOG.info("Parallel aggregation is enabled using {} lock stripes", parallelAggregationLockStripes);
+        }
 
         ServiceHelper.startService(aggregationStrategy, processor, aggregationRepository);
 
@@ -1582,6 +1648,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
         }
         aggregateController.onStart(this);
 
+        stripedLock = null;
         if (optimisticLocking) {
             lock = NoLock.INSTANCE;
             if (getOptimisticLockingExecutorService() == null) {
@@ -1589,6 +1656,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (parallelAggregation) {
+            // locking the striped lock itself is exclusive to all correlation keys, which is needed by
+            // the completion tasks that work across the correlation keys
+            stripedLock = new StripedLock(parallelAggregationLockStripes);
+            lock = stripedLock;
         } else {
             lock = new ReentrantLock();
         }
@@ -124,6 +124,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLocking != null) {
             answer.setOptimisticLocking(optimisticLocking);
         }
+        Boolean parallelAggregation = parseBoolean(definition.getParallelAggregation());
+        if (parallelAggregation != null) {
+            answer.setParallelAggregation(parallelAggregation);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
@@ -55,6 +55,11 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
         if (timeout > 0 && !isParallelProcessing) {
             throw new IllegalArgumentException("Timeout is used but ParallelProcessing has not been enabled.");
         }
+        int maxInflight = parseInt(definition.getMaxInflight(), 0);
+        if (maxInflight > 0 && !isParallelProcessing) {
+            throw new IllegalArgumentException("MaxInflight is used but ParallelProcessing has not been enabled.");
+        }
+        boolean isOrderedAggregation = parseBoolean(definition.getOrderedAggregation(), false);
         String ref = parseString(definition.getOnPrepareRef());
         if (ref != null) {
             definition.setOnPrepare(mandatoryLookup(ref, Processor.class));
@@ -75,6 +80,8 @@ public class SplitReifier extends ExpressionReifier<SplitDefinition> {
                     threadPool, shutdownThreadPool, isStreaming, isStopOnException, timeout, definition.getOnPrepare(),
                     isShareUnitOfWork, isParallelAggregate, isStopOnAggregateException);
         }
+        answer.setMaxInflight(maxInflight);
+        answer.setOrderedAggregation(isOrderedAggregation);
 
         return answer;
     }
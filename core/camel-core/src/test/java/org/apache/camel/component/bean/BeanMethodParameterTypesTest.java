@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanMethodParameterTypesTest extends ContextTestSupport {
+
+    @Test
+    public void testPrimitiveParameters() throws Exception {
+        assertEquals("Hello World 3 true", template.requestBodyAndHeader("direct:primitive", "Hello World", "count", 3));
+        // the header is converted to the primitive type
+        assertEquals("Hello World 5 true", template.requestBodyAndHeader("direct:primitive", "Hello World", "count", "5"));
+    }
+
+    @Test
+    public void testPrimitiveReturnType() throws Exception {
+        assertEquals(11, template.requestBody("direct:length", "Hello World"));
+    }
+
+    @Test
+    public void testVoidMethod() throws Exception {
+        assertEquals("Hello World", template.requestBody("direct:void", "Hello World"));
+    }
+
+    @Test
+    public void testStaticMethod() throws Exception {
+        assertEquals("HELLO WORLD", template.requestBody("direct:static", "Hello World"));
+    }
+
+    @Test
+    public void testVarargsMethod() throws Exception {
+        assertEquals("Hello,World", template.requestBody("direct:varargs", new String[] { "Hello", "World" }));
+    }
+
+    @Test
+    public void testMethodThrowsException() throws Exception {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:fail", "Hello World"));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        assertEquals("Forced Hello World", e.getCause().getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                MyBean bean = new MyBean();
+
+                from("direct:primitive").bean(bean, "greet(${body}, ${header.count}, true)");
+                from("direct:length").bean(bean, "length");
+                from("direct:void").bean(bean, "ping");
+                from("direct:static").bean(MyBean.class, "upper");
+                from("direct:varargs").bean(bean, "join");
+                from("direct:fail").bean(bean, "fail");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        public String greet(String body, int count, boolean flag) {
+            return body + " " + count + " " + flag;
+        }
+
+        public int length(String body) {
+            return body.length();
+        }
+
+        public void ping(String body) {
+            // noop
+        }
+
+        public static String upper(String body) {
+            return body.toUpperCase();
+        }
+
+        public String join(String... parts) {
+            return String.join(",", parts);
+        }
+
+        public String fail(String body) {
+            throw new IllegalArgumentException("Forced " + body);
+        }
+    }
+
+}
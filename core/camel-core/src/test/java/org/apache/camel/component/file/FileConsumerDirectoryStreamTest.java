@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class FileConsumerDirectoryStreamTest extends ContextTestSupport {
+
+    @Test
+    public void testDirectoryStream() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b", "a2", "c");
+        mock.message(0).header(Exchange.FILE_LENGTH).isNotNull();
+        mock.message(0).header(Exchange.FILE_LAST_MODIFIED).isNotNull();
+
+        template.sendBodyAndHeader(fileUri(), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri(), "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri("foo"), "a2", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("foo/bar"), "c", Exchange.FILE_NAME, "c.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testDirectoryStreamFileName() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("c");
+        mock.expectedHeaderReceived(Exchange.FILE_NAME, "foo/bar/c.txt");
+        mock.expectedHeaderReceived(Exchange.FILE_LENGTH, 1L);
+
+        template.sendBodyAndHeader(fileUri("foo/bar"), "c", Exchange.FILE_NAME, "c.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&recursive=true&useDirectoryStream=true"))
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumerParallelFileProcessingTest extends ContextTestSupport {
+
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    @Test
+    public void testParallelFileProcessing() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(10);
+        // each file must only be processed once
+        mock.expectedBodiesReceivedInAnyOrder("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBodyAndHeader(fileUri(), Integer.toString(i), Exchange.FILE_NAME, "file" + i + ".txt");
+        }
+
+        context.getRouteController().startRoute("parallel");
+
+        assertMockEndpointsSatisfied();
+
+        assertTrue(threads.size() > 1, "Should process the files using multiple threads: " + threads);
+
+        // and each file should be moved when done
+        for (int i = 0; i < 10; i++) {
+            String name = "file" + i + ".txt";
+            await().untilAsserted(() -> assertTrue(testFile(".camel/" + name).toFile().exists()));
+            assertFalse(testFile(name).toFile().exists());
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&parallelFileProcessing=true&parallelFileProcessingPoolSize=5"))
+                        .routeId("parallel").autoStartup(false)
+                        .process(e -> {
+                            threads.add(Thread.currentThread().getName());
+                            Thread.sleep(100);
+                        })
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -41,6 +41,21 @@ public class FileProduceAppendTest extends ContextTestSupport {
         assertMockEndpointsSatisfied();
     }
 
+    @Test
+    public void testAppendFile() throws Exception {
+        template.sendBodyAndHeader(fileUri(), "Hello", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(fileUri(), " World", Exchange.FILE_NAME, "world.txt");
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+        mock.expectedFileExists(testFile("hello.txt"), "Hello World");
+
+        // the file body is appended using file channels
+        template.sendBody("direct:start", testFile("world.txt").toFile());
+
+        assertMockEndpointsSatisfied();
+    }
+
     @Override
     protected RouteBuilder createRouteBuilder() {
         return new RouteBuilder() {
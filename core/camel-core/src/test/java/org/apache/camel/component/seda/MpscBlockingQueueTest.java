@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MpscBlockingQueueTest {
+
+    @Test
+    public void testOfferPoll() throws Exception {
+        MpscBlockingQueue<String> queue = new MpscBlockingQueue<>(2);
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertFalse(queue.offer("C"));
+        assertEquals(2, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertFalse(queue.offer("C", 10, TimeUnit.MILLISECONDS));
+
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertEquals("B", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testAddAll() throws Exception {
+        MpscBlockingQueue<String> queue = new MpscBlockingQueue<>(4);
+        queue.add("A");
+
+        assertTrue(queue.addAll(Arrays.asList("B", "C")));
+        // there is not room for all the elements, so none are added
+        assertThrows(IllegalStateException.class, () -> queue.addAll(Arrays.asList("D", "E")));
+        assertEquals(3, queue.size());
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, queue.drainTo(drained, 2));
+        assertEquals(Arrays.asList("A", "B"), drained);
+        assertEquals(1, queue.drainTo(drained));
+        assertEquals(Arrays.asList("A", "B", "C"), drained);
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        MpscBlockingQueue<String> queue = new MpscBlockingQueue<>();
+        queue.addAll(Arrays.asList("A", "B", "C"));
+
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertEquals(2, queue.size());
+        assertEquals(Arrays.asList("A", "C"), new ArrayList<>(queue));
+
+        assertEquals("A", queue.take());
+        assertEquals("C", queue.take());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testConcurrentProducers() throws Exception {
+        MpscBlockingQueue<Integer> queue = new MpscBlockingQueue<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            final int producer = i;
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    queue.put(producer * 1000 + j);
+                }
+                return null;
+            });
+        }
+
+        int[] last = { -1, -1, -1, -1 };
+        for (int i = 0; i < 4000; i++) {
+            Integer e = queue.poll(5, TimeUnit.SECONDS);
+            // the elements from each producer are in order
+            int producer = e / 1000;
+            assertTrue(e > last[producer]);
+            last[producer] = e;
+        }
+        executor.shutdownNow();
+
+        assertNull(queue.poll());
+        assertEquals(0, queue.size());
+    }
+}
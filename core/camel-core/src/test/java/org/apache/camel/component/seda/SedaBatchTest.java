@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaBatchTest extends ContextTestSupport {
+
+    @Test
+    public void testBatchSize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(3);
+        mock.message(0).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(false);
+        mock.message(2).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(2);
+        mock.message(2).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(3).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(3).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        sendBodies("seda:batch", "A", "B", "C", "D", "E");
+        context.getRouteController().startRoute("batch");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testGroupExchanges() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(2);
+
+        sendBodies("seda:grouped", "A", "B", "C", "D", "E");
+        context.getRouteController().startRoute("grouped");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> first = mock.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(3, first.size());
+        assertEquals("A", ((Exchange) first.get(0)).getMessage().getBody());
+        assertEquals("C", ((Exchange) first.get(2)).getMessage().getBody());
+        List<?> second = mock.getReceivedExchanges().get(1).getMessage().getBody(List.class);
+        assertEquals(2, second.size());
+        assertEquals("E", ((Exchange) second.get(1)).getMessage().getBody());
+    }
+
+    @Test
+    public void testUngroupExchanges() throws Exception {
+        getMockEndpoint("mock:ungrouped").expectedBodiesReceived("A", "B", "C", "D", "E");
+
+        sendBodies("seda:regroup", "A", "B", "C", "D", "E");
+        context.getRouteController().startRoute("regroup");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private void sendBodies(String uri, String... bodies) {
+        for (String body : bodies) {
+            template.sendBody(uri, body);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:batch?batchSize=3").routeId("batch").autoStartup(false)
+                        .to("mock:result");
+
+                from("seda:grouped?batchSize=3&groupExchanges=true").routeId("grouped").autoStartup(false)
+                        .to("mock:grouped");
+
+                from("seda:regroup?batchSize=3&groupExchanges=true").routeId("regroup").autoStartup(false)
+                        .to("seda:ungrouped?ungroupExchanges=true");
+
+                from("seda:ungrouped")
+                        .to("mock:ungrouped");
+            }
+        };
+    }
+}
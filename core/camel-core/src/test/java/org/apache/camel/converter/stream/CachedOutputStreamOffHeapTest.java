@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.util.IOHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+    private static final String TEST_STRING = "This is a test string and it has enough"
+                                              + " aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa ";
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(exchange);
+        exchange.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+    }
+
+    @Test
+    public void testCacheStreamToOffHeapMemory() throws Exception {
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        context.getStreamCachingStrategy().setOffHeap(true);
+        // use small buffers so the data spans several buffers
+        context.getStreamCachingStrategy().setBufferSize(16);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(0, files.length, "we should have no temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof ByteBufferInputStreamCache, "Should get the ByteBufferInputStreamCache");
+        assertTrue(cache.inMemory());
+        assertEquals(TEST_STRING.length(), cache.length());
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        // read the cache again
+        cache.reset();
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        ((InputStream) cache).close();
+        exchange.getUnitOfWork().done(exchange);
+        assertTrue(DirectBufferPool.getPooledBuffers() > 0, "The buffers should be released to the pool");
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testReadOffHeapStreamCacheAfterExchangeCompleted() throws Exception {
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        context.getStreamCachingStrategy().setOffHeap(true);
+        context.getStreamCachingStrategy().setBufferSize(16);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        StreamCache cache = cos.newStreamCache();
+        StreamCache copy = cache.copy(exchange);
+
+        exchange.getUnitOfWork().done(exchange);
+
+        // the buffers are still in use by the stream caches, so they must not be reused by other stream caches
+        List<ByteBuffer> others = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            ByteBuffer buffer = DirectBufferPool.acquire(16);
+            while (buffer.hasRemaining()) {
+                buffer.put((byte) 'x');
+            }
+            others.add(buffer);
+        }
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, copy));
+        others.forEach(DirectBufferPool::release);
+
+        // the buffers are recycled when the last stream cache is closed, and cannot be read anymore
+        ((InputStream) cache).close();
+        ((InputStream) copy).close();
+        copy.reset();
+        assertThrows(IOException.class, () -> ((InputStream) copy).read());
+        assertThrows(IOException.class, cos::newStreamCache);
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testReadOffHeapStreamCacheAfterClose() throws Exception {
+        context.getStreamCachingStrategy().setSpoolThreshold(1024);
+        context.getStreamCachingStrategy().setOffHeap(true);
+        context.getStreamCachingStrategy().setBufferSize(16);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange, false);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+        InputStream is = cos.getWrappedInputStream();
+
+        // closing the output stream must not recycle the buffers which are in use by the input stream
+        cos.close();
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, is));
+        is.close();
+
+        assertThrows(IOException.class, cos::getInputStream);
+    }
+
+    @Test
+    public void testCacheStreamOffHeapToFile() throws Exception {
+        context.getStreamCachingStrategy().setOffHeap(true);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8), 0, 10);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8), 10, TEST_STRING.length() - 10);
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof FileInputStreamCache, "Should get the FileInputStreamCache");
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+        ((InputStream) cache).close();
+
+        exchange.getUnitOfWork().done(exchange);
+        files = file.list();
+        assertEquals(0, files.length, "we should have no temp file");
+
+        IOHelper.close(cos);
+    }
+
+    @Test
+    public void testCacheStreamToMemoryMappedFile() throws Exception {
+        context.getStreamCachingStrategy().setSpoolMemoryMapped(true);
+        context.start();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(TEST_STRING.getBytes(StandardCharsets.UTF_8));
+
+        File file = testDirectory().toFile();
+        String[] files = file.list();
+        assertEquals(1, files.length, "we should have a temp file");
+
+        StreamCache cache = cos.newStreamCache();
+        assertTrue(cache instanceof ByteBufferInputStreamCache, "Should get the ByteBufferInputStreamCache");
+        assertFalse(cache.inMemory());
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        // read the cache again
+        cache.reset();
+        assertEquals(TEST_STRING, context.getTypeConverter().convertTo(String.class, cache));
+
+        exchange.getUnitOfWork().done(exchange);
+        files = file.list();
+        assertEquals(0, files.length, "we should have no temp file");
+
+        IOHelper.close(cos);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.support.CaseInsensitiveHashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CaseInsensitiveHashMapHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new CaseInsensitiveHashMapHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCaseInsensitiveHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", 456);
+        getMockEndpoint("mock:a").expectedHeaderReceived("BAR", "yes");
+        getMockEndpoint("mock:a").expectedHeaderReceived("a", "changed");
+        getMockEndpoint("mock:b").expectedHeaderReceived("FOO", 456);
+        getMockEndpoint("mock:b").message(0).header("a").isNull();
+        getMockEndpoint("mock:result").expectedHeaderReceived("Foo", 456);
+        getMockEndpoint("mock:result").message(0).header("a").isNull();
+
+        Map<String, Object> headers = new HashMap<>();
+        headers.put("foo", 123);
+        headers.put("FOO", 456);
+        headers.put("Bar", "yes");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", headers);
+
+        assertMockEndpointsSatisfied();
+
+        // the received message shares the headers with the sent message, until the headers are changed
+        Exchange exchange = getMockEndpoint("mock:result").getReceivedExchanges().get(0);
+        assertEquals(456, exchange.getMessage().getHeaders().get("fOO"));
+        exchange.getMessage().setHeader("baz", "changed");
+        assertTrue(exchange.getMessage().getHeaders() instanceof CaseInsensitiveHashMap);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                // the copies of the headers in the multicast must not affect each other
+                from("direct:start")
+                        .multicast().to("direct:a", "direct:b").end()
+                        .to("mock:result");
+
+                from("direct:a").setHeader("a", constant("changed")).to("mock:a");
+                from("direct:b").to("mock:b");
+            }
+        };
+    }
+
+}
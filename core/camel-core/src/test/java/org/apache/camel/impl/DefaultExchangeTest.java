@@ -315,6 +315,66 @@ public class DefaultExchangeTest extends ExchangeTestSupport {
 
     }
 
+    @Test
+    public void testCopyOnWriteHeaders() {
+        DefaultExchange source = new DefaultExchange(context);
+        source.getIn().setHeader("foo", "123");
+        source.getIn().setHeader("bar", "456");
+
+        Exchange copy = source.copy();
+        Exchange copy2 = source.copy();
+        assertEquals("123", copy.getIn().getHeader("foo"));
+        assertEquals("456", copy2.getIn().getHeader("BAR"));
+
+        copy.getIn().setHeader("foo", "abc");
+        copy.getIn().removeHeader("bar");
+        copy2.getIn().getHeaders().put("baz", "789");
+
+        assertEquals("123", source.getIn().getHeader("foo"));
+        assertEquals("456", source.getIn().getHeader("bar"));
+        assertFalse(source.getIn().getHeaders().containsKey("baz"));
+        assertEquals("abc", copy.getIn().getHeader("foo"));
+        assertNull(copy.getIn().getHeader("bar"));
+        assertEquals("123", copy2.getIn().getHeader("foo"));
+        assertEquals("789", copy2.getIn().getHeader("baz"));
+
+        // changing the source must not affect the copies
+        source.getIn().removeHeaders("*");
+        assertFalse(source.getIn().hasHeaders());
+        assertEquals("abc", copy.getIn().getHeader("foo"));
+        assertEquals(3, copy2.getIn().getHeaders().size());
+    }
+
+    @Test
+    public void testCopyOnWriteProperties() {
+        DefaultExchange source = new DefaultExchange(context);
+        source.setProperty("foo", "123");
+        source.setProperty("bar", "456");
+
+        Exchange copy = source.copy();
+        Exchange copy2 = ExchangeHelper.createCorrelatedCopy(source, false);
+        assertEquals("123", copy.getProperty("foo"));
+        assertEquals("456", copy2.getProperty("bar"));
+
+        copy.setProperty("foo", "abc");
+        copy.removeProperty("bar");
+        copy2.getProperties().put("baz", "789");
+
+        assertEquals("123", source.getProperty("foo"));
+        assertEquals("456", source.getProperty("bar"));
+        assertNull(source.getProperty("baz"));
+        assertEquals("abc", copy.getProperty("foo"));
+        assertNull(copy.getProperty("bar"));
+        assertEquals("123", copy2.getProperty("foo"));
+        assertEquals("789", copy2.getProperty("baz"));
+
+        // changing the source must not affect the copies
+        source.removeProperties("*");
+        assertFalse(source.hasProperties());
+        assertEquals("abc", copy.getProperty("foo"));
+        assertEquals("456", copy2.getProperty("bar"));
+    }
+
     private static final class SafeProperty implements SafeCopyProperty {
 
         private SafeProperty() {
@@ -42,6 +42,7 @@ import org.junit.jupiter.api.Test;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 public class DefaultProducerCacheTest extends ContextTestSupport {
 
@@ -208,6 +209,139 @@ public class DefaultProducerCacheTest extends ContextTestSupport {
         await().atMost(3, TimeUnit.SECONDS).untilAsserted(() -> assertEquals(3, stopCounter.get()));
     }
 
+    @Test
+    public void testCacheStatistics() throws Exception {
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e1 = newEndpoint(false, 1);
+        e1.setCamelContext(context);
+        AsyncProducer p1 = cache.acquireProducer(e1);
+        cache.releaseProducer(e1, p1);
+        assertSame(p1, cache.acquireProducer(e1));
+        cache.releaseProducer(e1, p1);
+
+        Endpoint e2 = newEndpoint(true, 2);
+        e2.setCamelContext(context);
+        AsyncProducer p2 = cache.acquireProducer(e2);
+        cache.releaseProducer(e2, p2);
+        assertSame(p2, cache.acquireProducer(e2));
+        cache.releaseProducer(e2, p2);
+
+        assertEquals(2, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        assertEquals(2, cache.getCreated());
+        assertEquals(0, cache.getEvicted());
+
+        // producers which are used only once are evicted before the producers in use
+        for (int i = 3; i < 9; i++) {
+            Endpoint e = newEndpoint(true, i);
+            e.setCamelContext(context);
+            AsyncProducer p = cache.acquireProducer(e);
+            cache.releaseProducer(e, p);
+        }
+        cache.cleanUp();
+
+        assertEquals(8, cache.getCreated());
+        assertEquals(3, cache.getEvicted());
+        assertSame(p1, cache.acquireProducer(e1));
+        cache.releaseProducer(e1, p1);
+        assertSame(p2, cache.acquireProducer(e2));
+        cache.releaseProducer(e2, p2);
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertEquals(0, cache.getCreated());
+        assertEquals(0, cache.getEvicted());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testCacheEvictIdle() throws Exception {
+        context.getGlobalOptions().put(Exchange.MAXIMUM_CACHE_POOL_IDLE_TIMEOUT, "500");
+
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e1 = newEndpoint(true, 1);
+        e1.setCamelContext(context);
+        AsyncProducer p1 = cache.acquireProducer(e1);
+        cache.releaseProducer(e1, p1);
+
+        Endpoint e2 = newEndpoint(false, 2);
+        e2.setCamelContext(context);
+        AsyncProducer p2 = cache.acquireProducer(e2);
+        cache.releaseProducer(e2, p2);
+
+        // a producer in use is not idle
+        AsyncProducer p3 = cache.acquireProducer(e2);
+        AsyncProducer p4 = cache.acquireProducer(e2);
+
+        assertEquals(1, cache.size());
+
+        // the idle producers are evicted in the background
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.getEvicted());
+        });
+        assertEquals(1, stopCounter.get());
+
+        cache.releaseProducer(e2, p3);
+        cache.releaseProducer(e2, p4);
+        assertEquals(2, cache.size());
+
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(0, cache.size());
+            assertEquals(3, cache.getEvicted());
+        });
+        assertEquals(3, stopCounter.get());
+
+        // and a new producer is created when needed again
+        AsyncProducer p5 = cache.acquireProducer(e1);
+        assertEquals(4, cache.getCreated());
+        cache.releaseProducer(e1, p5);
+        AsyncProducer p6 = cache.acquireProducer(e2);
+        assertEquals(5, cache.getCreated());
+        cache.releaseProducer(e2, p6);
+        assertEquals(2, cache.size());
+
+        cache.stop();
+    }
+
+    @Test
+    public void testCacheEvictIdleSingletonInUse() throws Exception {
+        context.getGlobalOptions().put(Exchange.MAXIMUM_CACHE_POOL_IDLE_TIMEOUT, "500");
+
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 5);
+        cache.start();
+
+        Endpoint e1 = newEndpoint(true, 1);
+        e1.setCamelContext(context);
+        AsyncProducer p1 = cache.acquireProducer(e1);
+        AsyncProducer p2 = cache.acquireProducer(e1);
+        assertSame(p1, p2);
+        cache.releaseProducer(e1, p1);
+
+        // the singleton producer is still in use, so it is not evicted even if it was acquired long ago
+        await().during(2, TimeUnit.SECONDS).atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(1, cache.size());
+            assertEquals(0, cache.getEvicted());
+        });
+        assertEquals(0, stopCounter.get());
+
+        // and is idle from when it was released
+        cache.releaseProducer(e1, p2);
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            assertEquals(0, cache.size());
+            assertEquals(1, cache.getEvicted());
+        });
+        assertEquals(1, stopCounter.get());
+
+        cache.stop();
+    }
+
     private class MyProducerCache extends DefaultProducerCache {
 
         private MyServicePool myServicePool;
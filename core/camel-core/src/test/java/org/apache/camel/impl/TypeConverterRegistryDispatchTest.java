@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.TypeConversionException;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class TypeConverterRegistryDispatchTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testResolveOnlyOnce() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().setStatisticsEnabled(true);
+        reg.getStatistics().reset();
+
+        assertEquals(3, context.getTypeConverter().convertTo(Integer.class, "3").intValue());
+        assertEquals(7, context.getTypeConverter().convertTo(Integer.class, "7").intValue());
+        assertEquals(9, context.getTypeConverter().convertTo(Integer.class, "9").intValue());
+
+        assertEquals(3, reg.getStatistics().getHitCounter());
+        assertEquals(1, reg.getStatistics().getResolveCounter());
+    }
+
+    @Test
+    public void testResolveSuperType() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().setStatisticsEnabled(true);
+        reg.addTypeConverter(MyTarget.class, MyBase.class, new MyConverter());
+        reg.getStatistics().reset();
+
+        assertEquals("sub1", context.getTypeConverter().convertTo(MyTarget.class, new MySub("sub1")).getName());
+        assertEquals("sub2", context.getTypeConverter().convertTo(MyTarget.class, new MySub("sub2")).getName());
+
+        assertEquals(2, reg.getStatistics().getHitCounter());
+        assertEquals(1, reg.getStatistics().getResolveCounter());
+    }
+
+    @Test
+    public void testMissThenAddTypeConverter() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().setStatisticsEnabled(true);
+        reg.getStatistics().reset();
+
+        assertNull(context.getTypeConverter().tryConvertTo(MyTarget.class, new MyBase("foo")));
+        assertThrows(NoTypeConversionAvailableException.class,
+                () -> context.getTypeConverter().mandatoryConvertTo(MyTarget.class, new MyBase("foo")));
+        // the miss is remembered
+        assertThrows(NoTypeConversionAvailableException.class,
+                () -> context.getTypeConverter().mandatoryConvertTo(MyTarget.class, new MyBase("foo")));
+        assertEquals(1, reg.getStatistics().getResolveCounter());
+
+        // adding a type converter must be used instead of the remembered miss
+        reg.addTypeConverter(MyTarget.class, MyBase.class, new MyConverter());
+        assertEquals("foo", context.getTypeConverter().mandatoryConvertTo(MyTarget.class, new MyBase("foo")).getName());
+        assertEquals(2, reg.getStatistics().getResolveCounter());
+    }
+
+    @Test
+    public void testAddTypeConverterClearsOnlyAffectedTypes() throws Exception {
+        TypeConverterRegistry reg = context.getTypeConverterRegistry();
+        reg.getStatistics().setStatisticsEnabled(true);
+        reg.getStatistics().reset();
+
+        assertEquals(3, context.getTypeConverter().convertTo(Integer.class, "3").intValue());
+        assertNull(context.getTypeConverter().tryConvertTo(MyTarget.class, new MySub("foo")));
+        assertEquals(2, reg.getStatistics().getResolveCounter());
+
+        // the converter from the super type must be used for the sub type
+        reg.addTypeConverter(MyTarget.class, MyBase.class, new MyConverter());
+        assertEquals("foo", context.getTypeConverter().mandatoryConvertTo(MyTarget.class, new MySub("foo")).getName());
+        assertEquals(3, reg.getStatistics().getResolveCounter());
+
+        // and the converters between other types are still resolved
+        assertEquals(7, context.getTypeConverter().convertTo(Integer.class, "7").intValue());
+        assertEquals(3, reg.getStatistics().getResolveCounter());
+    }
+
+    public static class MyBase {
+        private final String name;
+
+        public MyBase(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class MySub extends MyBase {
+        public MySub(String name) {
+            super(name);
+        }
+    }
+
+    public static class MyTarget {
+        private final String name;
+
+        public MyTarget(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static class MyConverter extends TypeConverterSupport {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return (T) new MyTarget(((MyBase) value).getName());
+        }
+    }
+
+}
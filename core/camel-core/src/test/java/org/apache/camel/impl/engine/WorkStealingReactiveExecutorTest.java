@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    private final WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        executor.setParallelism(4);
+        executor.setStatisticsEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(executor);
+        return context;
+    }
+
+    @Test
+    public void testRouting() throws Exception {
+        assertSame(executor, context.adapt(ExtendedCamelContext.class).getReactiveExecutor());
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Hello World", "Bye World");
+
+        template.sendBody("direct:start", "Hello World");
+        template.sendBody("direct:start", "Bye World");
+
+        assertMockEndpointsSatisfied();
+        assertTrue(executor.getScheduledTasks() > 0);
+        assertTrue(mock.getReceivedExchanges().get(0).getIn().getHeader("thread", String.class)
+                .contains("WorkStealingReactiveExecutor"));
+    }
+
+    @Test
+    public void testMulticastParallel() throws Exception {
+        getMockEndpoint("mock:a").expectedMessageCount(10);
+        getMockEndpoint("mock:b").expectedMessageCount(10);
+        getMockEndpoint("mock:c").expectedMessageCount(10);
+
+        for (int i = 0; i < 10; i++) {
+            template.sendBody("direct:multicast", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testScheduleSpreadsAcrossWorkers() throws Exception {
+        final int tasks = 200;
+        final CountDownLatch latch = new CountDownLatch(tasks);
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+        // schedule all the tasks from a single task, so they are queued on one worker and stolen by the others
+        executor.schedule(() -> {
+            for (int i = 0; i < tasks; i++) {
+                executor.schedule(() -> {
+                    threads.add(Thread.currentThread().getName());
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    latch.countDown();
+                });
+            }
+        });
+
+        assertTrue(latch.await(20, TimeUnit.SECONDS));
+        assertTrue(threads.size() > 1, "Should use more than one worker thread: " + threads);
+        assertTrue(executor.getStealCount() > 0);
+    }
+
+    @Test
+    public void testScheduleSyncRunsOnCurrentThread() throws Exception {
+        final String current = Thread.currentThread().getName();
+        final String[] name = new String[1];
+
+        executor.scheduleSync(() -> name[0] = Thread.currentThread().getName());
+
+        assertEquals(current, name[0]);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .to("log:foo")
+                        .process(e -> e.getMessage().setHeader("thread", Thread.currentThread().getName()))
+                        .to("mock:result");
+
+                from("direct:multicast").multicast().parallelProcessing()
+                        .to("mock:a", "mock:b", "mock:c");
+            }
+        };
+    }
+}
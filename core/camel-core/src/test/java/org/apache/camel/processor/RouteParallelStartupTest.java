@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.StartupStep;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.RouteStartupOrder;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RouteParallelStartupTest extends ContextTestSupport {
+
+    private final CountDownLatch latch = new CountDownLatch(3);
+    private final List<Boolean> concurrent = new ArrayList<>();
+    private final List<StartupStep> steps = new ArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setParallelStartup(true);
+        DefaultStartupStepRecorder recorder = new DefaultStartupStepRecorder() {
+            @Override
+            protected void onEndStep(StartupStep step) {
+                synchronized (steps) {
+                    steps.add(step);
+                }
+            }
+        };
+        recorder.setEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
+        return context;
+    }
+
+    @Test
+    public void testParallelStartup() throws Exception {
+        // the routes without startup order must have been warmed up at the same time
+        assertEquals(3, concurrent.size());
+        assertTrue(concurrent.stream().allMatch(b -> b));
+
+        getMockEndpoint("mock:result").expectedBodiesReceived("A", "B", "C");
+        template.sendBody("direct:a", "A");
+        template.sendBody("direct:b", "B");
+        template.sendBody("direct:c", "C");
+        assertMockEndpointsSatisfied();
+
+        // the routes are registered in startup order regardless of which completed first
+        List<RouteStartupOrder> order = context.adapt(ExtendedCamelContext.class).getRouteStartupOrder();
+        assertEquals(4, order.size());
+        assertEquals("first", order.get(0).getRoute().getId());
+        assertEquals("a", order.get(1).getRoute().getId());
+        assertEquals("b", order.get(2).getRoute().getId());
+        assertEquals("c", order.get(3).getRoute().getId());
+
+        // the route steps from the worker threads are recorded as children of their group
+        StartupStep group = findStep("group-2", "Warmup Routes");
+        assertNotNull(group);
+        for (String id : new String[] { "a", "b", "c" }) {
+            StartupStep step = findStep(id, "Warump Route");
+            assertNotNull(step, id);
+            assertEquals(group.getId(), step.getParentId());
+            assertEquals(group.getLevel() + 1, step.getLevel());
+        }
+    }
+
+    private StartupStep findStep(String name, String description) {
+        synchronized (steps) {
+            return steps.stream().filter(s -> name.equals(s.getName()) && description.equals(s.getDescription()))
+                    .findFirst().orElse(null);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:first").routeId("first").startupOrder(1).to("mock:first");
+
+                from("direct:a").routeId("a").process(new LatchProcessor()).to("mock:result");
+                from("direct:b").routeId("b").process(new LatchProcessor()).to("mock:result");
+                from("direct:c").routeId("c").process(new LatchProcessor()).to("mock:result");
+            }
+        };
+    }
+
+    private class LatchProcessor extends ServiceSupport implements Processor {
+
+        @Override
+        protected void doStart() throws Exception {
+            // wait for the other routes to be warming up as well
+            latch.countDown();
+            boolean all = latch.await(5, TimeUnit.SECONDS);
+            synchronized (concurrent) {
+                concurrent.add(all);
+            }
+        }
+
+        @Override
+        public void process(Exchange exchange) throws Exception {
+            // noop
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SplitterParallelMaxInflightTest extends ContextTestSupport {
+
+    private final AtomicInteger splitted = new AtomicInteger();
+    private final AtomicInteger aggregated = new AtomicInteger();
+    private final AtomicInteger maxInflight = new AtomicInteger();
+
+    @Test
+    public void testMaxInflight() throws Exception {
+        getMockEndpoint("mock:split").expectedMessageCount(100);
+        getMockEndpoint("mock:result").expectedMessageCount(1);
+
+        template.sendBody("direct:start", new CountingIterator(100));
+
+        assertMockEndpointsSatisfied();
+        assertEquals(100, aggregated.get());
+        assertTrue(maxInflight.get() <= 3, "There should be at most 3 messages in flight but was " + maxInflight.get());
+    }
+
+    @Test
+    public void testOrderedAggregation() throws Exception {
+        getMockEndpoint("mock:ordered").expectedMessageCount(1);
+
+        template.sendBody("direct:ordered", new CountingIterator(100));
+
+        assertMockEndpointsSatisfied();
+        List<?> bodies = getMockEndpoint("mock:ordered").getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(100, bodies.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, bodies.get(i));
+        }
+        assertTrue(maxInflight.get() <= 5, "There should be at most 5 messages in flight but was " + maxInflight.get());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .split(body(), new CountingAggregationStrategy()).streaming().parallelProcessing().maxInflight(3)
+                            .process(e -> Thread.sleep(e.getMessage().getBody(Integer.class) % 5))
+                            .to("mock:split")
+                        .end()
+                        .to("mock:result");
+
+                from("direct:ordered")
+                        .split(body(), new CountingAggregationStrategy()).streaming().parallelProcessing().maxInflight(5)
+                        .orderedAggregation()
+                            // the first messages are slower so the later messages complete first
+                            .process(e -> Thread.sleep(Math.max(0, 20 - e.getMessage().getBody(Integer.class))))
+                        .end()
+                        .to("mock:ordered");
+            }
+        };
+    }
+
+    private final class CountingIterator implements Iterator<Integer> {
+        private final int size;
+        private int index;
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public Integer next() {
+            int inflight = splitted.incrementAndGet() - aggregated.get();
+            maxInflight.accumulateAndGet(inflight, Math::max);
+            return index++;
+        }
+    }
+
+    private final class CountingAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            aggregated.incrementAndGet();
+            List<Object> bodies;
+            if (oldExchange == null) {
+                bodies = new ArrayList<>();
+                newExchange.setProperty("bodies", bodies);
+            } else {
+                bodies = oldExchange.getProperty("bodies", List.class);
+            }
+            bodies.add(newExchange.getMessage().getBody());
+            if (oldExchange != null) {
+                return oldExchange;
+            }
+            return newExchange;
+        }
+
+        @Override
+        public void onCompletion(Exchange exchange) {
+            if (exchange != null) {
+                exchange.getMessage().setBody(exchange.getProperty("bodies"));
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ThrottlerTokenBucketTest extends ContextTestSupport {
+    private static final int INTERVAL = 500;
+
+    @Test
+    public void testSendLotsOfMessages() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(9);
+
+        List<Long> arrivals = new CopyOnWriteArrayList<>();
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        resultEndpoint.whenAnyExchangeReceived(exchange -> {
+            arrivals.add(System.nanoTime());
+            threads.add(Thread.currentThread());
+        });
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 9; i++) {
+            template.sendBody("direct:a", "<message>" + i + "</message>");
+        }
+        resultEndpoint.assertIsSatisfied();
+
+        // 3 messages per 500 millis, where the first 3 messages are a burst which is not delayed, and then the
+        // messages are spaced by the emission interval, so the last is sent 2 periods later
+        long interval = INTERVAL / 3;
+        for (int i = 3; i < 9; i++) {
+            long elapsed = (arrivals.get(i) - start) / 1000000;
+            long expected = (i - 2) * interval - 20;
+            assertTrue(elapsed >= expected, "Message " + i + " should take at least " + expected + "ms, was: " + elapsed);
+        }
+        // unlike a rolling window, the 4th message is not delayed until the period has passed
+        long elapsed = (arrivals.get(3) - start) / 1000000;
+        assertTrue(elapsed < INTERVAL - 50, "Message 3 should be sent before " + (INTERVAL - 50) + "ms, was: " + elapsed);
+
+        // the delayed messages block the caller thread
+        for (Thread thread : threads) {
+            assertSame(Thread.currentThread(), thread);
+        }
+    }
+
+    @Test
+    public void testAsyncDelayed() throws Exception {
+        MockEndpoint resultEndpoint = getMockEndpoint("mock:result");
+        resultEndpoint.expectedMessageCount(4);
+
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        resultEndpoint.whenAnyExchangeReceived(exchange -> threads.add(Thread.currentThread()));
+
+        for (int i = 0; i < 4; i++) {
+            template.sendBody("direct:async", "<message>" + i + "</message>");
+        }
+        resultEndpoint.assertIsSatisfied();
+
+        // the burst is not delayed and continues on the caller thread
+        for (int i = 0; i < 3; i++) {
+            assertSame(Thread.currentThread(), threads.get(i));
+        }
+        // the delayed message is scheduled to continue routing on another thread
+        assertNotSame(Thread.currentThread(), threads.get(3));
+    }
+
+    @Test
+    public void testRejectExecution() throws Exception {
+        getMockEndpoint("mock:result").expectedBodiesReceived("A", "B", "C");
+        getMockEndpoint("mock:error").expectedBodiesReceived("D");
+
+        template.sendBody("direct:reject", "A");
+        template.sendBody("direct:reject", "B");
+        template.sendBody("direct:reject", "C");
+        template.sendBody("direct:reject", "D");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testGrouping() throws Exception {
+        getMockEndpoint("mock:result").expectedMessageCount(6);
+        getMockEndpoint("mock:error").expectedMessageCount(0);
+
+        // each group is throttled independently
+        for (int i = 0; i < 6; i++) {
+            Map<String, Object> headers = new HashMap<>();
+            headers.put("key", i % 2);
+            template.sendBodyAndHeaders("direct:group", "Hello " + i, headers);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                onException(ThrottlerRejectedExecutionException.class).handled(true).to("mock:error");
+
+                from("direct:a").throttle(3).timePeriodMillis(INTERVAL).tokenBucket().to("log:result", "mock:result");
+
+                // a long period so the 4th message is delayed even if sending the burst is slow
+                from("direct:async").throttle(3).timePeriodMillis(10000).tokenBucket().asyncDelayed()
+                        .to("mock:result");
+
+                from("direct:reject").throttle(3).timePeriodMillis(10000).tokenBucket().rejectExecution(true)
+                        .to("mock:result");
+
+                from("direct:group").throttle(3).timePeriodMillis(10000).correlationExpression(header("key")).tokenBucket()
+                        .rejectExecution(true)
+                        .to("mock:result");
+            }
+        };
+    }
+}
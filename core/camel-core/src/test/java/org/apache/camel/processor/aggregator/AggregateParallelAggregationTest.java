@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.apache.camel.util.ObjectHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AggregateParallelAggregationTest extends ContextTestSupport {
+
+    private final int keys = 20;
+    private final int size = 10;
+
+    @Test
+    public void testParallelAggregation() throws Exception {
+        // each task sends all the messages of its correlation key in order
+        ExecutorService service = Executors.newFixedThreadPool(keys);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            final int id = i;
+            tasks.add(() -> {
+                for (int j = 0; j < size; j++) {
+                    template.sendBodyAndHeader("direct:start", "" + j, "id", id);
+                }
+                return null;
+            });
+        }
+
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(keys);
+
+        service.invokeAll(tasks);
+
+        assertMockEndpointsSatisfied();
+        service.shutdownNow();
+
+        // the messages of the same correlation key must be aggregated in the order they were sent
+        StringBuilder expected = new StringBuilder("0");
+        for (int j = 1; j < size; j++) {
+            expected.append("+").append(j);
+        }
+        Set<Integer> ids = new HashSet<>();
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            assertEquals(expected.toString(), exchange.getMessage().getBody(String.class));
+            assertTrue(ids.add(exchange.getMessage().getHeader("id", Integer.class)));
+        }
+        assertEquals(keys, ids.size());
+    }
+
+    @Test
+    public void testParallelAggregationForceCompletion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("A+B", "C");
+
+        template.sendBodyAndHeader("direct:start", "A", "id", 1);
+        template.sendBodyAndHeader("direct:start", "B", "id", 1);
+        template.sendBodyAndHeader("direct:start", "C", "id", 2);
+        template.sendBodyAndHeader("direct:start", "", Exchange.AGGREGATION_COMPLETE_ALL_GROUPS, true);
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testParallelAggregationWithOptimisticLocking() throws Exception {
+        RouteBuilder builder = new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:invalid")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(size)
+                        .parallelAggregation().optimisticLocking()
+                        .to("mock:invalid");
+            }
+        };
+
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(builder));
+        IllegalArgumentException cause = ObjectHelper.getException(IllegalArgumentException.class, e);
+        assertNotNull(cause);
+        assertEquals("Only one of parallelAggregation or optimisticLocking can be used, not both.", cause.getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .aggregate(header("id"), new BodyInAggregatingStrategy()).completionSize(size)
+                        .parallelAggregation()
+                        .to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BinaryExchangeHolderCodecTest extends ContextTestSupport {
+
+    @Test
+    public void testEncodeDecode() throws Exception {
+        Date now = new Date();
+        Exchange exchange = new DefaultExchange(context);
+        exchange.setExchangeId("123");
+        exchange.getIn().setBody("Hello World");
+        exchange.getIn().setHeader("name", "Camel");
+        exchange.getIn().setHeader("int", 123);
+        exchange.getIn().setHeader("negative", -123L);
+        exchange.getIn().setHeader("bool", true);
+        exchange.getIn().setHeader("double", 1.5d);
+        exchange.getIn().setHeader("char", 'c');
+        exchange.getIn().setHeader("date", now);
+        exchange.getIn().setHeader("decimal", new BigDecimal("12.34"));
+        exchange.setProperty("quote", "Camel rocks");
+        exchange.setException(new IllegalArgumentException("Forced"));
+
+        BinaryExchangeHolderCodec codec = new BinaryExchangeHolderCodec();
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange));
+        assertTrue(BinaryExchangeHolderCodec.isBinaryFormat(data));
+
+        Exchange actual = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(actual, codec.decode(context, data));
+
+        assertEquals("123", actual.getExchangeId());
+        assertEquals("Hello World", actual.getIn().getBody());
+        assertEquals("Camel", actual.getIn().getHeader("name"));
+        assertEquals(123, actual.getIn().getHeader("int"));
+        assertEquals(-123L, actual.getIn().getHeader("negative"));
+        assertEquals(true, actual.getIn().getHeader("bool"));
+        assertEquals(1.5d, actual.getIn().getHeader("double"));
+        assertEquals('c', actual.getIn().getHeader("char"));
+        assertEquals(now, actual.getIn().getHeader("date"));
+        assertEquals(new BigDecimal("12.34"), actual.getIn().getHeader("decimal"));
+        assertEquals("Camel rocks", actual.getProperty("quote"));
+        assertEquals("Forced", actual.getException().getMessage());
+        assertFalse(actual.hasOut());
+    }
+
+    @Test
+    public void testEncodeDecodeBytesCompressed() throws Exception {
+        byte[] body = new byte[10000];
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) (i % 10);
+        }
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody(body);
+
+        BinaryExchangeHolderCodec codec = new BinaryExchangeHolderCodec(true);
+        byte[] data = codec.encode(DefaultExchangeHolder.marshal(exchange, false));
+        assertTrue(data.length < body.length);
+
+        Exchange actual = new DefaultExchange(context);
+        DefaultExchangeHolder.unmarshal(actual, codec.decode(context, data));
+        assertArrayEquals(body, actual.getIn().getBody(byte[].class));
+        assertNull(actual.getIn().getHeader("foo"));
+    }
+
+    @Test
+    public void testIsBinaryFormat() throws Exception {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setBody("Hello World");
+
+        // java serialized data is not in the binary format
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(DefaultExchangeHolder.marshal(exchange));
+        }
+        assertFalse(BinaryExchangeHolderCodec.isBinaryFormat(bos.toByteArray()));
+        assertFalse(BinaryExchangeHolderCodec.isBinaryFormat(new byte[0]));
+        assertFalse(BinaryExchangeHolderCodec.isBinaryFormat(null));
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CaseInsensitiveHashMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertTrue(map.containsKey("fOO"));
+        assertNull(map.get("unknown"));
+    }
+
+    @Test
+    public void testPreserveKeyCaseAndOrder() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("Zebra", 1);
+        map.put("apple", 2);
+        map.put("Mango", 3);
+        map.put("ZEBRA", 4);
+
+        assertEquals(3, map.size());
+        assertEquals(Arrays.asList("Zebra", "apple", "Mango"), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList(4, 2, 3), new ArrayList<>(map.values()));
+    }
+
+    @Test
+    public void testKnownHeaderNames() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put(Exchange.FILE_NAME, "hello.txt");
+        map.put(Exchange.CONTENT_TYPE, "text/plain");
+
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("hello.txt", map.get(new StringBuilder("CamelFileName").toString()));
+        assertEquals("text/plain", map.get("content-type"));
+        assertEquals("text/plain", map.get(Exchange.CONTENT_TYPE));
+
+        map.put("CONTENT-TYPE", "text/xml");
+        assertEquals(2, map.size());
+        assertEquals("text/xml", map.get(Exchange.CONTENT_TYPE));
+    }
+
+    @Test
+    public void testRemoveAndGrow() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            assertEquals(i, map.remove("KEY" + i));
+        }
+        assertEquals(50, map.size());
+        for (int i = 0; i < 100; i++) {
+            map.put("Key" + i, -i);
+        }
+        assertEquals(100, map.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(-i, map.get("key" + i));
+        }
+        assertNull(map.remove("unknown"));
+
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("key1"));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", 1);
+        map.put("bar", 2);
+        map.put("baz", 3);
+
+        Iterator<String> it = map.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().startsWith("ba")) {
+                it.remove();
+            }
+        }
+        assertEquals(1, map.size());
+        assertEquals(1, map.get("FOO"));
+        assertFalse(map.containsKey("bar"));
+    }
+
+    @Test
+    public void testEntrySetValue() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            entry.setValue(2);
+        }
+        assertEquals(2, map.get("Foo"));
+    }
+
+    @Test
+    public void testCopyOnWrite() {
+        CaseInsensitiveHashMap map = new CaseInsensitiveHashMap();
+        map.put("foo", 1);
+        map.put("bar", 2);
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap(map);
+        Map<String, Object> copy2 = new CaseInsensitiveHashMap();
+        copy2.putAll(map);
+
+        copy.put("foo", 10);
+        copy.put("baz", 3);
+        copy2.remove("bar");
+        map.put("bar", 20);
+
+        assertEquals(1, map.get("foo"));
+        assertEquals(20, map.get("bar"));
+        assertNull(map.get("baz"));
+        assertEquals(2, map.size());
+
+        assertEquals(10, copy.get("foo"));
+        assertEquals(2, copy.get("bar"));
+        assertEquals(3, copy.get("baz"));
+        assertEquals(3, copy.size());
+
+        assertEquals(1, copy2.get("foo"));
+        assertNull(copy2.get("bar"));
+        assertEquals(1, copy2.size());
+
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testEqualsOtherMaps() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put("bar", 123);
+
+        Map<String, Object> other = new HashMap<>();
+        other.put("foo", "cheese");
+        other.put("bar", 123);
+
+        assertEquals(other, map);
+        assertEquals(map, other);
+        assertEquals(other.hashCode(), map.hashCode());
+
+        Map<String, Object> copy = new CaseInsensitiveHashMap(other);
+        assertEquals(map, copy);
+    }
+
+    @Test
+    public void testNullKey() {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        assertThrows(NullPointerException.class, () -> map.put(null, "foo"));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        Map<String, Object> map = new CaseInsensitiveHashMap();
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(map);
+        }
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> copy = (Map<String, Object>) in.readObject();
+
+        assertEquals("cheese", copy.get("FOO"));
+        assertEquals("hello.txt", copy.get(Exchange.FILE_NAME));
+        copy.put("bar", "beer");
+        List<String> keys = new ArrayList<>(copy.keySet());
+        assertEquals(Arrays.asList("foo", Exchange.FILE_NAME, "bar"), keys);
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ConcurrentLFUCacheTest {
+
+    @Test
+    public void testPutGet() {
+        ConcurrentLFUCache<String, String> cache = new ConcurrentLFUCache<>(10);
+
+        assertNull(cache.put("A", "1"));
+        assertEquals("1", cache.put("A", "2"));
+        assertEquals("2", cache.get("A"));
+        assertNull(cache.get("B"));
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        assertEquals("2", cache.remove("A"));
+        assertTrue(cache.isEmpty());
+
+        cache.resetStatistics();
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
+    @Test
+    public void testEvictLeastFrequentlyUsed() {
+        ConcurrentLFUCache<String, String> cache = new ConcurrentLFUCache<>(3);
+
+        cache.put("A", "1");
+        cache.put("B", "2");
+        cache.put("C", "3");
+        // A and C are in use
+        cache.get("A");
+        cache.get("C");
+
+        cache.put("D", "4");
+        assertEquals(3, cache.size());
+        assertEquals(1, cache.getEvicted());
+        // B is evicted as it has not been used
+        assertTrue(cache.containsKey("A"));
+        assertTrue(!cache.containsKey("B"));
+        assertTrue(cache.containsKey("C"));
+        assertTrue(cache.containsKey("D"));
+
+        cache.put("E", "5");
+        // D is evicted as A and C had a second chance
+        assertTrue(!cache.containsKey("D"));
+        assertEquals(3, cache.entrySet().size());
+    }
+
+    @Test
+    public void testConcurrentPutGet() throws Exception {
+        final ConcurrentLFUCache<Integer, Integer> cache = new ConcurrentLFUCache<>(100);
+
+        ExecutorService service = Executors.newFixedThreadPool(10);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int t = 0; t < 10; t++) {
+            final int offset = t * 1000;
+            tasks.add(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    int key = offset + i;
+                    cache.put(key, key);
+                    Integer value = cache.get(key);
+                    if (value != null) {
+                        assertEquals(key, value.intValue());
+                    }
+                }
+                return null;
+            });
+        }
+        for (Future<Void> future : service.invokeAll(tasks)) {
+            future.get();
+        }
+        service.shutdownNow();
+
+        // concurrent threads may evict at the same time
+        assertTrue(cache.size() <= 100, "Cache size should be bounded, was: " + cache.size());
+        assertEquals(10000, cache.size() + cache.getEvicted());
+    }
+
+}
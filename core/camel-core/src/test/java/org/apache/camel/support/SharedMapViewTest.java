@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SharedMapViewTest extends ContextTestSupport {
+
+    @Test
+    public void testReadSharedHeaders() {
+        Exchange source = new DefaultExchange(context);
+        source.getIn().setHeader("foo", "123");
+        source.getIn().setHeader("bar", "456");
+        Exchange copy = source.copy();
+
+        // reading the headers does not copy the shared headers
+        Map<String, Object> headers = copy.getIn().getHeaders();
+        assertEquals(2, headers.size());
+        assertEquals("123", headers.get("FOO"));
+        assertTrue(headers.containsKey("bar"));
+        assertEquals(new HashMap<>(source.getIn().getHeaders()), new HashMap<>(headers));
+        assertNull(headers.remove("baz"));
+        assertTrue(isHeadersShared(source));
+        assertTrue(isHeadersShared(copy));
+
+        // changing the headers via the entries or the keys copies the shared headers
+        for (Map.Entry<String, Object> entry : headers.entrySet()) {
+            if ("foo".equals(entry.getKey())) {
+                entry.setValue("abc");
+            }
+        }
+        assertFalse(isHeadersShared(copy));
+        assertEquals("abc", copy.getIn().getHeader("foo"));
+        assertEquals("123", source.getIn().getHeader("foo"));
+
+        Exchange copy2 = source.copy();
+        copy2.getIn().getHeaders().keySet().removeIf(key -> key.startsWith("b"));
+        assertEquals(1, copy2.getIn().getHeaders().size());
+        assertEquals("456", source.getIn().getHeader("bar"));
+
+        // the headers which are not shared are changed directly
+        source.getIn().getHeaders().entrySet().removeIf(entry -> entry.getKey().startsWith("f"));
+        assertEquals(1, source.getIn().getHeaders().size());
+        assertEquals("abc", copy.getIn().getHeader("foo"));
+    }
+
+    @Test
+    public void testReadSharedProperties() {
+        Exchange source = new DefaultExchange(context);
+        source.setProperty("foo", "123");
+        source.setProperty("bar", "456");
+        Exchange copy = source.copy();
+
+        // reading the properties does not copy the shared properties
+        Map<String, Object> properties = copy.getProperties();
+        assertEquals(2, properties.size());
+        assertEquals("123", properties.get("foo"));
+        assertEquals(new HashMap<>(source.getProperties()), new HashMap<>(properties));
+        assertTrue(isPropertiesShared(source));
+        assertTrue(isPropertiesShared(copy));
+
+        // changing the properties copies the shared properties
+        properties.computeIfAbsent("baz", key -> "789");
+        properties.keySet().remove("bar");
+        assertFalse(isPropertiesShared(copy));
+        assertEquals("789", copy.getProperty("baz"));
+        assertNull(copy.getProperty("bar"));
+        assertNull(source.getProperty("baz"));
+        assertEquals("456", source.getProperty("bar"));
+    }
+
+    @Test
+    public void testHeadersTakenBeforeCopy() {
+        Exchange source = new DefaultExchange(context);
+        source.getIn().setHeader("foo", "123");
+        Map<String, Object> headers = source.getIn().getHeaders();
+        Exchange copy = source.copy();
+
+        // the headers map has been handed out before copying so the copy has its own headers
+        assertFalse(isHeadersShared(copy));
+        headers.put("bar", "456");
+        assertNull(copy.getIn().getHeader("bar"));
+        copy.getIn().setHeader("baz", "789");
+        assertNull(headers.get("baz"));
+        assertEquals("456", source.getIn().getHeader("bar"));
+
+        // the headers of the copy have not been handed out, so they are shared with a copy of the copy
+        Exchange copy2 = copy.copy();
+        assertTrue(isHeadersShared(copy2));
+        assertEquals("789", copy2.getIn().getHeader("baz"));
+    }
+
+    @Test
+    public void testPropertiesTakenBeforeCopy() {
+        Exchange source = new DefaultExchange(context);
+        source.setProperty("foo", "123");
+        Map<String, Object> properties = source.getProperties();
+        Exchange copy = source.copy();
+
+        // the properties map has been handed out before copying so the copy has its own properties
+        assertFalse(isPropertiesShared(copy));
+        properties.put("bar", "456");
+        assertNull(copy.getProperty("bar"));
+        copy.setProperty("baz", "789");
+        assertNull(properties.get("baz"));
+        assertEquals("456", source.getProperty("bar"));
+
+        Exchange copy2 = copy.copy();
+        assertTrue(isPropertiesShared(copy2));
+        assertEquals("789", copy2.getProperty("baz"));
+    }
+
+    private static boolean isHeadersShared(Exchange exchange) {
+        return ((DefaultMessage) exchange.getIn()).isHeadersShared();
+    }
+
+    private static boolean isPropertiesShared(Exchange exchange) {
+        return ((AbstractExchange) exchange).propertiesShared;
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AppendOnlyFileIdempotentRepositoryTest extends TestSupport {
+
+    private AppendOnlyFileIdempotentRepository repository;
+    private File fileStore;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory(true).resolve("idempotent.dat").toFile();
+        repository = new AppendOnlyFileIdempotentRepository(fileStore);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() throws Exception {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertTrue(repository.add("B"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+
+        // the changes are appended to the file store
+        assertEquals(List.of("+A", "+B", "-A"), Files.readAllLines(fileStore.toPath()));
+        assertEquals(3, repository.getRecords());
+    }
+
+    @Test
+    public void testLoadStore() throws Exception {
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+        repository.add("C");
+        repository.remove("B");
+        repository.stop();
+
+        repository = new AppendOnlyFileIdempotentRepository(fileStore);
+        repository.start();
+
+        assertEquals(2, repository.getCacheSize());
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertTrue(repository.contains("C"));
+    }
+
+    @Test
+    public void testLoadStoreWithIncompleteRecord() throws Exception {
+        try (FileOutputStream fos = new FileOutputStream(fileStore)) {
+            fos.write("+A\n+B\n+C".getBytes(StandardCharsets.UTF_8));
+        }
+
+        repository.start();
+        assertEquals(2, repository.getCacheSize());
+        assertFalse(repository.contains("C"));
+
+        // the incomplete record is removed so the next record is appended after the last complete record
+        repository.add("D");
+        assertEquals(List.of("+A", "+B", "+D"), Files.readAllLines(fileStore.toPath()));
+    }
+
+    @Test
+    public void testCompact() throws Exception {
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key" + i);
+        }
+        for (int i = 0; i < 90; i++) {
+            repository.remove("key" + i);
+        }
+        assertEquals(190, repository.getRecords());
+
+        repository.compact();
+
+        assertEquals(10, repository.getRecords());
+        assertEquals(1, repository.getCompactions());
+        assertEquals(10, Files.readAllLines(fileStore.toPath()).size());
+
+        // the records are appended to the compacted file store
+        repository.add("key0");
+        repository.stop();
+
+        repository = new AppendOnlyFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(11, repository.getCacheSize());
+        assertTrue(repository.contains("key0"));
+        assertFalse(repository.contains("key1"));
+        assertTrue(repository.contains("key99"));
+    }
+
+    @Test
+    public void testCompactFailedMove() throws Exception {
+        repository = new AppendOnlyFileIdempotentRepository(fileStore) {
+            @Override
+            protected void replaceStore(File compacted) throws IOException {
+                throw new IOException("Forced");
+            }
+        };
+        repository.start();
+        for (int i = 0; i < 10; i++) {
+            repository.add("key" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            repository.remove("key" + i);
+        }
+
+        assertThrows(IOException.class, () -> repository.compact());
+
+        // the original file store is kept and the records are still appended to it
+        assertEquals(15, repository.getRecords());
+        assertEquals(0, repository.getCompactions());
+        assertFalse(new File(fileStore.getPath() + ".compact").exists());
+        assertTrue(repository.add("key0"));
+        assertEquals(16, Files.readAllLines(fileStore.toPath()).size());
+        repository.stop();
+
+        repository = new AppendOnlyFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(6, repository.getCacheSize());
+        assertTrue(repository.contains("key0"));
+        assertFalse(repository.contains("key1"));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+
+        repository.clear();
+
+        assertFalse(repository.contains("A"));
+        assertEquals(0, fileStore.length());
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        repository.start();
+
+        ExecutorService service = Executors.newFixedThreadPool(10);
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            // each key is added twice
+            final String key = "key" + (i % 500);
+            tasks.add(() -> repository.add(key));
+        }
+        long added = 0;
+        for (Future<Boolean> future : service.invokeAll(tasks)) {
+            if (future.get()) {
+                added++;
+            }
+        }
+        service.shutdownNow();
+
+        assertEquals(500, added);
+        assertEquals(500, repository.getCacheSize());
+        assertEquals(500, Files.readAllLines(fileStore.toPath()).size());
+    }
+
+}
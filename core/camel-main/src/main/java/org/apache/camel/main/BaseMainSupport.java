@@ -507,6 +507,7 @@ public abstract class BaseMainSupport extends BaseService {
         configurer.setJavaRoutesIncludePattern(mainConfigurationProperties.getJavaRoutesIncludePattern());
         configurer.setRoutesExcludePattern(mainConfigurationProperties.getRoutesExcludePattern());
         configurer.setRoutesIncludePattern(mainConfigurationProperties.getRoutesIncludePattern());
+        configurer.setRoutesSnapshotFile(mainConfigurationProperties.getRoutesSnapshotFile());
         configurer.configureRoutes(camelContext);
     }
 
@@ -176,6 +176,8 @@ public final class DefaultConfigurationConfigurer {
         camelContext.getStreamCachingStrategy()
                 .setRemoveSpoolDirectoryWhenStopping(config.isStreamCachingRemoveSpoolDirectoryWhenStopping());
         camelContext.getStreamCachingStrategy().setSpoolCipher(config.getStreamCachingSpoolCipher());
+        camelContext.getStreamCachingStrategy().setOffHeap(config.isStreamCachingOffHeap());
+        camelContext.getStreamCachingStrategy().setSpoolMemoryMapped(config.isStreamCachingSpoolMemoryMapped());
         if (config.getStreamCachingSpoolDirectory() != null) {
             camelContext.getStreamCachingStrategy().setSpoolDirectory(config.getStreamCachingSpoolDirectory());
         }
@@ -316,6 +318,9 @@ public final class DefaultConfigurationConfigurer {
         if (config.getRouteControllerLoggingLevel() != null) {
             camelContext.getRouteController().setLoggingLevel(config.getRouteControllerLoggingLevel());
         }
+        if (config.isRouteControllerParallelStartup()) {
+            camelContext.getRouteController().setParallelStartup(true);
+        }
     }
 
     /**
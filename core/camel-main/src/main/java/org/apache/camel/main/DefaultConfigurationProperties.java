@@ -64,6 +64,8 @@ public abstract class DefaultConfigurationProperties<T> {
     private int streamCachingBufferSize;
     private boolean streamCachingRemoveSpoolDirectoryWhenStopping = true;
     private boolean streamCachingStatisticsEnabled;
+    private boolean streamCachingOffHeap;
+    private boolean streamCachingSpoolMemoryMapped;
     private boolean debugging;
     private boolean backlogTracing;
     private boolean tracing;
@@ -97,6 +99,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String javaRoutesExcludePattern;
     private String routesIncludePattern = "classpath:camel/*,classpath:camel-template/*,classpath:camel-rest/*";
     private String routesExcludePattern;
+    private String routesSnapshotFile;
     private boolean routesReloadEnabled;
     @Metadata(defaultValue = "src/main/resources/camel")
     private String routesReloadDirectory = "src/main/resources/camel";
@@ -118,6 +121,7 @@ public abstract class DefaultConfigurationProperties<T> {
     @Metadata(defaultValue = "DEBUG")
     @Deprecated
     private LoggingLevel routeControllerLoggingLevel;
+    private boolean routeControllerParallelStartup;
     private boolean routeControllerSuperviseEnabled;
     private String routeControllerIncludeRoutes;
     private String routeControllerExcludeRoutes;
@@ -512,6 +516,34 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingStatisticsEnabled = streamCachingStatisticsEnabled;
     }
 
+    public boolean isStreamCachingOffHeap() {
+        return streamCachingOffHeap;
+    }
+
+    /**
+     * Sets whether in-memory stream caches should be stored off-heap in pooled direct buffers instead of byte arrays on
+     * the heap. This reduces the pressure on the garbage collector when caching large or many streams.
+     *
+     * The default value is false.
+     */
+    public void setStreamCachingOffHeap(boolean streamCachingOffHeap) {
+        this.streamCachingOffHeap = streamCachingOffHeap;
+    }
+
+    public boolean isStreamCachingSpoolMemoryMapped() {
+        return streamCachingSpoolMemoryMapped;
+    }
+
+    /**
+     * Sets whether stream caches spooled to disk should be read using a memory-mapped file instead of a file input
+     * stream. This option is not used when a spool cipher is in use.
+     *
+     * The default value is false.
+     */
+    public void setStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+    }
+
     public boolean isTracing() {
         return tracing;
     }
@@ -1002,6 +1034,25 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routesExcludePattern = routesExcludePattern;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    /**
+     * File to use as snapshot of the routes collected from directories (see routesIncludePattern).
+     *
+     * If the file does not exist, then the routes are collected as usual, and their model is saved to the file (in XML)
+     * after the routes have been configured. On the following runs, the routes are loaded from the snapshot file, which
+     * avoids scanning the classpath and parsing each route file on startup. The snapshot holds a checksum of the route
+     * files, and when the route files have changed then the routes are collected and saved again. Only XML route files
+     * are supported, and the snapshot is not in use when other kinds of route files are collected. Saving the snapshot
+     * requires camel-xml-jaxb, and loading it requires camel-xml-io-dsl (or camel-xml-jaxb-dsl). Rests, route templates
+     * and route configurations are not supported.
+     */
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
     public boolean isRoutesReloadEnabled() {
         return routesReloadEnabled;
     }
@@ -1190,6 +1241,23 @@ public abstract class DefaultConfigurationProperties<T> {
         this.routeControllerLoggingLevel = routeControllerLoggingLevel;
     }
 
+    public boolean isRouteControllerParallelStartup() {
+        return routeControllerParallelStartup;
+    }
+
+    /**
+     * Whether to start the routes in parallel, which can speedup startup when there are many routes that connect to
+     * remote systems (such as message brokers) on startup.
+     *
+     * Routes with an explicit startup order are still started one by one, in that order, and routes that consume from
+     * the same endpoint are started one after the other. All the other routes are warmed up and started concurrently
+     * using a thread pool from the default thread pool profile. This is not in use with the supervising route
+     * controller, which starts the routes in the background.
+     */
+    public void setRouteControllerParallelStartup(boolean routeControllerParallelStartup) {
+        this.routeControllerParallelStartup = routeControllerParallelStartup;
+    }
+
     public boolean isRouteControllerSuperviseEnabled() {
         return routeControllerSuperviseEnabled;
     }
@@ -1687,6 +1755,28 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets whether in-memory stream caches should be stored off-heap in pooled direct buffers instead of byte arrays on
+     * the heap. This reduces the pressure on the garbage collector when caching large or many streams.
+     *
+     * The default value is false.
+     */
+    public T withStreamCachingOffHeap(boolean streamCachingOffHeap) {
+        this.streamCachingOffHeap = streamCachingOffHeap;
+        return (T) this;
+    }
+
+    /**
+     * Sets whether stream caches spooled to disk should be read using a memory-mapped file instead of a file input
+     * stream. This option is not used when a spool cipher is in use.
+     *
+     * The default value is false.
+     */
+    public T withStreamCachingSpoolMemoryMapped(boolean streamCachingSpoolMemoryMapped) {
+        this.streamCachingSpoolMemoryMapped = streamCachingSpoolMemoryMapped;
+        return (T) this;
+    }
+
     /**
      * Sets whether tracing is enabled or not.
      *
@@ -2059,6 +2149,22 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * File to use as snapshot of the routes collected from directories (see routesIncludePattern).
+     *
+     * If the file does not exist, then the routes are collected as usual, and their model is saved to the file (in XML)
+     * after the routes have been configured. On the following runs, the routes are loaded from the snapshot file, which
+     * avoids scanning the classpath and parsing each route file on startup. The snapshot holds a checksum of the route
+     * files, and when the route files have changed then the routes are collected and saved again. Only XML route files
+     * are supported, and the snapshot is not in use when other kinds of route files are collected. Saving the snapshot
+     * requires camel-xml-jaxb, and loading it requires camel-xml-io-dsl (or camel-xml-jaxb-dsl). Rests, route templates
+     * and route configurations are not supported.
+     */
+    public T withRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+        return (T) this;
+    }
+
     /**
      * Used for enabling automatic routes reloading. If enabled then Camel will watch for file changes in the given
      * reload directory, and trigger reloading routes if files are changed.
@@ -2219,6 +2325,20 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Whether to start the routes in parallel, which can speedup startup when there are many routes that connect to
+     * remote systems (such as message brokers) on startup.
+     *
+     * Routes with an explicit startup order are still started one by one, in that order, and routes that consume from
+     * the same endpoint are started one after the other. All the other routes are warmed up and started concurrently
+     * using a thread pool from the default thread pool profile. This is not in use with the supervising route
+     * controller, which starts the routes in the background.
+     */
+    public T withRouteControllerParallelStartup(boolean routeControllerParallelStartup) {
+        this.routeControllerParallelStartup = routeControllerParallelStartup;
+        return (T) this;
+    }
+
     /**
      * To enable using supervising route controller which allows Camel to startup and then the controller takes care of
      * starting the routes in a safe manner.
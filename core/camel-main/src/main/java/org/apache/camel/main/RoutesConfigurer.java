@@ -16,18 +16,35 @@
  */
 package org.apache.camel.main;
 
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.RouteConfigurationsBuilder;
 import org.apache.camel.RoutesBuilder;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.model.Model;
+import org.apache.camel.model.RoutesDefinition;
 import org.apache.camel.spi.CamelBeanPostProcessor;
+import org.apache.camel.spi.PackageScanResourceResolver;
+import org.apache.camel.spi.Resource;
 import org.apache.camel.support.OrderedComparator;
+import org.apache.camel.support.ResourceHelper;
+import org.apache.camel.util.AntPathMatcher;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.StopWatch;
 import org.apache.camel.util.TimeUtils;
 import org.slf4j.Logger;
@@ -38,6 +55,7 @@ import org.slf4j.LoggerFactory;
  */
 public class RoutesConfigurer {
     private static final Logger LOG = LoggerFactory.getLogger(RoutesConfigurer.class);
+    private static final String SNAPSHOT_CHECKSUM = "routes-checksum: ";
 
     private RoutesCollector routesCollector;
     private CamelBeanPostProcessor beanPostProcessor;
@@ -48,6 +66,7 @@ public class RoutesConfigurer {
     private String javaRoutesIncludePattern;
     private String routesExcludePattern;
     private String routesIncludePattern;
+    private String routesSnapshotFile;
 
     public List<RoutesBuilder> getRoutesBuilders() {
         return routesBuilders;
@@ -105,6 +124,14 @@ public class RoutesConfigurer {
         this.routesIncludePattern = routesIncludePattern;
     }
 
+    public String getRoutesSnapshotFile() {
+        return routesSnapshotFile;
+    }
+
+    public void setRoutesSnapshotFile(String routesSnapshotFile) {
+        this.routesSnapshotFile = routesSnapshotFile;
+    }
+
     public RoutesCollector getRoutesCollector() {
         return routesCollector;
     }
@@ -163,6 +190,8 @@ public class RoutesConfigurer {
             }
         }
 
+        Collection<RoutesBuilder> snapshot = null;
+        String snapshotChecksum = null;
         if (getRoutesCollector() != null) {
             try {
                 LOG.debug("RoutesCollectorEnabled: {}", getRoutesCollector());
@@ -179,18 +208,33 @@ public class RoutesConfigurer {
                             getRoutesIncludePattern());
                 }
 
-                // add discovered routes from directories
+                // add discovered routes from directories (or from the snapshot of a previous run)
                 StopWatch watch = new StopWatch();
-                Collection<RoutesBuilder> routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
-                        camelContext,
-                        getRoutesExcludePattern(),
-                        getRoutesIncludePattern());
-                routes.addAll(routesFromDirectory);
-
-                if (LOG.isDebugEnabled() && !routesFromDirectory.isEmpty()) {
-                    LOG.debug("Loaded {} additional RoutesBuilder from: {} (took {})", routesFromDirectory.size(),
-                            getRoutesIncludePattern(), TimeUtils.printDuration(watch.taken()));
+                Collection<RoutesBuilder> routesFromDirectory = null;
+                if (getRoutesSnapshotFile() != null) {
+                    snapshotChecksum = computeRoutesChecksum(camelContext);
+                    if (snapshotChecksum != null) {
+                        routesFromDirectory = loadRoutesSnapshot(camelContext, snapshotChecksum);
+                    }
                 }
+                if (routesFromDirectory != null) {
+                    LOG.info("Loaded {} RoutesBuilder from snapshot: {} (took {})", routesFromDirectory.size(),
+                            getRoutesSnapshotFile(), TimeUtils.printDuration(watch.taken()));
+                } else {
+                    routesFromDirectory = getRoutesCollector().collectRoutesFromDirectory(
+                            camelContext,
+                            getRoutesExcludePattern(),
+                            getRoutesIncludePattern());
+                    if (snapshotChecksum != null) {
+                        snapshot = routesFromDirectory;
+                    }
+
+                    if (LOG.isDebugEnabled() && !routesFromDirectory.isEmpty()) {
+                        LOG.debug("Loaded {} additional RoutesBuilder from: {} (took {})", routesFromDirectory.size(),
+                                getRoutesIncludePattern(), TimeUtils.printDuration(watch.taken()));
+                    }
+                }
+                routes.addAll(routesFromDirectory);
             } catch (Exception e) {
                 throw RuntimeCamelException.wrapRuntimeException(e);
             }
@@ -208,6 +252,11 @@ public class RoutesConfigurer {
         // add the discovered routes
         addDiscoveredRoutes(camelContext, routes);
 
+        if (snapshot != null) {
+            // the routes have now been configured so their model can be saved for the next run
+            saveRoutesSnapshot(camelContext, snapshot, snapshotChecksum);
+        }
+
         // then discover and add templates
         Set<ConfigureRouteTemplates> set = camelContext.getRegistry().findByType(ConfigureRouteTemplates.class);
         for (ConfigureRouteTemplates crt : set) {
@@ -216,6 +265,131 @@ public class RoutesConfigurer {
         }
     }
 
+    /**
+     * Computes a checksum of the route files which are collected from directories, so a snapshot is only used while the
+     * route files are unchanged. Only XML route files can be saved in a snapshot (without losing anything), as the
+     * other kinds of route files can have processors, beans or error handlers which are not part of the XML model.
+     *
+     * @return the checksum, or <tt>null</tt> if the routes cannot be saved in a snapshot
+     */
+    private String computeRoutesChecksum(CamelContext camelContext) throws Exception {
+        String includePattern = getRoutesIncludePattern();
+        if (includePattern == null || "false".equals(includePattern)) {
+            return null;
+        }
+        String excludePattern = getRoutesExcludePattern();
+        String[] excludes = excludePattern != null ? excludePattern.split(",") : null;
+
+        // sort the route files so the checksum does not depend on the order they are found
+        PackageScanResourceResolver resolver = camelContext.adapt(ExtendedCamelContext.class).getPackageScanResourceResolver();
+        Map<String, Resource> resources = new TreeMap<>();
+        for (String include : includePattern.split(",")) {
+            try {
+                for (Resource resource : resolver.findResources(include)) {
+                    if (!"false".equals(excludePattern) && AntPathMatcher.INSTANCE.anyMatch(excludes, resource.getLocation())) {
+                        continue;
+                    }
+                    resources.put(resource.getLocation(), resource);
+                }
+            } catch (FileNotFoundException e) {
+                // no route files from this location
+            }
+        }
+
+        CRC32 checksum = new CRC32();
+        for (Resource resource : resources.values()) {
+            if (!"xml".equals(FileUtil.onlyExt(resource.getLocation(), true))) {
+                LOG.info("Routes snapshot: {} is not in use as route: {} is not an XML file", getRoutesSnapshotFile(),
+                        resource.getLocation());
+                return null;
+            }
+            checksum.update(resource.getLocation().getBytes(StandardCharsets.UTF_8));
+            try (InputStream is = resource.getInputStream()) {
+                checksum.update(IOHelper.loadText(is).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return Long.toHexString(checksum.getValue());
+    }
+
+    /**
+     * Loads the routes from the snapshot file (if exists and the route files are unchanged), which avoids scanning the
+     * classpath and parsing the individual route files again.
+     *
+     * @return the loaded routes, or <tt>null</tt> if the routes should be collected
+     */
+    private Collection<RoutesBuilder> loadRoutesSnapshot(CamelContext camelContext, String checksum) {
+        File file = new File(getRoutesSnapshotFile());
+        if (!file.isFile()) {
+            LOG.debug("Routes snapshot: {} does not exist, routes will be collected from: {}", file,
+                    getRoutesIncludePattern());
+            return null;
+        }
+
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        try {
+            String xml = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+            if (!xml.contains(checksumComment(checksum))) {
+                LOG.info("Routes snapshot: {} is outdated as the routes have changed. Routes will be collected from: {}",
+                        file, getRoutesIncludePattern());
+                return null;
+            }
+            Resource resource = ResourceHelper.fromString("file:" + file.getPath(), xml);
+            return ecc.getRoutesLoader().findRoutesBuilders(resource);
+        } catch (Exception e) {
+            LOG.warn("Cannot load routes snapshot: {} due to: {}. Routes will be collected from: {}", file, e.getMessage(),
+                    getRoutesIncludePattern(), e);
+            return null;
+        }
+    }
+
+    private static String checksumComment(String checksum) {
+        return "<!-- " + SNAPSHOT_CHECKSUM + checksum + " -->";
+    }
+
+    /**
+     * Saves the model of the given (already configured) routes as a XML snapshot file, which is loaded on the next run
+     * instead of collecting the routes again (as long as the route files have the same checksum).
+     */
+    private void saveRoutesSnapshot(CamelContext camelContext, Collection<RoutesBuilder> builders, String checksum) {
+        File file = new File(getRoutesSnapshotFile());
+
+        RoutesDefinition snapshot = new RoutesDefinition();
+        for (RoutesBuilder builder : builders) {
+            if (!(builder instanceof RouteBuilder)) {
+                LOG.warn("Cannot save routes snapshot: {} as RoutesBuilder: {} is not a RouteBuilder", file, builder);
+                return;
+            }
+            RouteBuilder rb = (RouteBuilder) builder;
+            if (!rb.getRestCollection().getRests().isEmpty()
+                    || !rb.getRouteTemplateCollection().getRouteTemplates().isEmpty()) {
+                LOG.warn("Cannot save routes snapshot: {} as rests and route templates are not supported", file);
+                return;
+            }
+            snapshot.getRoutes().addAll(rb.getRouteCollection().getRoutes());
+        }
+        Model model = camelContext.getExtension(Model.class);
+        if (model != null && !model.getRouteConfigurationDefinitions().isEmpty()) {
+            LOG.warn("Cannot save routes snapshot: {} as route configurations are not supported", file);
+            return;
+        }
+
+        ExtendedCamelContext ecc = camelContext.adapt(ExtendedCamelContext.class);
+        try {
+            String xml = ecc.getModelToXMLDumper().dumpModelAsXml(camelContext, snapshot);
+            // keep the checksum of the route files in the snapshot, after the xml declaration (if any)
+            int pos = xml.startsWith("<?xml") ? xml.indexOf("?>") + 2 : 0;
+            xml = xml.substring(0, pos) + "\n" + checksumComment(checksum) + "\n" + xml.substring(pos);
+            File dir = file.getAbsoluteFile().getParentFile();
+            if (dir != null) {
+                dir.mkdirs();
+            }
+            Files.write(file.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+            LOG.info("Saved {} routes to snapshot: {}", snapshot.getRoutes().size(), file);
+        } catch (Exception e) {
+            LOG.warn("Cannot save routes snapshot: {} due to: {}", file, e.getMessage(), e);
+        }
+    }
+
     private void addDiscoveredRoutes(CamelContext camelContext, List<RoutesBuilder> routes) throws Exception {
         // sort routes according to ordered
         routes.sort(OrderedComparator.get());
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.main;
+
+import java.io.File;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.RoutesBuilder;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.model.RouteDefinition;
+import org.apache.camel.model.RoutesDefinition;
+import org.apache.camel.spi.Resource;
+import org.apache.camel.support.RoutesBuilderLoaderSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.xml.jaxb.JaxbHelper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MainRoutesSnapshotTest {
+
+    private static final String ROUTES_DIR = "target/data/snapshot/routes";
+    private static final String SNAPSHOT_FILE = "target/data/snapshot/routes-snapshot.xml";
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        FileUtil.removeDir(new File("target/data/snapshot"));
+        new File(ROUTES_DIR).mkdirs();
+        writeRoutes("mock:results");
+    }
+
+    @Test
+    public void testMainRoutesSnapshot() throws Exception {
+        // first run collects the routes and saves the snapshot
+        runMain("*.xml", "mock:results");
+        File snapshot = new File(SNAPSHOT_FILE);
+        assertTrue(snapshot.isFile());
+        String xml = readSnapshot();
+        assertTrue(xml.contains("mock:results"), xml);
+        assertTrue(xml.contains("routes-checksum"), xml);
+
+        // second run must load the routes from the snapshot (which is changed to tell the difference)
+        Files.write(snapshot.toPath(), xml.replace("mock:results", "mock:snapshot").getBytes(StandardCharsets.UTF_8));
+        runMain("*.xml", "mock:snapshot");
+    }
+
+    @Test
+    public void testMainRoutesSnapshotOutdated() throws Exception {
+        runMain("*.xml", "mock:results");
+        assertTrue(readSnapshot().contains("mock:results"));
+
+        // the route files have changed so the snapshot must not be used, but saved again
+        writeRoutes("mock:changed");
+        runMain("*.xml", "mock:changed");
+        assertTrue(readSnapshot().contains("mock:changed"));
+    }
+
+    @Test
+    public void testMainRoutesSnapshotNotXml() throws Exception {
+        // routes from other kinds of route files cannot be saved as they may not be part of the XML model
+        Files.write(new File(ROUTES_DIR, "bar.java").toPath(), "bar".getBytes(StandardCharsets.UTF_8));
+        runMain("*", "mock:results");
+        assertFalse(new File(SNAPSHOT_FILE).exists());
+    }
+
+    private static void writeRoutes(String uri) throws Exception {
+        Files.write(new File(ROUTES_DIR, "foo.xml").toPath(),
+                ("<routes xmlns=\"http://camel.apache.org/schema/spring\">"
+                 + "<route id=\"foo\"><from uri=\"direct:start\"/><to uri=\"" + uri + "\"/></route>"
+                 + "</routes>").getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readSnapshot() throws Exception {
+        return new String(Files.readAllBytes(new File(SNAPSHOT_FILE).toPath()), StandardCharsets.UTF_8);
+    }
+
+    private void runMain(String include, String uri) throws Exception {
+        Main main = new Main();
+        main.bind("routes-builder-loader-xml", new JaxbRoutesBuilderLoader());
+        main.bind("routes-builder-loader-java", new JavaRoutesBuilderLoader());
+        main.configure()
+                .withRoutesIncludePattern("file:" + ROUTES_DIR + "/" + include)
+                .withRoutesSnapshotFile(SNAPSHOT_FILE);
+        main.start();
+        try {
+            CamelContext camelContext = main.getCamelContext();
+            assertNotNull(camelContext.getRoute("foo"));
+
+            MockEndpoint endpoint = camelContext.getEndpoint(uri, MockEndpoint.class);
+            endpoint.expectedBodiesReceived("Hello World");
+
+            main.getCamelTemplate().sendBody("direct:start", "Hello World");
+
+            endpoint.assertIsSatisfied();
+        } finally {
+            main.stop();
+        }
+    }
+
+    private static class JavaRoutesBuilderLoader extends RoutesBuilderLoaderSupport {
+
+        @Override
+        public String getSupportedExtension() {
+            return "java";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    from("direct:bar").routeId("bar").process(exchange -> exchange.getMessage().setBody("Bye World"));
+                }
+            };
+        }
+    }
+
+    private static class JaxbRoutesBuilderLoader extends RoutesBuilderLoaderSupport {
+
+        @Override
+        public String getSupportedExtension() {
+            return "xml";
+        }
+
+        @Override
+        public RoutesBuilder loadRoutesBuilder(Resource resource) throws Exception {
+            return new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    try (InputStream is = resource.getInputStream()) {
+                        RoutesDefinition routes = JaxbHelper.loadRoutesDefinition(getContext(), is);
+                        getRouteCollection().setCamelContext(getContext());
+                        for (RouteDefinition route : routes.getRoutes()) {
+                            getRouteCollection().route(route);
+                        }
+                    }
+                }
+            };
+        }
+    }
+}
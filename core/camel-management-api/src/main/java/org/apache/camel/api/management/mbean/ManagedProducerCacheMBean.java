@@ -30,6 +30,21 @@ public interface ManagedProducerCacheMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Maximum cache size (capacity)")
     Integer getMaximumCacheSize();
 
+    @ManagedAttribute(description = "Number of pooled producers acquired from the cache")
+    Long getHits();
+
+    @ManagedAttribute(description = "Number of producers not in the cache, which had to be created")
+    Long getMisses();
+
+    @ManagedAttribute(description = "Number of producers created")
+    Long getCreated();
+
+    @ManagedAttribute(description = "Number of producers evicted from the cache")
+    Long getEvicted();
+
+    @ManagedOperation(description = "Resets the cache statistics")
+    void resetStatistics();
+
     @ManagedOperation(description = "Purges the cache")
     void purge();
 
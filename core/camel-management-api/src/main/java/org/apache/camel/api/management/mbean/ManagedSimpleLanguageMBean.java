@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.api.management.mbean;
+
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+
+public interface ManagedSimpleLanguageMBean extends ManagedServiceMBean {
+
+    @ManagedAttribute(description = "Maximum cache size")
+    int getMaximumCacheSize();
+
+    @ManagedAttribute(description = "Number of cached expressions")
+    int getExpressionCacheSize();
+
+    @ManagedAttribute(description = "Number of expression cache hits")
+    long getExpressionCacheHits();
+
+    @ManagedAttribute(description = "Number of expression cache misses")
+    long getExpressionCacheMisses();
+
+    @ManagedAttribute(description = "Number of expressions evicted from the cache")
+    long getExpressionCacheEvicted();
+
+    @ManagedAttribute(description = "Number of cached predicates")
+    int getPredicateCacheSize();
+
+    @ManagedAttribute(description = "Number of predicate cache hits")
+    long getPredicateCacheHits();
+
+    @ManagedAttribute(description = "Number of predicate cache misses")
+    long getPredicateCacheMisses();
+
+    @ManagedAttribute(description = "Number of predicates evicted from the cache")
+    long getPredicateCacheEvicted();
+
+    @ManagedOperation(description = "Resets the cache statistics")
+    void resetStatistics();
+
+    @ManagedOperation(description = "Clears the caches")
+    void clearCache();
+
+}
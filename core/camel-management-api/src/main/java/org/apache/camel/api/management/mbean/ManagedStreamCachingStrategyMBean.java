@@ -74,6 +74,12 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether any or all spool rules determines whether to spool")
     boolean isAnySpoolRules();
 
+    @ManagedAttribute(description = "Whether in-memory stream caches are stored off-heap")
+    boolean isOffHeap();
+
+    @ManagedAttribute(description = "Whether spooled stream caches are read using memory-mapped files")
+    boolean isSpoolMemoryMapped();
+
     @ManagedAttribute(description = "Number of in-memory StreamCache created")
     long getCacheMemoryCounter();
 
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management.mbean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.api.management.mbean.ManagedSimpleLanguageMBean;
+import org.apache.camel.language.simple.SimpleLanguage;
+import org.apache.camel.support.LRUCache;
+
+@ManagedResource(description = "Managed SimpleLanguage")
+public class ManagedSimpleLanguage extends ManagedService implements ManagedSimpleLanguageMBean {
+
+    private final SimpleLanguage language;
+
+    public ManagedSimpleLanguage(CamelContext context, SimpleLanguage language) {
+        super(context, language);
+        this.language = language;
+    }
+
+    public SimpleLanguage getLanguage() {
+        return language;
+    }
+
+    @Override
+    public int getMaximumCacheSize() {
+        LRUCache<?, ?> cache = language.getExpressionCache();
+        return cache != null ? cache.getMaxCacheSize() : 0;
+    }
+
+    @Override
+    public int getExpressionCacheSize() {
+        LRUCache<?, ?> cache = language.getExpressionCache();
+        return cache != null ? cache.size() : 0;
+    }
+
+    @Override
+    public long getExpressionCacheHits() {
+        LRUCache<?, ?> cache = language.getExpressionCache();
+        return cache != null ? cache.getHits() : 0;
+    }
+
+    @Override
+    public long getExpressionCacheMisses() {
+        LRUCache<?, ?> cache = language.getExpressionCache();
+        return cache != null ? cache.getMisses() : 0;
+    }
+
+    @Override
+    public long getExpressionCacheEvicted() {
+        LRUCache<?, ?> cache = language.getExpressionCache();
+        return cache != null ? cache.getEvicted() : 0;
+    }
+
+    @Override
+    public int getPredicateCacheSize() {
+        LRUCache<?, ?> cache = language.getPredicateCache();
+        return cache != null ? cache.size() : 0;
+    }
+
+    @Override
+    public long getPredicateCacheHits() {
+        LRUCache<?, ?> cache = language.getPredicateCache();
+        return cache != null ? cache.getHits() : 0;
+    }
+
+    @Override
+    public long getPredicateCacheMisses() {
+        LRUCache<?, ?> cache = language.getPredicateCache();
+        return cache != null ? cache.getMisses() : 0;
+    }
+
+    @Override
+    public long getPredicateCacheEvicted() {
+        LRUCache<?, ?> cache = language.getPredicateCache();
+        return cache != null ? cache.getEvicted() : 0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        if (language.getExpressionCache() != null) {
+            language.getExpressionCache().resetStatistics();
+        }
+        if (language.getPredicateCache() != null) {
+            language.getPredicateCache().resetStatistics();
+        }
+    }
+
+    @Override
+    public void clearCache() {
+        if (language.getExpressionCache() != null) {
+            language.getExpressionCache().clear();
+        }
+        if (language.getPredicateCache() != null) {
+            language.getPredicateCache().clear();
+        }
+    }
+
+}
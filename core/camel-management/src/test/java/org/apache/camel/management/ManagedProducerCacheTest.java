@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.AsyncProducer;
+import org.apache.camel.Endpoint;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.support.cache.DefaultProducerCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedProducerCacheTest extends ManagementTestSupport {
+
+    @Test
+    public void testManageProducerCache() throws Exception {
+        // always register services in JMX so we can enlist our producer cache
+        context.getManagementStrategy().getManagementAgent().setRegisterAlways(true);
+
+        DefaultProducerCache cache = new DefaultProducerCache(this, context, 0);
+        context.addService(cache);
+
+        Endpoint endpoint = context.getEndpoint("seda:queue");
+        for (int i = 0; i < 3; i++) {
+            AsyncProducer producer = cache.acquireProducer(endpoint);
+            cache.releaseProducer(endpoint, producer);
+        }
+
+        // get the stats for the route
+        MBeanServer mbeanServer = getMBeanServer();
+        Set<ObjectName> set = mbeanServer.queryNames(new ObjectName("*:type=services,*"), null);
+        List<ObjectName> list = new ArrayList<>(set);
+        ObjectName on = null;
+        for (ObjectName name : list) {
+            if (name.getCanonicalName().contains("DefaultProducerCache")) {
+                on = name;
+                break;
+            }
+        }
+
+        assertNotNull(on, "Should have found ProducerCache");
+
+        Integer max = (Integer) mbeanServer.getAttribute(on, "MaximumCacheSize");
+        assertEquals(1000, max.intValue());
+
+        Integer current = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertEquals(1, current.intValue());
+
+        String source = (String) mbeanServer.getAttribute(on, "Source");
+        assertNotNull(source);
+        assertTrue(source.contains("testManageProducerCache"));
+
+        Long hits = (Long) mbeanServer.getAttribute(on, "Hits");
+        assertEquals(2, hits.longValue());
+        Long misses = (Long) mbeanServer.getAttribute(on, "Misses");
+        assertEquals(1, misses.longValue());
+        Long created = (Long) mbeanServer.getAttribute(on, "Created");
+        assertEquals(1, created.longValue());
+        Long evicted = (Long) mbeanServer.getAttribute(on, "Evicted");
+        assertEquals(0, evicted.longValue());
+
+        mbeanServer.invoke(on, "resetStatistics", null, null);
+
+        hits = (Long) mbeanServer.getAttribute(on, "Hits");
+        assertEquals(0, hits.longValue());
+        misses = (Long) mbeanServer.getAttribute(on, "Misses");
+        assertEquals(0, misses.longValue());
+
+        // purge
+        mbeanServer.invoke(on, "purge", null, null);
+
+        current = (Integer) mbeanServer.getAttribute(on, "Size");
+        assertEquals(0, current.intValue());
+
+        cache.stop();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("seda:queue");
+            }
+        };
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedRouteParallelStartupTest extends ManagementTestSupport {
+
+    private static final int ROUTES = 20;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getRouteController().setParallelStartup(true);
+        return context;
+    }
+
+    @Test
+    public void testParallelStartup() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        Set<ObjectName> routes = mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null);
+        assertEquals(ROUTES, routes.size());
+
+        // the multicast processors create their thread pools when the routes are started
+        assertEquals(ROUTES, queryAggregateThreadPools(mbeanServer).size());
+
+        getMockEndpoint("mock:result").expectedMessageCount(ROUTES);
+        for (int i = 0; i < ROUTES; i++) {
+            template.sendBody("direct:r" + i, "Hello " + i);
+        }
+        assertMockEndpointsSatisfied();
+
+        // the performance counters of the processors must be registered for all the routes
+        long completed = 0;
+        for (ObjectName on : mbeanServer.queryNames(new ObjectName("*:type=processors,name=\"to*\",*"), null)) {
+            completed += (Long) mbeanServer.getAttribute(on, "ExchangesCompleted");
+        }
+        assertEquals(ROUTES, completed);
+
+        for (int i = 0; i < ROUTES; i++) {
+            context.getRouteController().stopRoute("r" + i);
+            context.removeRoute("r" + i);
+        }
+
+        // and the thread pools must be unregistered again
+        assertEquals(0, mbeanServer.queryNames(new ObjectName("*:type=routes,*"), null).size());
+        assertEquals(0, queryAggregateThreadPools(mbeanServer).size());
+    }
+
+    private static Set<ObjectName> queryAggregateThreadPools(MBeanServer mbeanServer) throws Exception {
+        return mbeanServer.queryNames(new ObjectName("*:type=threadpools,name=\"MulticastProcessor(*\",*"),
+                null);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                for (int i = 0; i < ROUTES; i++) {
+                    from("direct:r" + i).routeId("r" + i)
+                            .multicast().parallelProcessing().timeout(5000)
+                                .to("mock:result")
+                            .end();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_SERVICE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedSimpleLanguageTest extends ManagementTestSupport {
+
+    @Test
+    public void testSimpleLanguageCache() throws Exception {
+        MBeanServer mbeanServer = getMBeanServer();
+
+        ObjectName name = null;
+        for (ObjectName service : mbeanServer.queryNames(getCamelObjectName(TYPE_SERVICE, "*"), null)) {
+            if (service.toString().contains("SimpleLanguage")) {
+                name = service;
+                break;
+            }
+        }
+        assertTrue(name != null && mbeanServer.isRegistered(name), "Cannot find SimpleLanguage");
+
+        getMockEndpoint("mock:foo").expectedMessageCount(2);
+        getMockEndpoint("mock:bar").expectedMessageCount(1);
+
+        template.sendBodyAndHeader("direct:start", "Hello", "dest", "foo");
+        template.sendBodyAndHeader("direct:start", "World", "dest", "foo");
+        template.sendBodyAndHeader("direct:start", "Bye", "dest", "bar");
+
+        assertMockEndpointsSatisfied();
+
+        // parse the same expression again which should hit the cache
+        for (int i = 0; i < 3; i++) {
+            context.resolveLanguage("simple").createExpression("Hello ${body}");
+        }
+
+        Integer max = (Integer) mbeanServer.getAttribute(name, "MaximumCacheSize");
+        assertEquals(1000, max.intValue());
+
+        Integer size = (Integer) mbeanServer.getAttribute(name, "ExpressionCacheSize");
+        assertTrue(size > 0, "Should have cached expressions");
+
+        Long hits = (Long) mbeanServer.getAttribute(name, "ExpressionCacheHits");
+        assertTrue(hits >= 2, "Should have cache hits");
+
+        mbeanServer.invoke(name, "resetStatistics", null, null);
+        hits = (Long) mbeanServer.getAttribute(name, "ExpressionCacheHits");
+        assertEquals(0, hits.longValue());
+
+        mbeanServer.invoke(name, "clearCache", null, null);
+        size = (Integer) mbeanServer.getAttribute(name, "ExpressionCacheSize");
+        assertEquals(0, size.intValue());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .toD("mock:${header.dest}");
+            }
+        };
+    }
+
+}
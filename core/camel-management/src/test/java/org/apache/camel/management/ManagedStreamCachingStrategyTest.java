@@ -85,6 +85,12 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
 
         Boolean remove = (Boolean) mbeanServer.getAttribute(name, "RemoveSpoolDirectoryWhenStopping");
         assertEquals(Boolean.TRUE, remove);
+
+        Boolean offHeap = (Boolean) mbeanServer.getAttribute(name, "OffHeap");
+        assertEquals(Boolean.FALSE, offHeap);
+
+        Boolean memoryMapped = (Boolean) mbeanServer.getAttribute(name, "SpoolMemoryMapped");
+        assertEquals(Boolean.FALSE, memoryMapped);
     }
 
     @Override
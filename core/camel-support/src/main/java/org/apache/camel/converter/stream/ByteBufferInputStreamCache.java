@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A {@link StreamCache} for data held in {@link ByteBuffer}s, such as pooled off-heap (direct) buffers or memory-mapped
+ * spool files.
+ * <p/>
+ * The buffers are shared (not copied) with the copies of this stream cache, where each copy has its own read position.
+ * This makes reading the cached data again (such as in multicast or content-based routing) zero-copy. Pooled buffers
+ * are released when all the exchanges using the stream cache are completed and all the copies have been closed, see
+ * {@link CachedDirectBufferOutputStream}.
+ */
+public final class ByteBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final ByteBuffer[] buffers;
+    private final long length;
+    private final boolean inMemory;
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final CachedDirectBufferOutputStream owner;
+    private int index;
+    private boolean closed;
+
+    ByteBufferInputStreamCache(ByteBuffer[] buffers, long length, boolean inMemory,
+                               FileInputStreamCache.TempFileManager tempFileManager) {
+        this.buffers = buffers;
+        this.length = length;
+        this.inMemory = inMemory;
+        this.tempFileManager = tempFileManager;
+        this.owner = null;
+    }
+
+    ByteBufferInputStreamCache(ByteBuffer[] buffers, long length, boolean inMemory,
+                               FileInputStreamCache.TempFileManager tempFileManager,
+                               CachedDirectBufferOutputStream owner) throws IOException {
+        this.buffers = buffers;
+        this.length = length;
+        this.inMemory = inMemory;
+        this.tempFileManager = tempFileManager;
+        this.owner = owner;
+        if (owner != null) {
+            // the pooled buffers must not be recycled while this stream cache is in use
+            owner.openView();
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        ByteBuffer buffer = nextBuffer();
+        return buffer != null ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        ByteBuffer buffer = nextBuffer();
+        if (buffer == null) {
+            return -1;
+        }
+        int n = Math.min(len, buffer.remaining());
+        buffer.get(b, off, n);
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n) {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                break;
+            }
+            int s = (int) Math.min(n - skipped, buffer.remaining());
+            cast(buffer).position(buffer.position() + s);
+            skipped += s;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        checkNotRecycled();
+        long remaining = 0;
+        for (int i = index; i < buffers.length; i++) {
+            remaining += buffers[i].remaining();
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    private ByteBuffer nextBuffer() throws IOException {
+        checkNotRecycled();
+        while (index < buffers.length) {
+            ByteBuffer buffer = buffers[index];
+            if (buffer.hasRemaining()) {
+                return buffer;
+            }
+            index++;
+        }
+        return null;
+    }
+
+    private void checkNotRecycled() throws IOException {
+        if (owner != null && owner.isRecycled()) {
+            throw new IOException("Stream cache buffers has been released");
+        }
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (ByteBuffer buffer : buffers) {
+            cast(buffer).rewind();
+        }
+        index = 0;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        byte[] chunk = new byte[(int) Math.min(Math.max(length, 1), 64 * 1024)];
+        ByteBuffer buffer;
+        while ((buffer = nextBuffer()) != null) {
+            int n = Math.min(chunk.length, buffer.remaining());
+            buffer.get(chunk, 0, n);
+            os.write(chunk, 0, n);
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        if (tempFileManager != null) {
+            tempFileManager.addExchange(exchange);
+        }
+        ByteBuffer[] copy = new ByteBuffer[buffers.length];
+        for (int i = 0; i < buffers.length; i++) {
+            copy[i] = buffers[i].duplicate();
+            cast(copy[i]).rewind();
+        }
+        return new ByteBufferInputStreamCache(copy, length, inMemory, tempFileManager, owner);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (owner != null && !closed) {
+            closed = true;
+            owner.closeView();
+        }
+    }
+
+    @Override
+    public boolean inMemory() {
+        return inMemory;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+}
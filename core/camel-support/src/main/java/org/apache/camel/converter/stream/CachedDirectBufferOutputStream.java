@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * An {@link OutputStream} which stores the data in off-heap (direct) buffers from the {@link DirectBufferPool}, that is
+ * capable of returning a {@link ByteBufferInputStreamCache} view of the buffers.
+ * <p/>
+ * The buffers are shared with the stream caches (no copying). They are released back to the pool when
+ * {@link #release()} has been called and all the stream caches using the buffers have been closed. Stream caches that
+ * are never closed keep the buffers out of the pool, and are reclaimed by the garbage collector instead. A stream cache
+ * which is read after its buffers have been recycled fails with an {@link IOException}.
+ */
+public final class CachedDirectBufferOutputStream extends OutputStream {
+
+    private final int bufferSize;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private ByteBuffer current;
+    private long count;
+    private int openViews;
+    private boolean released;
+    private volatile boolean recycled;
+
+    public CachedDirectBufferOutputStream(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureCapacity();
+        current.put((byte) b);
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ensureCapacity();
+            int n = Math.min(len, current.remaining());
+            current.put(b, off, n);
+            off += n;
+            len -= n;
+            count += n;
+        }
+    }
+
+    private void ensureCapacity() throws IOException {
+        if (released) {
+            throw new IOException("Stream cache buffers has been released");
+        }
+        if (current == null || !current.hasRemaining()) {
+            current = DirectBufferPool.acquire(bufferSize);
+            buffers.add(current);
+        }
+    }
+
+    /**
+     * Number of bytes written
+     */
+    public long size() {
+        return count;
+    }
+
+    /**
+     * Writes the data to the output stream
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        byte[] chunk = new byte[Math.min(bufferSize, 64 * 1024)];
+        for (ByteBuffer buffer : readOnlyBuffers()) {
+            while (buffer.hasRemaining()) {
+                int n = Math.min(chunk.length, buffer.remaining());
+                buffer.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        }
+    }
+
+    /**
+     * Creates a new {@link ByteBufferInputStreamCache} view of the buffers
+     *
+     * @param tempFileManager manages the life-cycle of the buffers
+     */
+    ByteBufferInputStreamCache newInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager)
+            throws IOException {
+        return new ByteBufferInputStreamCache(readOnlyBuffers(), count, true, tempFileManager, this);
+    }
+
+    private synchronized ByteBuffer[] readOnlyBuffers() throws IOException {
+        if (recycled) {
+            throw new IOException("Stream cache buffers has been released");
+        }
+        ByteBuffer[] answer = new ByteBuffer[buffers.size()];
+        for (int i = 0; i < answer.length; i++) {
+            ByteBuffer buffer = buffers.get(i).duplicate();
+            cast(buffer).flip();
+            answer[i] = buffer.asReadOnlyBuffer();
+        }
+        return answer;
+    }
+
+    /**
+     * Registers a stream cache which uses the buffers
+     */
+    synchronized void openView() throws IOException {
+        if (recycled) {
+            throw new IOException("Stream cache buffers has been released");
+        }
+        openViews++;
+    }
+
+    /**
+     * Unregisters a stream cache which uses the buffers, and recycles the buffers if they are released and this was the
+     * last stream cache using them
+     */
+    synchronized void closeView() {
+        openViews--;
+        if (released && openViews == 0) {
+            recycle();
+        }
+    }
+
+    /**
+     * Whether the buffers have been recycled back to the pool, so the stream caches can no longer be read
+     */
+    boolean isRecycled() {
+        return recycled;
+    }
+
+    /**
+     * Releases the buffers back to the pool, once all the stream caches using the buffers have been closed
+     */
+    public synchronized void release() {
+        if (!released) {
+            released = true;
+            if (openViews == 0) {
+                recycle();
+            }
+        }
+    }
+
+    private void recycle() {
+        recycled = true;
+        for (ByteBuffer buffer : buffers) {
+            DirectBufferPool.release(buffer);
+        }
+        buffers.clear();
+        current = null;
+    }
+}
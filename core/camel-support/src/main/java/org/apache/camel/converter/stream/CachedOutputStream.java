@@ -30,6 +30,10 @@ import org.apache.camel.spi.StreamCachingStrategy;
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
  * default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * The content is stored in memory in a byte array, or in pooled off-heap buffers if
+ * {@link StreamCachingStrategy#isOffHeap()} is enabled. The temp file is read using memory-mapping if
+ * {@link StreamCachingStrategy#isSpoolMemoryMapped()} is enabled.
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
@@ -55,7 +59,13 @@ public class CachedOutputStream extends OutputStream {
         tempFileManager = new TempFileManager(closedOnCompletion);
         tempFileManager.addExchange(exchange);
         this.strategy = exchange.getContext().getStreamCachingStrategy();
-        currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        if (strategy.isOffHeap()) {
+            CachedDirectBufferOutputStream out = new CachedDirectBufferOutputStream(strategy.getBufferSize());
+            tempFileManager.setReleaseTask(out::release);
+            currentStream = out;
+        } else {
+            currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
+        }
     }
 
     @Override
@@ -69,6 +79,7 @@ public class CachedOutputStream extends OutputStream {
         // need to clean up the temp file this time
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
+            tempFileManager.release();
             tempFileManager.cleanUpTempFile();
         }
     }
@@ -95,7 +106,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b, off, len);
@@ -104,7 +115,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -113,7 +124,7 @@ public class CachedOutputStream extends OutputStream {
     @Override
     public void write(int b) throws IOException {
         this.totalLength++;
-        if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
+        if (inMemory && strategy.shouldSpoolCache(totalLength)) {
             pageToFileStream();
         }
         currentStream.write(b);
@@ -137,9 +148,11 @@ public class CachedOutputStream extends OutputStream {
         if (inMemory) {
             if (currentStream instanceof CachedByteArrayOutputStream) {
                 return ((CachedByteArrayOutputStream) currentStream).newInputStreamCache();
+            } else if (currentStream instanceof CachedDirectBufferOutputStream) {
+                return ((CachedDirectBufferOutputStream) currentStream).newInputStreamCache(tempFileManager);
             } else {
                 throw new IllegalStateException(
-                        "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
+                        "CurrentStream should be an instance of CachedByteArrayOutputStream or CachedDirectBufferOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
         } else {
@@ -149,11 +162,16 @@ public class CachedOutputStream extends OutputStream {
 
     private void pageToFileStream() throws IOException {
         flush();
-        ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+        OutputStream bout = currentStream;
         try {
             // creates an tmp file and a file output stream
             currentStream = tempFileManager.createOutputStream(strategy);
-            bout.writeTo(currentStream);
+            if (bout instanceof CachedDirectBufferOutputStream) {
+                // the off-heap buffers may be in use by stream caches, so they are released when the exchange is done
+                ((CachedDirectBufferOutputStream) bout).writeTo(currentStream);
+            } else {
+                ((ByteArrayOutputStream) bout).writeTo(currentStream);
+            }
         } finally {
             // ensure flag is flipped to file based
             inMemory = false;
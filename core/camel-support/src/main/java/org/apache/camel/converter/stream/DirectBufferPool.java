@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.apache.camel.util.BufferCaster.cast;
+
+/**
+ * A pool of off-heap (direct) buffers used by off-heap stream caches.
+ * <p/>
+ * Allocating direct buffers is expensive, so the buffers are pooled by their capacity and reused when the stream caches
+ * that use them are released. Up to {@link #MAX_POOLED_BYTES} bytes of buffers of each capacity are kept in the pool,
+ * any other released buffers are left for the garbage collector.
+ */
+public final class DirectBufferPool {
+
+    /**
+     * The maximum number of bytes of buffers of the same capacity that are kept in the pool
+     */
+    public static final int MAX_POOLED_BYTES = 64 * 1024 * 1024;
+
+    private static final Map<Integer, Pool> POOLS = new ConcurrentHashMap<>();
+
+    private DirectBufferPool() {
+    }
+
+    /**
+     * Acquires a cleared buffer from the pool, or allocates a new buffer if the pool is empty.
+     *
+     * @param  capacity the capacity of the buffer
+     * @return          the buffer
+     */
+    public static ByteBuffer acquire(int capacity) {
+        Pool pool = POOLS.get(capacity);
+        ByteBuffer buffer = pool != null ? pool.poll() : null;
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(capacity);
+        }
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer back to the pool. The buffer must not be used after it has been released.
+     *
+     * @param buffer the buffer
+     */
+    public static void release(ByteBuffer buffer) {
+        if (buffer == null || !buffer.isDirect()) {
+            return;
+        }
+        cast(buffer).clear();
+        POOLS.computeIfAbsent(buffer.capacity(), Pool::new).offer(buffer);
+    }
+
+    /**
+     * Number of buffers in the pool
+     */
+    public static int getPooledBuffers() {
+        return POOLS.values().stream().mapToInt(p -> p.size.get()).sum();
+    }
+
+    private static final class Pool {
+        private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final int max;
+
+        Pool(int capacity) {
+            this.max = Math.max(1, MAX_POOLED_BYTES / capacity);
+        }
+
+        ByteBuffer poll() {
+            ByteBuffer buffer = buffers.poll();
+            if (buffer != null) {
+                size.decrementAndGet();
+            }
+            return buffer;
+        }
+
+        void offer(ByteBuffer buffer) {
+            if (size.incrementAndGet() <= max) {
+                buffers.offer(buffer);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -23,6 +23,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.security.GeneralSecurityException;
@@ -170,6 +172,8 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private File tempFile;
         private OutputStream outputStream; // file output stream
         private CipherPair ciphers;
+        private boolean memoryMapped;
+        private Runnable releaseTask;
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -214,6 +218,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                             } catch (Exception e) {
                                 LOG.warn("Error closing streams. This exception will be ignored.", e);
                             }
+                            release();
                             try {
                                 cleanUpTempFile();
                             } catch (Exception e) {
@@ -265,6 +270,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                 throw new IOException(error);
             }
             tempFile = FileUtil.createTempFile("cos", ".tmp", strategy.getSpoolDirectory());
+            memoryMapped = strategy.isSpoolMemoryMapped();
 
             LOG.trace("Creating temporary stream cache file: {}", tempFile);
             OutputStream out = new BufferedOutputStream(
@@ -292,7 +298,10 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
-        FileInputStreamCache newStreamCache() throws IOException {
+        StreamCache newStreamCache() throws IOException {
+            if (memoryMapped && ciphers == null) {
+                return newMappedStreamCache();
+            }
             try {
                 return new FileInputStreamCache(this);
             } catch (FileNotFoundException e) {
@@ -300,6 +309,39 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        private StreamCache newMappedStreamCache() throws IOException {
+            try (FileChannel channel = FileChannel.open(tempFile.toPath(), StandardOpenOption.READ)) {
+                long size = channel.size();
+                // a mapped buffer is limited to 2gb so map the file in regions
+                int regions = (int) ((size + Integer.MAX_VALUE - 1) / Integer.MAX_VALUE);
+                ByteBuffer[] buffers = new ByteBuffer[regions];
+                for (int i = 0; i < regions; i++) {
+                    long position = (long) i * Integer.MAX_VALUE;
+                    buffers[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(size - position, Integer.MAX_VALUE));
+                }
+                // the mapping is valid until the buffers are garbage collected (also after the channel is closed)
+                return new ByteBufferInputStreamCache(buffers, size, false, this);
+            }
+        }
+
+        /**
+         * Sets a task to run when all the exchanges are done, such as releasing off-heap buffers.
+         */
+        void setReleaseTask(Runnable releaseTask) {
+            this.releaseTask = releaseTask;
+        }
+
+        void release() {
+            if (releaseTask != null) {
+                try {
+                    releaseTask.run();
+                } catch (Exception e) {
+                    LOG.warn("Error releasing stream cache. This exception will be ignored.", e);
+                }
+            }
+        }
+
         void closeFileInputStreams() {
             if (fileInputStreamCaches != null) {
                 for (FileInputStreamCache fileInputStreamCache : fileInputStreamCaches) {
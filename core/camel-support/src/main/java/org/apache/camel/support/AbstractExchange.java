@@ -17,6 +17,7 @@
 package org.apache.camel.support;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 import org.apache.camel.AsyncCallback;
 import org.apache.camel.CamelContext;
@@ -60,6 +62,10 @@ class AbstractExchange implements ExtendedExchange {
 
     final CamelContext context;
     Map<String, Object> properties; // create properties on-demand as we use internal properties mostly
+    // whether the properties may be shared with another (copied) exchange and must be copied before being changed
+    boolean propertiesShared;
+    // whether the properties map itself has been returned to a caller, who may change it at any time
+    boolean propertiesExposed;
     // optimize for internal exchange properties (not intended for end users)
     final Object[] internalProperties = new Object[INTERNAL_LENGTH];
     long created;
@@ -86,6 +92,7 @@ class AbstractExchange implements ExtendedExchange {
     Boolean errorHandlerHandled;
     AsyncCallback defaultConsumerCallback; // optimize (do not reset)
     Map<String, SafeCopyProperty> safeCopyProperties;
+    private PropertiesView propertiesView;
 
     public AbstractExchange(CamelContext context) {
         this.context = context;
@@ -133,13 +140,13 @@ class AbstractExchange implements ExtendedExchange {
 
         exchange.setIn(getIn().copy());
         exchange.getIn().setBody(getIn().getBody());
-        if (getIn().hasHeaders()) {
+        if (!isHeadersCopied(getIn(), exchange.getIn()) && getIn().hasHeaders()) {
             exchange.getIn().setHeaders(safeCopyHeaders(getIn().getHeaders()));
         }
         if (hasOut()) {
             exchange.setOut(getOut().copy());
             exchange.getOut().setBody(getOut().getBody());
-            if (getOut().hasHeaders()) {
+            if (!isHeadersCopied(getOut(), exchange.getOut()) && getOut().hasHeaders()) {
                 exchange.getOut().setHeaders(safeCopyHeaders(getOut().getHeaders()));
             }
         }
@@ -154,7 +161,15 @@ class AbstractExchange implements ExtendedExchange {
 
         // copy properties after body as body may trigger lazy init
         if (hasProperties()) {
-            copyProperties(getProperties(), exchange.getProperties());
+            if (propertiesExposed) {
+                // the properties map has been returned to a caller who may still change it, so copy it now
+                exchange.properties = new ConcurrentHashMap<>(properties);
+            } else {
+                // share the properties and let whichever exchange changes them first make its own copy
+                exchange.properties = properties;
+                exchange.propertiesShared = true;
+                this.propertiesShared = true;
+            }
         }
 
         if (hasSafeCopyProperties()) {
@@ -177,6 +192,12 @@ class AbstractExchange implements ExtendedExchange {
         return exchange;
     }
 
+    private static boolean isHeadersCopied(Message message, Message copy) {
+        // the headers of a copied default message are already shared copy-on-write with the original message, or
+        // copied if the original message has handed out its headers map
+        return message instanceof DefaultMessage && copy instanceof DefaultMessage;
+    }
+
     private Map<String, Object> safeCopyHeaders(Map<String, Object> headers) {
         if (headers == null) {
             return null;
@@ -193,9 +214,18 @@ class AbstractExchange implements ExtendedExchange {
         return new HashMap<>(headers);
     }
 
-    @SuppressWarnings("unchecked")
-    private void copyProperties(Map<String, Object> source, Map<String, Object> target) {
-        target.putAll(source);
+    /**
+     * Returns the properties for changing, creating the properties, or copying the properties if they are shared with
+     * another exchange.
+     */
+    private Map<String, Object> writableProperties() {
+        if (properties == null) {
+            this.properties = new ConcurrentHashMap<>(8);
+        } else if (propertiesShared) {
+            this.properties = new ConcurrentHashMap<>(properties);
+            this.propertiesShared = false;
+        }
+        return properties;
     }
 
     private void safeCopyProperties(
@@ -341,25 +371,18 @@ class AbstractExchange implements ExtendedExchange {
         if (key != null) {
             setProperty(key, value);
         } else if (value != null) {
-            // avoid the NullPointException
-            if (properties == null) {
-                this.properties = new ConcurrentHashMap<>(8);
-            }
-            properties.put(name, value);
-        } else if (properties != null) {
+            writableProperties().put(name, value);
+        } else if (properties != null && properties.containsKey(name)) {
             // if the value is null, we just remove the key from the map
-            properties.remove(name);
+            writableProperties().remove(name);
         }
     }
 
     @Override
     public void setProperties(Map<String, Object> properties) {
-        if (this.properties == null) {
-            this.properties = new ConcurrentHashMap<>(8);
-        } else {
-            this.properties.clear();
-        }
-        this.properties.putAll(properties);
+        Map<String, Object> map = writableProperties();
+        map.clear();
+        map.putAll(properties);
     }
 
     @Override
@@ -368,10 +391,10 @@ class AbstractExchange implements ExtendedExchange {
         if (key != null) {
             return removeProperty(key);
         }
-        if (!hasProperties()) {
+        if (!hasProperties() || !properties.containsKey(name)) {
             return null;
         }
-        return properties.remove(name);
+        return writableProperties().remove(name);
     }
 
     @Override
@@ -383,8 +406,8 @@ class AbstractExchange implements ExtendedExchange {
     public boolean removeProperties(String pattern, String... excludePatterns) {
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            if (properties != null) {
-                properties.clear();
+            if (hasProperties()) {
+                writableProperties().clear();
             }
             // reset array by copying over from empty which is a very fast JVM optimized operation
             System.arraycopy(EMPTY_INTERNAL_PROPERTIES, 0, this.internalProperties, 0, INTERNAL_LENGTH);
@@ -420,12 +443,13 @@ class AbstractExchange implements ExtendedExchange {
             }
 
             if (matches && toBeRemoved != null) {
-                if (toBeRemoved.size() == properties.size()) {
+                Map<String, Object> map = writableProperties();
+                if (toBeRemoved.size() == map.size()) {
                     // special optimization when all should be removed
-                    properties.clear();
+                    map.clear();
                 } else {
                     for (String key : toBeRemoved) {
-                        properties.remove(key);
+                        map.remove(key);
                     }
                 }
             }
@@ -439,9 +463,31 @@ class AbstractExchange implements ExtendedExchange {
         if (properties == null) {
             this.properties = new ConcurrentHashMap<>(8);
         }
+        if (propertiesShared) {
+            // the returned map may be changed by the caller, so return a view which only copies the shared properties
+            // when being changed
+            if (propertiesView == null) {
+                propertiesView = new PropertiesView();
+            }
+            return propertiesView;
+        }
+        propertiesExposed = true;
         return properties;
     }
 
+    private final class PropertiesView extends SharedMapView {
+
+        @Override
+        Map<String, Object> readable() {
+            return properties != null ? properties : Collections.emptyMap();
+        }
+
+        @Override
+        <T> T write(Function<Map<String, Object>, T> change) {
+            return change.apply(writableProperties());
+        }
+    }
+
     Map<String, SafeCopyProperty> getSafeCopyProperties() {
         if (safeCopyProperties == null) {
             this.safeCopyProperties = new ConcurrentHashMap<>(2);
@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.apache.camel.CamelContext;
+
+/**
+ * A compact binary codec for {@link DefaultExchangeHolder}, which is faster and smaller than Java serialization of the
+ * holder.
+ * <p/>
+ * Each value is written with a type tag, so the common types (such as String, numbers, boolean, date and byte arrays)
+ * are written in their binary form, using variable-length encoding for lengths and sizes. A message body of type
+ * <tt>byte[]</tt> is written as-is without being re-serialized. Any other value, such as an exception, is written using
+ * Java serialization.
+ * <p/>
+ * The encoded data starts with a header that is different from the header of a Java serialization stream, so
+ * {@link #isBinaryFormat(byte[])} can be used to detect data that has been written by this codec, and otherwise
+ * fallback to read the data using Java serialization (such as data that was stored before switching to this codec).
+ */
+public class BinaryExchangeHolderCodec {
+
+    private static final byte MAGIC_1 = 'C';
+    private static final byte MAGIC_2 = 'B';
+    private static final byte VERSION = 1;
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_BYTES = 2;
+    private static final byte TYPE_INTEGER = 3;
+    private static final byte TYPE_LONG = 4;
+    private static final byte TYPE_BOOLEAN = 5;
+    private static final byte TYPE_DOUBLE = 6;
+    private static final byte TYPE_FLOAT = 7;
+    private static final byte TYPE_SHORT = 8;
+    private static final byte TYPE_BYTE = 9;
+    private static final byte TYPE_CHARACTER = 10;
+    private static final byte TYPE_DATE = 11;
+    private static final byte TYPE_BIG_INTEGER = 12;
+    private static final byte TYPE_BIG_DECIMAL = 13;
+    private static final byte TYPE_SERIALIZED = 14;
+
+    private boolean compress;
+
+    public BinaryExchangeHolderCodec() {
+    }
+
+    public BinaryExchangeHolderCodec(boolean compress) {
+        this.compress = compress;
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    /**
+     * Whether to compress the encoded data (using deflate). This is recommended for large message bodies that compress
+     * well, such as text.
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Whether the data has been encoded by this codec
+     *
+     * @param  data the data
+     * @return      <tt>true</tt> if encoded by this codec, <tt>false</tt> if the data is in another format such as Java
+     *              serialization
+     */
+    public static boolean isBinaryFormat(byte[] data) {
+        return data != null && data.length >= 4 && data[0] == MAGIC_1 && data[1] == MAGIC_2;
+    }
+
+    /**
+     * Encodes the holder
+     *
+     * @param  holder the holder
+     * @return        the encoded data
+     */
+    public byte[] encode(DefaultExchangeHolder holder) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        encode(holder, bos);
+        return bos.toByteArray();
+    }
+
+    /**
+     * Encodes the holder to the output stream
+     *
+     * @param holder the holder
+     * @param out    the output stream
+     */
+    public void encode(DefaultExchangeHolder holder, OutputStream out) throws IOException {
+        out.write(MAGIC_1);
+        out.write(MAGIC_2);
+        out.write(VERSION);
+        out.write(compress ? FLAG_COMPRESSED : 0);
+
+        DeflaterOutputStream dos = compress ? new DeflaterOutputStream(out) : null;
+        DataOutputStream data = new DataOutputStream(dos != null ? dos : out);
+        writeString(data, holder.getExchangeId());
+        writeValue(data, holder.getInBody());
+        writeMap(data, holder.getInHeaders());
+        writeValue(data, holder.getOutBody());
+        writeMap(data, holder.getOutHeaders());
+        writeMap(data, holder.getProperties());
+        writeValue(data, holder.getException());
+        data.flush();
+        if (dos != null) {
+            dos.finish();
+        }
+    }
+
+    /**
+     * Decodes the holder
+     *
+     * @param  camelContext the camel context used for loading the classes of Java serialized values
+     * @param  data         the data encoded by this codec
+     * @return              the holder
+     */
+    public DefaultExchangeHolder decode(CamelContext camelContext, byte[] data) throws IOException {
+        return decode(camelContext, new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Decodes the holder from the input stream
+     *
+     * @param  camelContext the camel context used for loading the classes of Java serialized values
+     * @param  in           the input stream with data encoded by this codec
+     * @return              the holder
+     */
+    public DefaultExchangeHolder decode(CamelContext camelContext, InputStream in) throws IOException {
+        int m1 = in.read();
+        int m2 = in.read();
+        int version = in.read();
+        int flags = in.read();
+        if (m1 != MAGIC_1 || m2 != MAGIC_2) {
+            throw new IOException("Data is not encoded by " + BinaryExchangeHolderCodec.class.getSimpleName());
+        }
+        if (version != VERSION) {
+            throw new IOException("Unsupported version: " + version);
+        }
+
+        DataInputStream data = new DataInputStream((flags & FLAG_COMPRESSED) != 0 ? new InflaterInputStream(in) : in);
+        DefaultExchangeHolder holder = new DefaultExchangeHolder();
+        holder.setExchangeId(readString(data));
+        holder.setInBody(readValue(camelContext, data));
+        holder.setInHeaders(readMap(camelContext, data));
+        holder.setOutBody(readValue(camelContext, data));
+        holder.setOutHeaders(readMap(camelContext, data));
+        holder.setProperties(readMap(camelContext, data));
+        holder.setException((Exception) readValue(camelContext, data));
+        return holder;
+    }
+
+    private static void writeMap(DataOutputStream out, Map<String, Object> map) throws IOException {
+        // size is shifted by one so zero means null
+        if (map == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, map.size() + 1);
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            writeString(out, entry.getKey());
+            writeValue(out, entry.getValue());
+        }
+    }
+
+    private static Map<String, Object> readMap(CamelContext camelContext, DataInputStream in) throws IOException {
+        int size = readVarInt(in) - 1;
+        if (size < 0) {
+            return null;
+        }
+        Map<String, Object> map = new LinkedHashMap<>(size * 4 / 3 + 1);
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(camelContext, in));
+        }
+        return map;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof String) {
+            out.writeByte(TYPE_STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            out.writeByte(TYPE_BYTES);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        } else if (value instanceof Integer) {
+            out.writeByte(TYPE_INTEGER);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            out.writeByte(TYPE_LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (value instanceof Boolean) {
+            out.writeByte(TYPE_BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Double) {
+            out.writeByte(TYPE_DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof Float) {
+            out.writeByte(TYPE_FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Short) {
+            out.writeByte(TYPE_SHORT);
+            out.writeShort((Short) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(TYPE_BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Character) {
+            out.writeByte(TYPE_CHARACTER);
+            out.writeChar((Character) value);
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(TYPE_DATE);
+            writeVarLong(out, zigZag(((Date) value).getTime()));
+        } else if (value.getClass() == BigInteger.class) {
+            out.writeByte(TYPE_BIG_INTEGER);
+            writeString(out, value.toString());
+        } else if (value.getClass() == BigDecimal.class) {
+            out.writeByte(TYPE_BIG_DECIMAL);
+            writeString(out, value.toString());
+        } else {
+            out.writeByte(TYPE_SERIALIZED);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                oos.writeObject(value);
+            }
+            writeVarInt(out, bos.size());
+            bos.writeTo(out);
+        }
+    }
+
+    private static Object readValue(CamelContext camelContext, DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case TYPE_NULL:
+                return null;
+            case TYPE_STRING:
+                return readString(in);
+            case TYPE_BYTES:
+                return readBytes(in);
+            case TYPE_INTEGER:
+                return (int) unZigZag(readVarLong(in));
+            case TYPE_LONG:
+                return unZigZag(readVarLong(in));
+            case TYPE_BOOLEAN:
+                return in.readBoolean();
+            case TYPE_DOUBLE:
+                return in.readDouble();
+            case TYPE_FLOAT:
+                return in.readFloat();
+            case TYPE_SHORT:
+                return in.readShort();
+            case TYPE_BYTE:
+                return in.readByte();
+            case TYPE_CHARACTER:
+                return in.readChar();
+            case TYPE_DATE:
+                return new Date(unZigZag(readVarLong(in)));
+            case TYPE_BIG_INTEGER:
+                return new BigInteger(readString(in));
+            case TYPE_BIG_DECIMAL:
+                return new BigDecimal(readString(in));
+            case TYPE_SERIALIZED:
+                byte[] bytes = readBytes(in);
+                try (ObjectInputStream ois = new ClassResolverObjectInputStream(camelContext, bytes)) {
+                    return ois.readObject();
+                } catch (ClassNotFoundException e) {
+                    throw new IOException("Cannot load class of serialized value due to " + e.getMessage(), e);
+                }
+            default:
+                throw new IOException("Unknown value type: " + type);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        // length is shifted by one so zero means null
+        if (value == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length + 1);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = readVarInt(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length number");
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Loads the classes of Java serialized values using the class resolver from the camel context
+     */
+    private static final class ClassResolverObjectInputStream extends ObjectInputStream {
+
+        private final CamelContext camelContext;
+
+        ClassResolverObjectInputStream(CamelContext camelContext, byte[] bytes) throws IOException {
+            super(new ByteArrayInputStream(bytes));
+            this.camelContext = camelContext;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (camelContext != null) {
+                Class<?> answer = camelContext.getClassResolver().resolveClass(desc.getName());
+                if (answer != null) {
+                    return answer;
+                }
+            }
+            return super.resolveClass(desc);
+        }
+    }
+
+}
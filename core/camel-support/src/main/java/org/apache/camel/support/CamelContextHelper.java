@@ -306,6 +306,40 @@ public final class CamelContextHelper {
         return 1000;
     }
 
+    /**
+     * Gets the maximum time in millis a pooled producer can be idle, before it is evicted from the pool.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#MAXIMUM_CACHE_POOL_IDLE_TIMEOUT}. If no
+     * property has been set, then it will fallback to return 0, which means idle producers are not evicted.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the idle timeout in millis
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static long getMaximumCachePoolIdleTimeout(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.MAXIMUM_CACHE_POOL_IDLE_TIMEOUT);
+            if (s != null) {
+                try {
+                    // we cannot use Camel type converters as they may not be ready this early
+                    long timeout = Long.parseLong(s);
+                    if (timeout < 0) {
+                        throw new IllegalArgumentException(
+                                "Property " + Exchange.MAXIMUM_CACHE_POOL_IDLE_TIMEOUT + " must not be a negative number, was: "
+                                                           + s);
+                    }
+                    return timeout;
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            "Property " + Exchange.MAXIMUM_CACHE_POOL_IDLE_TIMEOUT + " must be a number, was: " + s, e);
+                }
+            }
+        }
+
+        // 0 is the default fallback (no idle eviction)
+        return 0;
+    }
+
     /**
      * Gets the maximum endpoint cache size.
      * <p/>
@@ -0,0 +1,489 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A map that uses case insensitive keys, but preserves the original key cases, which is designed for storing the
+ * headers of messages.
+ * <p/>
+ * Unlike {@link org.apache.camel.util.CaseInsensitiveMap} which is based on a {@link java.util.TreeMap}, this map uses
+ * open addressing with linear probing over a hash of the case folded keys, so lookups are O(1). The entries are kept in
+ * arrays in insertion order, which is also the iteration order. The case folded hashes of the well-known Camel header
+ * names (the constants in {@link Exchange}) are precomputed, so they are not computed again when the constants are used
+ * as keys.
+ * <p/>
+ * Copying a map with {@link #CaseInsensitiveHashMap(Map)} or {@link #putAll(Map)} into an empty map shares the arrays
+ * between the maps, and the arrays are only copied by the map which is changed first (copy on write). This makes
+ * copying the headers cheap when copying exchanges, such as in the multicast and splitter EIPs, where the copies are
+ * often read but not changed.
+ * <p/>
+ * This map is <b>not</b> designed to be thread safe as concurrent access to it is not supposed to be performed by the
+ * Camel routing engine.
+ */
+public class CaseInsensitiveHashMap extends AbstractMap<String, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int EMPTY = 0;
+    private static final int REMOVED = -1;
+
+    // the precomputed hashes of the well-known header names, looked up by identity
+    private static final String[] KNOWN_KEYS;
+    private static final int[] KNOWN_HASHES;
+
+    static {
+        String[] names = Arrays.stream(Exchange.class.getFields())
+                .filter(f -> Modifier.isStatic(f.getModifiers()) && f.getType() == String.class)
+                .map(CaseInsensitiveHashMap::constantValue)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray(String[]::new);
+        int size = Integer.highestOneBit(Math.max(names.length, 1) * 4);
+        KNOWN_KEYS = new String[size];
+        KNOWN_HASHES = new int[size];
+        for (String name : names) {
+            int i = name.hashCode() & (size - 1);
+            while (KNOWN_KEYS[i] != null) {
+                i = (i + 1) & (size - 1);
+            }
+            KNOWN_KEYS[i] = name;
+            KNOWN_HASHES[i] = foldedHash(name);
+        }
+    }
+
+    // the entries in insertion order, where removed entries have a null key
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // the hash table with the positions of the entries (plus one)
+    private int[] table;
+    private int used;
+    private int size;
+    private transient int modCount;
+    private transient boolean shared;
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    public CaseInsensitiveHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public CaseInsensitiveHashMap(int initialCapacity) {
+        init(Math.max(Integer.highestOneBit(Math.max(initialCapacity, 1) - 1) << 1, DEFAULT_CAPACITY));
+    }
+
+    public CaseInsensitiveHashMap(Map<? extends String, ?> map) {
+        if (map instanceof CaseInsensitiveHashMap) {
+            share((CaseInsensitiveHashMap) map);
+        } else {
+            init(Math.max(Integer.highestOneBit(Math.max(map.size(), 1) - 1) << 1, DEFAULT_CAPACITY));
+            putAll(map);
+        }
+    }
+
+    private static String constantValue(Field field) {
+        try {
+            return (String) field.get(null);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static int foldedHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            // same folding as String#equalsIgnoreCase
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(key.charAt(i)));
+        }
+        return h;
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode();
+        int mask = KNOWN_KEYS.length - 1;
+        for (int i = h & mask;; i = (i + 1) & mask) {
+            String known = KNOWN_KEYS[i];
+            if (known == key) {
+                return KNOWN_HASHES[i];
+            } else if (known == null) {
+                return foldedHash(key);
+            }
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private void init(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        table = new int[capacity * 2];
+        used = 0;
+        size = 0;
+    }
+
+    private void share(CaseInsensitiveHashMap map) {
+        keys = map.keys;
+        values = map.values;
+        hashes = map.hashes;
+        table = map.table;
+        used = map.used;
+        size = map.size;
+        shared = true;
+        map.shared = true;
+    }
+
+    /**
+     * Copies the arrays if they are shared with another map, before this map is changed.
+     */
+    private void unshare() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            shared = false;
+        }
+    }
+
+    private int indexOf(Object key) {
+        if (!(key instanceof String)) {
+            if (key == null) {
+                throw new NullPointerException("key");
+            }
+            return -1;
+        }
+        String k = (String) key;
+        return indexOf(k, hash(k));
+    }
+
+    private int indexOf(String key, int hash) {
+        int mask = table.length - 1;
+        for (int i = spread(hash) & mask;; i = (i + 1) & mask) {
+            int pos = table[i];
+            if (pos == EMPTY) {
+                return -1;
+            } else if (pos != REMOVED) {
+                pos--;
+                if (hashes[pos] == hash) {
+                    String k = keys[pos];
+                    if (k == key || k.equalsIgnoreCase(key)) {
+                        return pos;
+                    }
+                }
+            }
+        }
+    }
+
+    private int slotOf(int pos) {
+        int mask = table.length - 1;
+        for (int i = spread(hashes[pos]) & mask;; i = (i + 1) & mask) {
+            if (table[i] == pos + 1) {
+                return i;
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the arrays without the removed entries, and grows them if needed to add another entry.
+     */
+    private void rebuild() {
+        int capacity = keys.length;
+        if (size >= capacity / 2) {
+            capacity = capacity * 2;
+        }
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldUsed = used;
+        init(capacity);
+        int mask = table.length - 1;
+        for (int pos = 0; pos < oldUsed; pos++) {
+            if (oldKeys[pos] != null) {
+                keys[used] = oldKeys[pos];
+                values[used] = oldValues[pos];
+                hashes[used] = oldHashes[pos];
+                int i = spread(oldHashes[pos]) & mask;
+                while (table[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                table[i] = ++used;
+            }
+        }
+        size = used;
+        // the arrays are new so they are not shared
+        shared = false;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int pos = indexOf(key);
+        return pos >= 0 ? values[pos] : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int pos = indexOf(key);
+        return pos >= 0 ? values[pos] : defaultValue;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int hash = hash(key);
+        int pos = indexOf(key, hash);
+        if (pos >= 0) {
+            unshare();
+            Object old = values[pos];
+            values[pos] = value;
+            return old;
+        }
+
+        if (used == keys.length) {
+            rebuild();
+        } else {
+            unshare();
+        }
+        pos = used++;
+        keys[pos] = key;
+        values[pos] = value;
+        hashes[pos] = hash;
+        int mask = table.length - 1;
+        int i = spread(hash) & mask;
+        while (table[i] > EMPTY) {
+            i = (i + 1) & mask;
+        }
+        table[i] = pos + 1;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (size == 0 && map instanceof CaseInsensitiveHashMap) {
+            share((CaseInsensitiveHashMap) map);
+            modCount++;
+        } else {
+            for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+                put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int pos = indexOf(key);
+        if (pos < 0) {
+            return null;
+        }
+        unshare();
+        return removeAt(pos);
+    }
+
+    private Object removeAt(int pos) {
+        Object old = values[pos];
+        table[slotOf(pos)] = REMOVED;
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0 || used > 0) {
+            if (shared) {
+                init(keys.length);
+                shared = false;
+            } else {
+                Arrays.fill(keys, 0, used, null);
+                Arrays.fill(values, 0, used, null);
+                Arrays.fill(table, EMPTY);
+                used = 0;
+                size = 0;
+            }
+            modCount++;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expected = modCount;
+        for (int pos = 0; pos < used; pos++) {
+            String key = keys[pos];
+            if (key != null) {
+                action.accept(key, values[pos]);
+            }
+        }
+        if (expected != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            CaseInsensitiveHashMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+        private int next = advance(0);
+        private int last = -1;
+        private int expected = modCount;
+
+        private int advance(int pos) {
+            while (pos < used && keys[pos] == null) {
+                pos++;
+            }
+            return pos;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < used;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= used) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return new EntryView(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            unshare();
+            removeAt(last);
+            last = -1;
+            expected = modCount;
+        }
+    }
+
+    private final class EntryView implements Map.Entry<String, Object> {
+
+        private final int pos;
+
+        EntryView(int pos) {
+            this.pos = pos;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[pos];
+        }
+
+        @Override
+        public Object getValue() {
+            return values[pos];
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            unshare();
+            Object old = values[pos];
+            values[pos] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * A size-bounded and thread-safe cache which does not lock on reads or writes.
+ * <p/>
+ * The entries are kept in a {@link ConcurrentHashMap} and the eviction order in a lock-free queue. Each entry has a
+ * small access frequency counter, which is incremented on cache hits. When the cache is full, entries are evicted using
+ * a second-chance (clock) policy where entries with a frequency are moved to the back of the queue (decrementing the
+ * frequency) instead of being evicted. This keeps frequently used entries in the cache, while entries used only once
+ * are evicted first (approximating a least frequently used cache).
+ * <p/>
+ * The cache is bounded by the maximum size, however as there is no locking, the size may temporary exceed the maximum
+ * size while concurrent threads are adding entries.
+ */
+public class ConcurrentLFUCache<K, V> extends AbstractMap<K, V> implements LRUCache<K, V> {
+
+    // the frequency is capped, so entries which were used a lot in the past are evicted within a few passes
+    private static final int MAX_FREQUENCY = 3;
+
+    private final int maximumCacheSize;
+    private final Map<K, Node<K, V>> map;
+    private final Queue<Node<K, V>> queue = new ConcurrentLinkedQueue<>();
+    // number of nodes in the queue which has been removed from the map
+    private final AtomicInteger dead = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final Consumer<V> onEvict;
+
+    public ConcurrentLFUCache(int maximumCacheSize) {
+        this(16, maximumCacheSize);
+    }
+
+    public ConcurrentLFUCache(int initialCapacity, int maximumCacheSize) {
+        this(initialCapacity, maximumCacheSize, null);
+    }
+
+    /**
+     * Creates the cache.
+     *
+     * @param initialCapacity  the initial capacity
+     * @param maximumCacheSize the maximum number of entries
+     * @param onEvict          optional callback invoked (by the thread adding an entry) when an entry is evicted
+     */
+    public ConcurrentLFUCache(int initialCapacity, int maximumCacheSize, Consumer<V> onEvict) {
+        if (maximumCacheSize <= 0) {
+            throw new IllegalArgumentException("MaximumCacheSize must be positive, was: " + maximumCacheSize);
+        }
+        this.maximumCacheSize = maximumCacheSize;
+        this.map = new ConcurrentHashMap<>(initialCapacity);
+        this.onEvict = onEvict;
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = map.get(key);
+        if (node == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        // the frequency is a hint only, so lost updates from concurrent threads are okay
+        if (node.frequency < MAX_FREQUENCY) {
+            node.frequency++;
+        }
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous = map.put(key, node);
+        queue.offer(node);
+        if (previous != null) {
+            markDead(previous);
+        }
+        if (map.size() > maximumCacheSize) {
+            evict();
+        }
+        return previous != null ? previous.value : null;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = map.remove(key);
+        if (node != null) {
+            markDead(node);
+            return node.value;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        queue.clear();
+        dead.set(0);
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        // a snapshot of the entries as the cache is concurrently updated
+        Set<Entry<K, V>> answer = new LinkedHashSet<>();
+        for (Node<K, V> node : map.values()) {
+            answer.add(new SimpleImmutableEntry<>(node.key, node.value));
+        }
+        return Collections.unmodifiableSet(answer);
+    }
+
+    private void evict() {
+        while (map.size() > maximumCacheSize) {
+            Node<K, V> node = queue.poll();
+            if (node == null) {
+                return;
+            }
+            if (node.dead) {
+                dead.decrementAndGet();
+            } else if (node.frequency > 0) {
+                // give the entry a second chance
+                node.frequency--;
+                queue.offer(node);
+            } else if (map.remove(node.key, node)) {
+                node.dead = true;
+                evicted.increment();
+                if (onEvict != null) {
+                    onEvict.accept(node.value);
+                }
+            }
+        }
+    }
+
+    private void markDead(Node<K, V> node) {
+        node.dead = true;
+        // purge the dead nodes when they outnumber the live entries, so the queue does not grow unbounded
+        if (dead.incrementAndGet() > Math.max(16, map.size())) {
+            queue.removeIf(n -> n.dead);
+            dead.set(0);
+        }
+    }
+
+    @Override
+    public void cleanUp() {
+        queue.removeIf(n -> n.dead);
+        dead.set(0);
+    }
+
+    @Override
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        evicted.reset();
+    }
+
+    @Override
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public int getMaxCacheSize() {
+        return maximumCacheSize;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLFUCache[size=" + size() + ", maxCacheSize=" + maximumCacheSize + "]";
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private volatile int frequency;
+        private volatile boolean dead;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
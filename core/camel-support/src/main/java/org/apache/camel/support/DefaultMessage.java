@@ -16,15 +16,18 @@
  */
 package org.apache.camel.support;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -35,9 +38,20 @@ import org.apache.camel.spi.HeadersMapFactory;
  * about using exact keys. See more details at {@link org.apache.camel.util.CaseInsensitiveMap}. The implementation of
  * the map can be configured by the {@link HeadersMapFactory} which can be set on the {@link CamelContext}. The default
  * implementation uses the {@link org.apache.camel.util.CaseInsensitiveMap CaseInsensitiveMap}.
+ * <p/>
+ * When a message is copied from another {@link DefaultMessage} the headers are shared between the two messages and only
+ * copied when either message changes its headers (copy-on-write). This makes copying messages cheap, for example when
+ * the multicast EIP sends a copy of the message to many recipients, that only read the headers. If the headers map of
+ * the message has been handed out, for example by {@link #getHeaders()}, then the headers are copied right away, as the
+ * holder of the map may still change it.
  */
 public class DefaultMessage extends MessageSupport {
     private Map<String, Object> headers;
+    // whether the headers may be shared with another message and must be copied before being changed
+    private boolean headersShared;
+    // whether the headers map itself has been returned to a caller, who may change it at any time
+    private boolean headersExposed;
+    private HeadersView headersView;
 
     public DefaultMessage(Exchange exchange) {
         setExchange(exchange);
@@ -54,7 +68,12 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public void reset() {
         super.reset();
-        if (headers != null) {
+        if (headersShared) {
+            // do not clear the headers as the other message is still using them
+            headers = null;
+            headersShared = false;
+            headersExposed = false;
+        } else if (headers != null) {
             headers.clear();
         }
     }
@@ -204,10 +223,7 @@ public class DefaultMessage extends MessageSupport {
 
     @Override
     public void setHeader(String name, Object value) {
-        if (headers == null) {
-            headers = createHeaders();
-        }
-        headers.put(name, value);
+        writableHeaders().put(name, value);
     }
 
     @Override
@@ -219,7 +235,11 @@ public class DefaultMessage extends MessageSupport {
         if (headers.isEmpty()) {
             return null;
         }
-        return headers.remove(name);
+        if (headersShared && !headers.containsKey(name)) {
+            // nothing to remove so no need to copy the shared headers
+            return null;
+        }
+        return writableHeaders().remove(name);
     }
 
     @Override
@@ -239,7 +259,7 @@ public class DefaultMessage extends MessageSupport {
 
         // special optimized
         if (excludePatterns == null && "*".equals(pattern)) {
-            headers.clear();
+            writableHeaders().clear();
             return true;
         }
 
@@ -261,12 +281,13 @@ public class DefaultMessage extends MessageSupport {
         }
 
         if (matches) {
-            if (toBeRemoved.size() == headers.size()) {
+            Map<String, Object> map = writableHeaders();
+            if (toBeRemoved.size() == map.size()) {
                 // special optimization when all should be removed
-                headers.clear();
+                map.clear();
             } else {
                 for (String key : toBeRemoved) {
-                    headers.remove(key);
+                    map.remove(key);
                 }
             }
         }
@@ -277,17 +298,31 @@ public class DefaultMessage extends MessageSupport {
     @Override
     public Map<String, Object> getHeaders() {
         if (headers == null) {
+            // force creating headers
             headers = createHeaders();
         }
+        if (headersShared) {
+            // the returned map may be changed by the caller, so return a view which only copies the shared headers
+            // when being changed
+            if (headersView == null) {
+                headersView = new HeadersView();
+            }
+            return headersView;
+        }
+        headersExposed = true;
         return headers;
     }
 
     @Override
     public void setHeaders(Map<String, Object> headers) {
+        this.headersShared = false;
+        this.headersExposed = false;
         HeadersMapFactory factory = camelContext.getHeadersMapFactory();
         if (factory != null) {
             if (factory.isInstanceOf(headers)) {
+                // the caller still has the map and may change it
                 this.headers = headers;
+                this.headersExposed = true;
             } else {
                 // create a new map
                 this.headers = camelContext.getHeadersMapFactory().newMap(headers);
@@ -307,6 +342,72 @@ public class DefaultMessage extends MessageSupport {
         return !headers.isEmpty();
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        if (that instanceof DefaultMessage && that.hasHeaders()) {
+            DefaultMessage other = (DefaultMessage) that;
+            if (other.headers != headers) {
+                if (other.headersExposed) {
+                    // the headers map has been returned to a caller who may still change it, so copy it now
+                    this.headers = copyHeaders(other.headers);
+                    this.headersShared = false;
+                } else {
+                    // share the headers and let whichever message changes them first make its own copy
+                    this.headers = other.headers;
+                    this.headersShared = true;
+                    other.headersShared = true;
+                }
+                this.headersExposed = false;
+            }
+            return;
+        }
+        super.copyHeadersFrom(that);
+    }
+
+    /**
+     * Whether the headers are (possibly) shared with another message, and will be copied on the first change.
+     */
+    boolean isHeadersShared() {
+        return headersShared;
+    }
+
+    /**
+     * Returns the headers for changing, creating the headers, or copying the headers if they are shared with another
+     * message.
+     */
+    private Map<String, Object> writableHeaders() {
+        if (headers == null) {
+            headers = createHeaders();
+        } else if (headersShared) {
+            headers = copyHeaders(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
+    private Map<String, Object> copyHeaders(Map<String, Object> map) {
+        HeadersMapFactory factory = camelContext != null ? camelContext.getHeadersMapFactory() : null;
+        if (factory != null) {
+            return factory.newMap(map);
+        } else {
+            // should not really happen but some tests rely on using camel context that is not started
+            return new HashMap<>(map);
+        }
+    }
+
+    private final class HeadersView extends SharedMapView {
+
+        @Override
+        Map<String, Object> readable() {
+            return headers != null ? headers : Collections.emptyMap();
+        }
+
+        @Override
+        <T> T write(Function<Map<String, Object>, T> change) {
+            return change.apply(writableHeaders());
+        }
+    }
+
     @Override
     public DefaultMessage newInstance() {
         return new DefaultMessage(camelContext);
@@ -216,6 +216,18 @@ public abstract class LRUCacheFactory {
         return getInstance().createLRUWeakCache(initialCapacity, maximumCacheSize, stopOnEviction);
     }
 
+    /**
+     * Constructs an empty cache instance with the specified initial capacity and maximumCacheSize, which evicts the
+     * least frequently used entries and is safe for concurrent use without locking.
+     *
+     * @param  initialCapacity          the initial capacity.
+     * @param  maximumCacheSize         the max capacity.
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public static <K, V> Map<K, V> newLFUCache(int initialCapacity, int maximumCacheSize) {
+        return getInstance().createLFUCache(initialCapacity, maximumCacheSize);
+    }
+
     /**
      * Constructs an empty <tt>LRUCache</tt> instance with the specified maximumCacheSize, and will stop on eviction.
      *
@@ -313,4 +325,19 @@ public abstract class LRUCacheFactory {
      */
     public abstract <K, V> Map<K, V> createLRUWeakCache(int initialCapacity, int maximumCacheSize, boolean stopOnEviction);
 
+    /**
+     * Constructs an empty cache instance with the specified initial capacity and maximumCacheSize, which evicts the
+     * least frequently used entries and is safe for concurrent use without locking.
+     * <p/>
+     * The default implementation uses {@link ConcurrentLFUCache}.
+     *
+     * @param  initialCapacity          the initial capacity.
+     * @param  maximumCacheSize         the max capacity.
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    public <K, V> Map<K, V> createLFUCache(int initialCapacity, int maximumCacheSize) {
+        LOG.trace("Creating LFUCache with initialCapacity: {}, maximumCacheSize: {}", initialCapacity, maximumCacheSize);
+        return new ConcurrentLFUCache<>(initialCapacity, maximumCacheSize);
+    }
+
 }
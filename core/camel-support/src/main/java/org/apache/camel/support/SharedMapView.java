@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A view of the headers of a message, or the properties of an exchange, which may be shared (copy-on-write) with a
+ * copied message or exchange.
+ * <p/>
+ * Reading from the view reads from the current map, which may be shared, and changing the view changes the writable
+ * map, which is copied first if the map is shared. This means that only reading the headers or properties never copies
+ * the map.
+ */
+abstract class SharedMapView extends AbstractMap<String, Object> {
+
+    private Set<Entry<String, Object>> entrySet;
+
+    /**
+     * The current map to read from, which may be shared
+     */
+    abstract Map<String, Object> readable();
+
+    /**
+     * Changes the writable map, which is copied before the change if the map is shared
+     */
+    abstract <T> T write(Function<Map<String, Object>, T> change);
+
+    @Override
+    public int size() {
+        return readable().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return readable().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return readable().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return readable().containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return readable().get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return readable().getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return write(map -> map.put(key, value));
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        if (!m.isEmpty()) {
+            write(map -> {
+                map.putAll(m);
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (!readable().containsKey(key)) {
+            // nothing to remove so no need to copy the shared map
+            return null;
+        }
+        return write(map -> map.remove(key));
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        if (!readable().containsKey(key)) {
+            return false;
+        }
+        return write(map -> map.remove(key, value));
+    }
+
+    @Override
+    public void clear() {
+        if (!readable().isEmpty()) {
+            write(map -> {
+                map.clear();
+                return null;
+            });
+        }
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        return write(map -> map.putIfAbsent(key, value));
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        return write(map -> map.replace(key, value));
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        return write(map -> map.replace(key, oldValue, newValue));
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        write(map -> {
+            map.replaceAll(function);
+            return null;
+        });
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        Object answer = readable().get(key);
+        if (answer != null) {
+            return answer;
+        }
+        return write(map -> map.computeIfAbsent(key, mappingFunction));
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        return write(map -> map.computeIfPresent(key, remappingFunction));
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        return write(map -> map.compute(key, remappingFunction));
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        return write(map -> map.merge(key, value, remappingFunction));
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || readable().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return readable().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return readable().toString();
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator(readable());
+        }
+
+        @Override
+        public int size() {
+            return readable().size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return readable().entrySet().contains(o);
+        }
+
+        @Override
+        public void clear() {
+            SharedMapView.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+        private final Map<String, Object> map;
+        private final Iterator<Entry<String, Object>> it;
+        private Entry<String, Object> last;
+
+        EntryIterator(Map<String, Object> map) {
+            this.map = map;
+            this.it = map.entrySet().iterator();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            last = it.next();
+            return new SimpleEntry<String, Object>(last) {
+                @Override
+                public Object setValue(Object value) {
+                    super.setValue(value);
+                    return SharedMapView.this.put(getKey(), value);
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            String key = last.getKey();
+            last = null;
+            write(writable -> {
+                if (writable == map) {
+                    // not shared so remove via the iterator to continue iterating
+                    it.remove();
+                } else {
+                    writable.remove(key);
+                }
+                return null;
+            });
+        }
+    }
+}
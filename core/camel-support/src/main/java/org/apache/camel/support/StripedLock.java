@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A lock that is split into a number of stripes, where each key is mapped to one of the stripes.
+ * <p/>
+ * Work on keys that are mapped to different stripes can run in parallel, by locking the stripe of the key via
+ * {@link #getLock(Object)}. Locking this lock itself acquires all the stripes (in order), which makes it exclusive to
+ * work on any key.
+ * <p/>
+ * Important: A thread that holds the lock of a key must not lock this lock, as that can deadlock with another thread
+ * locking this lock.
+ */
+public class StripedLock implements Lock {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    /**
+     * Creates a lock with the given number of stripes (rounded up to the nearest power of two)
+     */
+    public StripedLock(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes must be a positive number, was: " + stripes);
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Number of stripes
+     */
+    public int getStripes() {
+        return stripes.length;
+    }
+
+    /**
+     * Gets the lock for the stripe the given key is mapped to
+     */
+    public Lock getLock(Object key) {
+        int h = key.hashCode();
+        // spread the higher bits as the stripe is selected by the lower bits
+        h ^= h >>> 16;
+        return stripes[h & mask];
+    }
+
+    @Override
+    public void lock() {
+        for (ReentrantLock stripe : stripes) {
+            stripe.lock();
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                stripes[i].lockInterruptibly();
+            }
+        } catch (InterruptedException e) {
+            unlock(i);
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean tryLock() {
+        for (int i = 0; i < stripes.length; i++) {
+            if (!stripes[i].tryLock()) {
+                unlock(i);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        final long deadline = System.nanoTime() + unit.toNanos(time);
+        int i = 0;
+        try {
+            for (; i < stripes.length; i++) {
+                if (!stripes[i].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    unlock(i);
+                    return false;
+                }
+            }
+        } catch (InterruptedException e) {
+            unlock(i);
+            throw e;
+        }
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        unlock(stripes.length);
+    }
+
+    private void unlock(int count) {
+        // release in the reverse order
+        for (int i = count - 1; i >= 0; i--) {
+            stripes[i].unlock();
+        }
+    }
+
+    /**
+     * Not supported, as waiting on a condition would only release one of the stripes held by this lock. Use the
+     * condition of the lock of a key from {@link #getLock(Object)} instead.
+     *
+     * @throws UnsupportedOperationException is always thrown
+     */
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException(
+                "StripedLock does not support conditions, use the condition of the lock of a key instead");
+    }
+}
@@ -16,8 +16,8 @@
  */
 package org.apache.camel.support;
 
-import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -43,7 +43,7 @@ import org.slf4j.LoggerFactory;
 public class TimerListenerManager extends ServiceSupport implements Runnable, CamelContextAware, StaticService {
 
     private static final Logger LOG = LoggerFactory.getLogger(TimerListenerManager.class);
-    private final Set<TimerListener> listeners = new LinkedHashSet<>();
+    private final Set<TimerListener> listeners = new CopyOnWriteArraySet<>();
     private CamelContext camelContext;
     private ScheduledExecutorService executorService;
     private volatile ScheduledFuture<?> task;
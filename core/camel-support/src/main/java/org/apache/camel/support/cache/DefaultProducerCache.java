@@ -33,6 +33,7 @@ import org.apache.camel.FailedToCreateProducerException;
 import org.apache.camel.Processor;
 import org.apache.camel.Producer;
 import org.apache.camel.StatefulService;
+import org.apache.camel.TimerListener;
 import org.apache.camel.spi.EndpointUtilizationStatistics;
 import org.apache.camel.spi.ProducerCache;
 import org.apache.camel.spi.SharedInternalProcessor;
@@ -56,16 +57,19 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultProducerCache.class);
     private static final long ACQUIRE_WAIT_TIME = 30000;
+    private static final Object IDLE_TIMER_LOCK = new Object();
 
     private final ExtendedCamelContext camelContext;
     private final ProducerServicePool producers;
     private final Object source;
     private final SharedInternalProcessor sharedInternalProcessor;
+    private final TimerListener idleEvictionTask;
 
     private EndpointUtilizationStatistics statistics;
     private boolean eventNotifierEnabled = true;
     private boolean extendedStatistics;
     private int maxCacheSize;
+    private ProducerCacheIdleTimer idleTimer;
 
     public DefaultProducerCache(Object source, CamelContext camelContext, int cacheSize) {
         this.source = source;
@@ -86,6 +90,9 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
             this.extendedStatistics = false;
         }
 
+        // evict idle producers from a background thread, so its not on the hot path
+        this.idleEvictionTask = this.producers != null ? this.producers::evictIdle : null;
+
         // internal processor used for sending
         sharedInternalProcessor
                 = this.camelContext.getInternalProcessorFactory().createSharedCamelInternalProcessor(this.camelContext);
@@ -392,10 +399,35 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
             statistics.clear();
         }
         ServiceHelper.startService(producers);
+
+        if (producers != null) {
+            long idleTimeout = CamelContextHelper.getMaximumCachePoolIdleTimeout(camelContext);
+            producers.setIdleTimeout(idleTimeout);
+            if (idleTimeout > 0) {
+                idleTimer = getOrCreateIdleTimer(idleTimeout);
+                idleTimer.addTimerListener(idleEvictionTask);
+            }
+        }
+    }
+
+    private ProducerCacheIdleTimer getOrCreateIdleTimer(long idleTimeout) throws Exception {
+        // use a shared timer for all the producer caches, which runs once every idle timeout
+        synchronized (IDLE_TIMER_LOCK) {
+            ProducerCacheIdleTimer timer = camelContext.hasService(ProducerCacheIdleTimer.class);
+            if (timer == null) {
+                timer = new ProducerCacheIdleTimer(idleTimeout);
+                camelContext.addService(timer, true, true);
+            }
+            return timer;
+        }
     }
 
     @Override
     protected void doStop() throws Exception {
+        if (idleTimer != null) {
+            idleTimer.removeTimerListener(idleEvictionTask);
+            idleTimer = null;
+        }
         ServiceHelper.stopService(producers);
     }
 
@@ -439,6 +471,33 @@ public class DefaultProducerCache extends ServiceSupport implements ProducerCach
         }
     }
 
+    @Override
+    public long getHits() {
+        return producers != null ? producers.getHits() : 0;
+    }
+
+    @Override
+    public long getMisses() {
+        return producers != null ? producers.getMisses() : 0;
+    }
+
+    @Override
+    public long getCreated() {
+        return producers != null ? producers.getCreated() : 0;
+    }
+
+    @Override
+    public long getEvicted() {
+        return producers != null ? producers.getEvicted() : 0;
+    }
+
+    @Override
+    public void resetStatistics() {
+        if (producers != null) {
+            producers.resetStatistics();
+        }
+    }
+
     @Override
     public EndpointUtilizationStatistics getEndpointUtilizationStatistics() {
         return statistics;
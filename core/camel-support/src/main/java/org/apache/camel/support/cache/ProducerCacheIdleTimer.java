@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.cache;
+
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.NonManagedService;
+import org.apache.camel.StaticService;
+import org.apache.camel.TimerListener;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer shared by the producer caches of a {@link CamelContext}, which evicts the idle producers from their pools
+ * once every idle timeout.
+ *
+ * @see org.apache.camel.Exchange#MAXIMUM_CACHE_POOL_IDLE_TIMEOUT
+ */
+final class ProducerCacheIdleTimer extends ServiceSupport
+        implements Runnable, CamelContextAware, StaticService, NonManagedService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ProducerCacheIdleTimer.class);
+    private final Set<TimerListener> listeners = new CopyOnWriteArraySet<>();
+    private final long interval;
+    private CamelContext camelContext;
+    private ScheduledExecutorService executorService;
+    private volatile ScheduledFuture<?> task;
+
+    ProducerCacheIdleTimer(long interval) {
+        this.interval = interval;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    long getInterval() {
+        return interval;
+    }
+
+    void addTimerListener(TimerListener listener) {
+        listeners.add(listener);
+    }
+
+    void removeTimerListener(TimerListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void run() {
+        if (!isRunAllowed()) {
+            return;
+        }
+
+        for (TimerListener listener : listeners) {
+            try {
+                listener.onTimer();
+            } catch (Throwable e) {
+                // ignore
+                LOG.debug("Error occurred evicting idle producers from: {}. This exception will be ignored.", listener, e);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(camelContext, "camelContext", this);
+
+        executorService
+                = camelContext.getExecutorServiceManager().newSingleThreadScheduledExecutor(this, "ProducerCacheIdleEviction");
+        task = executorService.scheduleAtFixedRate(this, interval, interval, TimeUnit.MILLISECONDS);
+        LOG.debug("Started evicting idle producers with interval {} ms", interval);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (task != null) {
+            task.cancel(true);
+            task = null;
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        camelContext.getExecutorServiceManager().shutdownNow(executorService);
+        executorService = null;
+        listeners.clear();
+    }
+}
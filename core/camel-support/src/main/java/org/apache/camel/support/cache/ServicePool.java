@@ -16,20 +16,23 @@
  */
 package org.apache.camel.support.cache;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Deque;
 import java.util.Map;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.apache.camel.Endpoint;
 import org.apache.camel.NonManagedService;
 import org.apache.camel.Service;
+import org.apache.camel.support.ConcurrentLFUCache;
 import org.apache.camel.support.LRUCache;
-import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.function.ThrowingFunction;
 import org.slf4j.Logger;
@@ -38,6 +41,11 @@ import org.slf4j.LoggerFactory;
 /**
  * A base class for a pool for either producers or consumers used by {@link org.apache.camel.spi.ProducerCache} and
  * {@link org.apache.camel.spi.ConsumerCache}.
+ * <p/>
+ * The pooled services are bounded by a frequency based cache, so services which are used often (such as static
+ * endpoints) are kept, while services used only once (such as dynamic endpoints with high cardinality) are evicted
+ * first. The pools do not lock when acquiring or releasing services, and services which have not been used for the
+ * {@link #setIdleTimeout(long) idle timeout} can be evicted in the background using {@link #evictIdle()}.
  */
 abstract class ServicePool<S extends Service> extends ServiceSupport implements NonManagedService {
 
@@ -49,8 +57,13 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     // keep track of all singleton endpoints with a pooled producer that are evicted
     // for multi pool then they have their own house-keeping for evictions (more complex)
     private final ConcurrentMap<Endpoint, Pool<S>> singlePoolEvicted = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
     private int capacity;
     private Map<S, S> cache;
+    private volatile long idleTimeout;
 
     private interface Pool<S> {
         S acquire() throws Exception;
@@ -63,6 +76,8 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
 
         void evict(S s);
 
+        void evictIdle(long lastUsedBefore);
+
         void cleanUp();
     }
 
@@ -70,17 +85,18 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         this.creator = creator;
         this.getEndpoint = getEndpoint;
         this.capacity = capacity;
-        this.cache = capacity > 0 ? LRUCacheFactory.newLRUCache(capacity, this::onEvict) : null;
+        this.cache = capacity > 0 ? new ConcurrentLFUCache<>(16, capacity, this::onEvict) : null;
     }
 
     /**
-     * This callback is invoked by LRUCache from a separate background cleanup thread. Therefore we mark the entries to
-     * be evicted from this thread only, and then let SinglePool and MultiPool handle the evictions (stop the
-     * producer/consumer safely) when they are acquiring/releases producers/consumers. If we sop the producer/consumer
-     * from the LRUCache background thread we can have a race condition with a pooled producer may have been acquired at
+     * This callback is invoked by the cache when a service is evicted, from the thread that is acquiring another
+     * service. Therefore we only mark the entries to be evicted, and then let SinglePool and MultiPool handle the
+     * evictions (stop the producer/consumer safely) when they are acquiring/releases producers/consumers. If we stop
+     * the producer/consumer right away we can have a race condition with a pooled producer may have been acquired at
      * the same time its being evicted.
      */
     protected void onEvict(S s) {
+        evicted.increment();
         Endpoint e = getEndpoint.apply(s);
         Pool<S> p = pool.get(e);
         if (p != null) {
@@ -157,6 +173,70 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         pool.values().forEach(Pool::cleanUp);
     }
 
+    /**
+     * Evicts (and stops) the producers/consumers which have not been in use for longer than the idle timeout.
+     * <p/>
+     * This is intended to be called periodically from a background thread, and does nothing if no idle timeout has been
+     * configured.
+     */
+    public void evictIdle() {
+        long timeout = idleTimeout;
+        if (timeout > 0 && isStarted()) {
+            long lastUsedBefore = System.currentTimeMillis() - timeout;
+            pool.values().forEach(p -> p.evictIdle(lastUsedBefore));
+        }
+    }
+
+    public long getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets the time in millis a producer/consumer can be idle (not in use) in the pool, before it can be evicted by
+     * {@link #evictIdle()}. Use 0 or a negative value to keep idle producers/consumers in the pool.
+     */
+    public void setIdleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Number of times a pooled producer/consumer was acquired
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of times a producer/consumer was not pooled and had to be created
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Number of producers/consumers created
+     */
+    public long getCreated() {
+        return created.sum();
+    }
+
+    /**
+     * Number of producers/consumers evicted from the pool, because the pool was full or they were idle
+     */
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    /**
+     * Resets the hits, misses, created and evicted counters
+     */
+    public void resetStatistics() {
+        hits.reset();
+        misses.reset();
+        created.reset();
+        evicted.reset();
+    }
+
     @Override
     protected void doBuild() throws Exception {
         // eager load classes
@@ -185,6 +265,16 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         singlePoolEvicted.clear();
     }
 
+    /**
+     * A service which is discarded by the pool itself (not by the cache) should no longer be tracked by the cache
+     */
+    private void onDiscard(S s) {
+        evicted.increment();
+        if (cache != null) {
+            cache.remove(s);
+        }
+    }
+
     /**
      * Stops the service safely
      */
@@ -202,7 +292,12 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
      */
     private class SinglePool implements Pool<S> {
         private final Endpoint endpoint;
+        // the number of worker threads which have acquired the service and not yet released it
+        private final AtomicInteger inUse = new AtomicInteger();
         private volatile S s;
+        private volatile long lastUsed;
+        // whether the pool has been removed from the pools after being idle, guarded by the lock of this pool
+        private boolean removed;
 
         private SinglePool() {
             // only used for eager classloading
@@ -217,28 +312,60 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public S acquire() throws Exception {
             cleanupEvicts();
 
-            if (s == null) {
-                synchronized (this) {
-                    if (s == null) {
-                        LOG.trace("Creating service from endpoint: {}", endpoint);
-                        S tempS = creator.apply(endpoint);
-                        endpoint.getCamelContext().addService(tempS, true, true);
-                        s = tempS;
+            // must be updated before reading the service, see evictIdle
+            inUse.incrementAndGet();
+            touch();
+            S answer = s;
+            try {
+                if (answer == null) {
+                    synchronized (this) {
+                        answer = s;
+                        if (answer == null && removed) {
+                            // the pool has been evicted as being idle, so acquire from a new pool instead
+                            inUse.decrementAndGet();
+                            return getOrCreatePool(endpoint).acquire();
+                        }
+                        if (answer == null) {
+                            LOG.trace("Creating service from endpoint: {}", endpoint);
+                            misses.increment();
+                            answer = creator.apply(endpoint);
+                            endpoint.getCamelContext().addService(answer, true, true);
+                            created.increment();
+                            lastUsed = System.currentTimeMillis();
+                            s = answer;
+                        } else {
+                            hits.increment();
+                        }
                     }
+                } else {
+                    hits.increment();
                 }
+            } catch (Exception e) {
+                inUse.decrementAndGet();
+                throw e;
             }
-            LOG.trace("Acquired service: {}", s);
-            return s;
+            LOG.trace("Acquired service: {}", answer);
+            return answer;
         }
 
         @Override
         public void release(S s) {
             cleanupEvicts();
 
-            // noop
+            // the service is idle from now on (unless in use by other worker threads)
+            touch();
+            // guard against the service being released twice
+            inUse.updateAndGet(n -> n > 0 ? n - 1 : 0);
             LOG.trace("Released service: {}", s);
         }
 
+        private void touch() {
+            // only keep track of last usage if idle eviction is in use
+            if (idleTimeout > 0) {
+                lastUsed = System.currentTimeMillis();
+            }
+        }
+
         @Override
         public int size() {
             return s != null ? 1 : 0;
@@ -260,6 +387,34 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
             singlePoolEvicted.putIfAbsent(endpoint, this);
         }
 
+        @Override
+        public void evictIdle(long lastUsedBefore) {
+            S toStop = null;
+            synchronized (this) {
+                // the service is shared by the worker threads, so it is only idle when none of them is using it
+                if (s != null && inUse.get() == 0 && lastUsed < lastUsedBefore) {
+                    toStop = s;
+                    s = null;
+                    // a worker thread may have acquired the service while we cleared it,
+                    // then its still in use and we keep it
+                    if (inUse.get() > 0 || lastUsed >= lastUsedBefore) {
+                        s = toStop;
+                        toStop = null;
+                    } else {
+                        // remove the empty pool so idle endpoints are not kept in the pools,
+                        // a worker thread which still has this pool creates a new pool when acquiring
+                        removed = true;
+                        pool.remove(endpoint, this);
+                    }
+                }
+            }
+            if (toStop != null) {
+                LOG.debug("Evicting idle service: {}", toStop);
+                onDiscard(toStop);
+                doStop(toStop);
+            }
+        }
+
         @Override
         public void cleanUp() {
             cleanupEvicts();
@@ -292,52 +447,94 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
     /**
      * Pool used for non-singleton producers or consumers which are not thread-safe and can only be used by one worker
      * thread at any given time.
+     * <p/>
+     * The idle services are kept in a lock-free stack, so the most recently used services are reused first, and the
+     * least recently used sink to the bottom where they can be evicted when idle. New services are created and started
+     * outside any lock, so concurrent worker threads do not wait on each other.
      */
     private class MultiplePool implements Pool<S> {
-        private final Object lock = new Object();
         private final Endpoint endpoint;
-        private final BlockingQueue<S> queue;
-        private final List<S> evicts;
+        private final Deque<Idle<S>> queue;
+        // the size of the deque is not a constant-time operation so we keep track of it
+        private final AtomicInteger queueSize;
+        private final Queue<S> evicts;
+        // services evicted while in use, which are stopped when released
+        private final Set<S> retired;
+        // the number of services which have been acquired and not yet released
+        private final AtomicInteger inUse;
+        // whether the pool has been removed from the pools after being idle
+        private volatile boolean removed;
 
         private MultiplePool() {
             // only used for eager classloading
             this.endpoint = null;
             this.queue = null;
+            this.queueSize = null;
             this.evicts = null;
+            this.retired = null;
+            this.inUse = null;
         }
 
         MultiplePool(Endpoint endpoint) {
             this.endpoint = endpoint;
-            this.queue = new ArrayBlockingQueue<>(capacity);
-            this.evicts = new ArrayList<>();
+            this.queue = new ConcurrentLinkedDeque<>();
+            this.queueSize = new AtomicInteger();
+            this.evicts = new ConcurrentLinkedQueue<>();
+            this.retired = ConcurrentHashMap.newKeySet();
+            this.inUse = new AtomicInteger();
         }
 
         private void cleanupEvicts() {
-            if (!evicts.isEmpty()) {
-                synchronized (lock) {
-                    if (!evicts.isEmpty()) {
-                        for (S evict : evicts) {
-                            doStop(evict);
-                            queue.remove(evict);
-                        }
-                        evicts.clear();
-                    }
+            S evict;
+            while ((evict = evicts.poll()) != null) {
+                if (removeIdle(evict)) {
+                    doStop(evict);
+                } else {
+                    // its in use, so stop it when its released
+                    retired.add(evict);
+                }
+            }
+        }
+
+        private boolean removeIdle(S s) {
+            for (Idle<S> idle : queue) {
+                if (idle.service == s && queue.remove(idle)) {
+                    queueSize.decrementAndGet();
+                    return true;
                 }
             }
+            return false;
         }
 
         @Override
         public S acquire() throws Exception {
             cleanupEvicts();
 
+            // must be updated before checking whether the pool is removed, see evictIdle
+            inUse.incrementAndGet();
+            if (removed) {
+                // the pool has been evicted as being idle, so acquire from a new pool instead
+                inUse.decrementAndGet();
+                return getOrCreatePool(endpoint).acquire();
+            }
+
+            Idle<S> idle = queue.pollFirst();
+            if (idle != null) {
+                queueSize.decrementAndGet();
+                hits.increment();
+                return idle.service;
+            }
+
+            misses.increment();
             S s;
-            synchronized (lock) {
-                s = queue.poll();
-                if (s == null) {
-                    s = creator.apply(endpoint);
-                    s.start();
-                }
+            try {
+                s = creator.apply(endpoint);
+                s.start();
+            } catch (Exception e) {
+                inUse.decrementAndGet();
+                throw e;
             }
+            created.increment();
             return s;
         }
 
@@ -345,33 +542,66 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         public void release(S s) {
             cleanupEvicts();
 
-            synchronized (lock) {
-                if (!queue.offer(s)) {
-                    // there is no room so lets just stop and discard this
-                    doStop(s);
-                }
+            // guard against the service being released twice
+            inUse.updateAndGet(n -> n > 0 ? n - 1 : 0);
+
+            if (!retired.isEmpty() && retired.remove(s)) {
+                doStop(s);
+                return;
+            }
+            if (queueSize.incrementAndGet() <= capacity) {
+                queue.offerFirst(new Idle<>(s, System.currentTimeMillis()));
+            } else {
+                queueSize.decrementAndGet();
+                // there is no room so lets just stop and discard this
+                onDiscard(s);
+                doStop(s);
             }
         }
 
         @Override
         public int size() {
-            return queue.size();
+            return queueSize.get();
         }
 
         @Override
         public void stop() {
-            synchronized (lock) {
-                queue.forEach(this::doStop);
-                queue.clear();
-                pool.remove(endpoint);
+            Idle<S> idle;
+            while ((idle = queue.pollFirst()) != null) {
+                queueSize.decrementAndGet();
+                doStop(idle.service);
             }
+            evicts.clear();
+            retired.clear();
+            pool.remove(endpoint);
         }
 
         @Override
         public void evict(S s) {
             // to be evicted
-            synchronized (lock) {
-                evicts.add(s);
+            evicts.offer(s);
+        }
+
+        @Override
+        public void evictIdle(long lastUsedBefore) {
+            // the least recently used are at the end of the deque
+            for (Idle<S> idle : queue) {
+                if (idle.lastUsed < lastUsedBefore && queue.remove(idle)) {
+                    queueSize.decrementAndGet();
+                    LOG.debug("Evicting idle service: {}", idle.service);
+                    onDiscard(idle.service);
+                    doStop(idle.service);
+                }
+            }
+            if (queueSize.get() == 0 && inUse.get() == 0) {
+                // remove the empty pool so idle endpoints are not kept in the pools, unless a worker thread has
+                // acquired a service in the meantime, as it must release the service to this pool
+                removed = true;
+                if (inUse.get() == 0) {
+                    pool.remove(endpoint, this);
+                } else {
+                    removed = false;
+                }
             }
         }
 
@@ -394,4 +624,17 @@ abstract class ServicePool<S extends Service> extends ServiceSupport implements
         }
     }
 
+    /**
+     * An idle service in the pool, and when it was released to the pool
+     */
+    private static final class Idle<S> {
+        private final S service;
+        private final long lastUsed;
+
+        Idle(S service, long lastUsed) {
+            this.service = service;
+            this.lastUsed = lastUsed;
+        }
+    }
+
 }
@@ -0,0 +1,496 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.StripedLock;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which stores the changes to the
+ * repository in an append-only log.
+ * <p/>
+ * Unlike {@link FileIdempotentRepository} all the keys are kept in memory, so {@link #contains(String)} never needs to
+ * scan the file store, and the lookups are lock-free. Adding and removing keys only locks the key (the keys are spread
+ * over a number of lock stripes) and appends a record to the end of the file store, which is never rewritten on the hot
+ * path. Instead, the file store is compacted in the background when it contains more than
+ * {@link #getCompactionThreshold()} stale records (such as removed keys), by writing the live keys to a new file which
+ * replaces the file store.
+ * <p/>
+ * The file store is memory-mapped when it is loaded on startup.
+ */
+@ManagedResource(description = "Append-only file based idempotent repository")
+public class AppendOnlyFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AppendOnlyFileIdempotentRepository.class);
+
+    private static final byte ADD = '+';
+    private static final byte REMOVE = '-';
+    private static final byte STORE_DELIMITER = '\n';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Map<String, Boolean> cache = new ConcurrentHashMap<>();
+    private final AtomicLong records = new AtomicLong();
+    private final AtomicLong compactions = new AtomicLong();
+    private CamelContext camelContext;
+    private File fileStore;
+    private int lockStripes = 64;
+    private long compactionThreshold = 100000;
+    private long compactionCheckInterval = 10000;
+    private StripedLock lock;
+    private volatile FileChannel channel;
+    private volatile List<byte[]> compactionRecords;
+    private ScheduledExecutorService compactionExecutorService;
+
+    public AppendOnlyFileIdempotentRepository() {
+    }
+
+    public AppendOnlyFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new append-only file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository appendOnlyFileIdempotentRepository(File fileStore) {
+        return new AppendOnlyFileIdempotentRepository(fileStore);
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    @ManagedAttribute(description = "Number of lock stripes the keys are spread over")
+    public int getLockStripes() {
+        return lockStripes;
+    }
+
+    /**
+     * Sets the number of lock stripes the keys are spread over, when adding and removing keys.
+     * <p/>
+     * The default is 64.
+     */
+    public void setLockStripes(int lockStripes) {
+        this.lockStripes = lockStripes;
+    }
+
+    @ManagedAttribute(description = "Number of stale records in the file store before it is compacted")
+    public long getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the number of stale records (such as removed keys) in the file store before the file store is compacted. The
+     * file store is only compacted if it also has more stale records than live keys.
+     * <p/>
+     * The default is 100000.
+     */
+    @ManagedAttribute(description = "Number of stale records in the file store before it is compacted")
+    public void setCompactionThreshold(long compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public long getCompactionCheckInterval() {
+        return compactionCheckInterval;
+    }
+
+    /**
+     * Sets the interval in millis the background task checks whether the file store should be compacted. You can set
+     * the value to 0 or negative to turn off background compaction.
+     * <p/>
+     * The default is 10000.
+     */
+    public void setCompactionCheckInterval(long compactionCheckInterval) {
+        this.compactionCheckInterval = compactionCheckInterval;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the store")
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    @ManagedAttribute(description = "Number of records in the file store")
+    public long getRecords() {
+        return records.get();
+    }
+
+    @ManagedAttribute(description = "Number of times the file store has been compacted")
+    public long getCompactions() {
+        return compactions.get();
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        Lock keyLock = lock.getLock(key);
+        keyLock.lock();
+        try {
+            if (cache.putIfAbsent(key, Boolean.TRUE) != null) {
+                return false;
+            }
+            appendToStore(ADD, key);
+            return true;
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        return cache.containsKey(key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Lock keyLock = lock.getLock(key);
+        keyLock.lock();
+        try {
+            if (cache.remove(key) == null) {
+                return false;
+            }
+            appendToStore(REMOVE, key);
+            return true;
+        } finally {
+            keyLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public synchronized void clear() {
+        lock.lock();
+        try {
+            cache.clear();
+            channel.truncate(0);
+            records.set(0);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compacts the file store, by writing the live keys to a new file which replaces the file store.
+     */
+    @ManagedOperation(description = "Compacts the file store")
+    public synchronized void compact() throws IOException {
+        LOG.debug("Compacting idempotent filestore: {} with {} records", fileStore, records.get());
+
+        // from now on the appended records are also kept in memory, so they can be added to the compacted file store
+        lock.lock();
+        try {
+            compactionRecords = Collections.synchronizedList(new ArrayList<>());
+        } finally {
+            lock.unlock();
+        }
+
+        File compacted = new File(fileStore.getPath() + ".compact");
+        long count = 0;
+        try (FileChannel out = FileChannel.open(compacted.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // the keys added or removed while iterating are taken care of by the records kept in memory
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(BUFFER_SIZE);
+            for (String key : cache.keySet()) {
+                byte[] data = toRecord(ADD, key);
+                bos.write(data, 0, data.length);
+                count++;
+                if (bos.size() >= BUFFER_SIZE) {
+                    writeFully(out, ByteBuffer.wrap(bos.toByteArray()));
+                    bos.reset();
+                }
+            }
+            writeFully(out, ByteBuffer.wrap(bos.toByteArray()));
+
+            lock.lock();
+            try {
+                for (byte[] data : compactionRecords) {
+                    writeFully(out, ByteBuffer.wrap(data));
+                    count++;
+                }
+                out.force(false);
+                out.close();
+
+                // replace the file store with the compacted file, and reopen the file store even if that failed,
+                // so the records keep on being appended to the original file store
+                channel.close();
+                try {
+                    replaceStore(compacted);
+                    records.set(count);
+                    compactions.incrementAndGet();
+                } finally {
+                    channel = openStore();
+                }
+            } finally {
+                compactionRecords = null;
+                lock.unlock();
+            }
+        } finally {
+            if (compactionRecords != null) {
+                // compaction failed before replacing the file store
+                lock.lock();
+                try {
+                    compactionRecords = null;
+                } finally {
+                    lock.unlock();
+                }
+            }
+            FileUtil.deleteFile(compacted);
+        }
+
+        LOG.debug("Compacted idempotent filestore: {} to {} records", fileStore, count);
+    }
+
+    /**
+     * Reset and reloads the keys from the file store
+     */
+    @ManagedOperation(description = "Reset and reloads the file store")
+    public synchronized void reset() throws IOException {
+        lock.lock();
+        try {
+            long length = loadStore();
+            channel.truncate(length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Appends the record to the file store, must be called while holding the lock of the key.
+     */
+    protected void appendToStore(byte type, String key) {
+        LOG.trace("Appending: {}{} to idempotent filestore: {}", (char) type, key, fileStore);
+        byte[] data = toRecord(type, key);
+        try {
+            // a file channel opened in append mode writes each buffer atomically at the end of the file
+            writeFully(channel, ByteBuffer.wrap(data));
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        records.incrementAndGet();
+        List<byte[]> list = compactionRecords;
+        if (list != null) {
+            list.add(data);
+        }
+    }
+
+    /**
+     * Loads the file store (memory-mapped) into memory
+     *
+     * @return the length of the complete records in the file store
+     */
+    protected long loadStore() throws IOException {
+        cache.clear();
+        records.set(0);
+        long position = 0;
+        if (fileStore.length() > 0) {
+            try (FileChannel in = FileChannel.open(fileStore.toPath(), StandardOpenOption.READ)) {
+                long size = in.size();
+                // a mapped buffer is limited to 2gb so map the file store in regions
+                while (position < size) {
+                    long length = Math.min(size - position, Integer.MAX_VALUE);
+                    MappedByteBuffer buffer = in.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    int consumed = loadRecords(buffer);
+                    if (consumed == 0) {
+                        break;
+                    }
+                    position += consumed;
+                }
+                if (position < size) {
+                    // the last record has only been partially written (such as the JVM crashed)
+                    LOG.warn("Ignoring incomplete record at the end of idempotent filestore: {}", fileStore);
+                }
+            }
+        }
+        LOG.debug("Loaded {} keys from {} records from idempotent filestore: {}", cache.size(), records.get(), fileStore);
+        return position;
+    }
+
+    private int loadRecords(MappedByteBuffer buffer) {
+        int start = 0;
+        int limit = buffer.limit();
+        for (int i = 0; i < limit; i++) {
+            if (buffer.get(i) == STORE_DELIMITER) {
+                if (i > start) {
+                    byte type = buffer.get(start);
+                    byte[] bytes = new byte[i - start - 1];
+                    buffer.position(start + 1);
+                    buffer.get(bytes);
+                    String key = new String(bytes, StandardCharsets.UTF_8);
+                    if (type == ADD) {
+                        cache.put(key, Boolean.TRUE);
+                    } else if (type == REMOVE) {
+                        cache.remove(key);
+                    }
+                    records.incrementAndGet();
+                }
+                start = i + 1;
+            }
+        }
+        return start;
+    }
+
+    /**
+     * Replaces the file store with the compacted file store, must be called while holding the lock.
+     */
+    protected void replaceStore(File compacted) throws IOException {
+        Files.move(compacted.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private FileChannel openStore() throws IOException {
+        return FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    private void checkCompaction() {
+        long live = cache.size();
+        long stale = records.get() - live;
+        if (stale > compactionThreshold && stale > live) {
+            try {
+                compact();
+            } catch (Exception e) {
+                LOG.warn("Error compacting idempotent filestore: {} due to {}. This exception is ignored.", fileStore,
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    private static byte[] toRecord(byte type, String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] data = new byte[bytes.length + 2];
+        data[0] = type;
+        System.arraycopy(bytes, 0, data, 1, bytes.length);
+        data[data.length - 1] = STORE_DELIMITER;
+        return data;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+
+        lock = new StripedLock(lockStripes);
+
+        // auto create starting directory if needed
+        File parent = fileStore.getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+        if (!fileStore.exists()) {
+            LOG.debug("Creating filestore: {}", fileStore);
+            if (!FileUtil.createNewFile(fileStore)) {
+                throw new IOException("Cannot create filestore: " + fileStore);
+            }
+        }
+
+        long length = loadStore();
+        channel = openStore();
+        if (length < channel.size()) {
+            // remove the incomplete record so the next record is appended after the last complete record
+            channel.truncate(length);
+        }
+
+        if (compactionCheckInterval > 0 && camelContext != null) {
+            compactionExecutorService = camelContext.getExecutorServiceManager()
+                    .newSingleThreadScheduledExecutor(this, "AppendOnlyFileIdempotentRepositoryCompaction");
+            compactionExecutorService.scheduleWithFixedDelay(this::checkCompaction, compactionCheckInterval,
+                    compactionCheckInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (compactionExecutorService != null) {
+            camelContext.getExecutorServiceManager().shutdown(compactionExecutorService);
+            compactionExecutorService = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+        cache.clear();
+    }
+
+}
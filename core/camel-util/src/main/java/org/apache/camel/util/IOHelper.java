@@ -244,6 +244,14 @@ public final class IOHelper {
     }
 
     public static void transfer(ReadableByteChannel input, WritableByteChannel output) throws IOException {
+        if (input instanceof FileChannel) {
+            FileChannel channel = (FileChannel) input;
+            long position = channel.position();
+            long count = transfer(channel, position, channel.size() - position, output);
+            channel.position(position + count);
+            return;
+        }
+
         ByteBuffer buffer = ByteBuffer.allocate(DEFAULT_BUFFER_SIZE);
         while (input.read(buffer) >= 0) {
             buffer.flip();
@@ -254,6 +262,63 @@ public final class IOHelper {
         }
     }
 
+    /**
+     * Transfers the bytes from the given file channel to the output channel using
+     * {@link FileChannel#transferTo(long, long, WritableByteChannel)}, which lets the operating system copy the bytes
+     * directly (zero copy) where supported. Unlike a single call to transferTo, this keeps on transferring until all
+     * the bytes have been transferred. If transferTo makes no progress before the end of the file, then the remaining
+     * bytes are copied via a buffer instead.
+     *
+     * @param  input       the file channel to transfer from, its position is not changed
+     * @param  position    the position in the file to start transferring from
+     * @param  count       the number of bytes to transfer
+     * @param  output      the channel to transfer to
+     * @return             the number of bytes transferred, which is less than the count if the file is shorter
+     * @throws IOException If an I/O error occurs during the transfer, or the output channel does not accept any bytes
+     */
+    public static long transfer(FileChannel input, long position, long count, WritableByteChannel output)
+            throws IOException {
+        long pos = position;
+        long end = position + count;
+        while (pos < end) {
+            long n = input.transferTo(pos, end - pos, output);
+            if (n > 0) {
+                pos += n;
+            } else if (pos >= input.size()) {
+                // the end of the file has been reached
+                break;
+            } else {
+                // no progress, so fallback to copy the remaining bytes via a buffer instead of trying again
+                pos += transferViaBuffer(input, pos, end, output);
+                break;
+            }
+        }
+        return pos - position;
+    }
+
+    private static long transferViaBuffer(FileChannel input, long position, long end, WritableByteChannel output)
+            throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(DEFAULT_BUFFER_SIZE, end - position));
+        long pos = position;
+        while (pos < end) {
+            BufferCaster.cast(buffer).limit((int) Math.min(buffer.capacity(), end - pos));
+            int n = input.read(buffer, pos);
+            if (n < 0) {
+                // the end of the file has been reached
+                break;
+            }
+            BufferCaster.cast(buffer).flip();
+            while (buffer.hasRemaining()) {
+                if (output.write(buffer) <= 0) {
+                    throw new IOException("Cannot transfer bytes as the channel does not accept any bytes: " + output);
+                }
+            }
+            pos += n;
+            BufferCaster.cast(buffer).clear();
+        }
+        return pos - position;
+    }
+
     /**
      * Forces any updates to this channel's file to be written to the storage device that contains it.
      *
@@ -16,12 +16,32 @@
  */
 package org.apache.camel.util;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 
 public class IOHelperTest {
 
+    @TempDir
+    Path tempDir;
+
     @Test
     public void testLookupEnvironmentVariable() throws Exception {
         assertEquals("8081", IOHelper.lookupEnvironmentVariable("FOO_SERVICE_PORT"));
@@ -38,4 +58,90 @@ public class IOHelperTest {
         assertEquals("UTF-8", IOHelper.getCharsetNameFromContentType("application/json; charset=utf-8"));
         assertEquals("iso-8859-1", IOHelper.getCharsetNameFromContentType("application/json; charset=iso-8859-1"));
     }
+
+    @Test
+    public void testTransferFileChannel() throws Exception {
+        Path file = tempDir.resolve("hello.txt");
+        Files.write(file, "Hello World".getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertEquals(5, IOHelper.transfer(channel, 6, 100, Channels.newChannel(bos)));
+            assertEquals("World", bos.toString(StandardCharsets.UTF_8.name()));
+            assertEquals(0, channel.position());
+
+            // the generic transfer continues from the position of the channel
+            bos.reset();
+            channel.position(6);
+            IOHelper.transfer((ReadableByteChannel) channel, Channels.newChannel(bos));
+            assertEquals("World", bos.toString(StandardCharsets.UTF_8.name()));
+            assertEquals(11, channel.position());
+        }
+    }
+
+    @Test
+    public void testTransferFileChannelNoProgress() throws Exception {
+        Path file = tempDir.resolve("hello.txt");
+        Files.write(file, "Hello World".getBytes(StandardCharsets.UTF_8));
+
+        // a channel which does not accept any bytes the first time, so transferTo makes no progress
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        WritableByteChannel out = Channels.newChannel(bos);
+        AtomicBoolean first = new AtomicBoolean(true);
+        WritableByteChannel slow = new WritableByteChannel() {
+            public int write(ByteBuffer src) throws IOException {
+                return first.getAndSet(false) ? 0 : out.write(src);
+            }
+
+            public boolean isOpen() {
+                return true;
+            }
+
+            public void close() {
+            }
+        };
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            long count = assertTimeoutPreemptively(Duration.ofSeconds(10), () -> IOHelper.transfer(channel, 0, 100, slow));
+            assertEquals(11, count);
+            assertEquals("Hello World", bos.toString(StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    @Test
+    public void testTransferFileChannelNotAccepted() throws Exception {
+        Path file = tempDir.resolve("hello.txt");
+        Files.write(file, "Hello World".getBytes(StandardCharsets.UTF_8));
+
+        // a channel which never accepts any bytes
+        WritableByteChannel full = new WritableByteChannel() {
+            public int write(ByteBuffer src) {
+                return 0;
+            }
+
+            public boolean isOpen() {
+                return true;
+            }
+
+            public void close() {
+            }
+        };
+
+        try (FileChannel channel = FileChannel.open(file)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10),
+                    () -> assertThrows(IOException.class, () -> IOHelper.transfer(channel, 0, 100, full)));
+        }
+    }
+
+    @Test
+    public void testCopyFile() throws Exception {
+        File from = tempDir.resolve("from.txt").toFile();
+        File to = tempDir.resolve("to.txt").toFile();
+        Files.write(from.toPath(), "Hello World".getBytes(StandardCharsets.UTF_8));
+        Files.write(to.toPath(), "Some longer existing content".getBytes(StandardCharsets.UTF_8));
+
+        FileUtil.copyFile(from, to);
+
+        assertEquals("Hello World", new String(Files.readAllBytes(to.toPath()), StandardCharsets.UTF_8));
+    }
 }
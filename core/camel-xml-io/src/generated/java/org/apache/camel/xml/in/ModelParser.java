@@ -83,6 +83,7 @@ public class ModelParser extends BaseParser {
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
+                case "parallelAggregation": def.setParallelAggregation(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "strategyMethodAllowNull": def.setStrategyMethodAllowNull(val); break;
                 case "strategyMethodName": def.setStrategyMethodName(val); break;
@@ -1314,7 +1315,9 @@ public class ModelParser extends BaseParser {
             switch (key) {
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
+                case "maxInflight": def.setMaxInflight(val); break;
                 case "onPrepareRef": def.setOnPrepareRef(val); break;
+                case "orderedAggregation": def.setOrderedAggregation(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "shareUnitOfWork": def.setShareUnitOfWork(val); break;
@@ -1380,6 +1383,7 @@ public class ModelParser extends BaseParser {
                 case "executorServiceRef": def.setExecutorServiceRef(val); break;
                 case "rejectExecution": def.setRejectExecution(val); break;
                 case "timePeriodMillis": def.setTimePeriodMillis(val); break;
+                case "tokenBucket": def.setTokenBucket(val); break;
                 default: return processorDefinitionAttributeHandler().accept(def, key, val);
             }
             return true;
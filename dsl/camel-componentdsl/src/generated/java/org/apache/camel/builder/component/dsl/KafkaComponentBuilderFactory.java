@@ -266,6 +266,78 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to consume the polled records in batches. Each batch is
+         * routed as a single exchange where the message body is a
+         * java.util.List of exchanges, one per record, which hold the record
+         * value and the kafka headers (topic, partition, offset, key, etc.) of
+         * the record. The size of the batches is bounded by the
+         * batchingMaxRecords, batchingMaxBytes and batchingIntervalMs options.
+         * The offsets of the records are committed after the batch has been
+         * processed. This option cannot be used together with allowManualCommit
+         * or consumerWorkers.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * The maximum time in millis to collect records from several polls into
+         * the same batch, when using batching. The time starts when the first
+         * record is added to the batch. By default, the records from each poll
+         * are routed as soon as they are polled.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batchingIntervalMs(long batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of the serialized keys and values of the
+         * records in a batch, when using batching. The batch is completed when
+         * adding a record makes it reach this size. By default the size is
+         * unbounded.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingMaxBytes the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batchingMaxBytes(long batchingMaxBytes) {
+            doSetProperty("batchingMaxBytes", batchingMaxBytes);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch, when using batching.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 500
+         * Group: consumer
+         * 
+         * @param batchingMaxRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder batchingMaxRecords(int batchingMaxRecords) {
+            doSetProperty("batchingMaxRecords", batchingMaxRecords);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -383,6 +455,50 @@ public interface KafkaComponentBuilderFactory {
             doSetProperty("consumersCount", consumersCount);
             return this;
         }
+        /**
+         * The number of worker threads each consumer uses to process the polled
+         * records. By default the records are processed one by one by the
+         * consumer thread itself. When using workers, then the consumer thread
+         * continues to poll while the records are processed in parallel, and
+         * the order of the records is kept per partition (or per key, see
+         * consumerWorkersOrdering). The offsets are committed up to the last
+         * record where all previous records have been processed, so each record
+         * is processed at least once. This option cannot be used together with
+         * allowManualCommit or breakOnFirstError.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param consumerWorkers the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder consumerWorkers(int consumerWorkers) {
+            doSetProperty("consumerWorkers", consumerWorkers);
+            return this;
+        }
+        /**
+         * How the polled records are assigned to the consumer workers, which is
+         * also the order the records are processed in. With partition, all
+         * records from the same partition are processed in order by the same
+         * worker. With key, all records with the same key are processed in
+         * order by the same worker (records without a key are assigned by
+         * partition), which allows processing records from the same partition
+         * in parallel.
+         * 
+         * The option is a: &lt;code&gt;java.lang.String&lt;/code&gt; type.
+         * 
+         * Default: partition
+         * Group: consumer
+         * 
+         * @param consumerWorkersOrdering the value to set
+         * @return the dsl builder
+         */
+        default KafkaComponentBuilder consumerWorkersOrdering(
+                java.lang.String consumerWorkersOrdering) {
+            doSetProperty("consumerWorkersOrdering", consumerWorkersOrdering);
+            return this;
+        }
         /**
          * The maximum amount of data the server should return for a fetch
          * request This is not an absolute maximum, if the first message in the
@@ -2020,12 +2136,18 @@ public interface KafkaComponentBuilderFactory {
             case "autoCommitIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitIntervalMs((java.lang.Integer) value); return true;
             case "autoCommitOnStop": getOrCreateConfiguration((KafkaComponent) component).setAutoCommitOnStop((java.lang.String) value); return true;
             case "autoOffsetReset": getOrCreateConfiguration((KafkaComponent) component).setAutoOffsetReset((java.lang.String) value); return true;
+            case "batching": getOrCreateConfiguration((KafkaComponent) component).setBatching((boolean) value); return true;
+            case "batchingIntervalMs": getOrCreateConfiguration((KafkaComponent) component).setBatchingIntervalMs((long) value); return true;
+            case "batchingMaxBytes": getOrCreateConfiguration((KafkaComponent) component).setBatchingMaxBytes((long) value); return true;
+            case "batchingMaxRecords": getOrCreateConfiguration((KafkaComponent) component).setBatchingMaxRecords((int) value); return true;
             case "breakOnFirstError": getOrCreateConfiguration((KafkaComponent) component).setBreakOnFirstError((boolean) value); return true;
             case "bridgeErrorHandler": ((KafkaComponent) component).setBridgeErrorHandler((boolean) value); return true;
             case "checkCrcs": getOrCreateConfiguration((KafkaComponent) component).setCheckCrcs((java.lang.Boolean) value); return true;
             case "commitTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setCommitTimeoutMs((java.lang.Long) value); return true;
             case "consumerRequestTimeoutMs": getOrCreateConfiguration((KafkaComponent) component).setConsumerRequestTimeoutMs((java.lang.Integer) value); return true;
             case "consumersCount": getOrCreateConfiguration((KafkaComponent) component).setConsumersCount((int) value); return true;
+            case "consumerWorkers": getOrCreateConfiguration((KafkaComponent) component).setConsumerWorkers((int) value); return true;
+            case "consumerWorkersOrdering": getOrCreateConfiguration((KafkaComponent) component).setConsumerWorkersOrdering((java.lang.String) value); return true;
             case "fetchMaxBytes": getOrCreateConfiguration((KafkaComponent) component).setFetchMaxBytes((java.lang.Integer) value); return true;
             case "fetchMinBytes": getOrCreateConfiguration((KafkaComponent) component).setFetchMinBytes((java.lang.Integer) value); return true;
             case "fetchWaitMaxMs": getOrCreateConfiguration((KafkaComponent) component).setFetchWaitMaxMs((java.lang.Integer) value); return true;
@@ -1136,6 +1136,29 @@ public interface NettyHttpComponentBuilderFactory {
             doSetProperty("encoding", encoding);
             return this;
         }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyHttpComponentBuilder passThroughByteBuf(
+                boolean passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
         /**
          * Only used for TCP. If no codec is specified, you can use this flag to
          * indicate a text line based codec; if not specified or the value is
@@ -1482,6 +1505,7 @@ public interface NettyHttpComponentBuilderFactory {
             case "delimiter": getOrCreateConfiguration((NettyHttpComponent) component).setDelimiter((org.apache.camel.component.netty.TextLineDelimiter) value); return true;
             case "encoders": getOrCreateConfiguration((NettyHttpComponent) component).setEncoders((java.util.List) value); return true;
             case "encoding": getOrCreateConfiguration((NettyHttpComponent) component).setEncoding((java.lang.String) value); return true;
+            case "passThroughByteBuf": getOrCreateConfiguration((NettyHttpComponent) component).setPassThroughByteBuf((boolean) value); return true;
             case "textline": getOrCreateConfiguration((NettyHttpComponent) component).setTextline((boolean) value); return true;
             case "enabledProtocols": getOrCreateConfiguration((NettyHttpComponent) component).setEnabledProtocols((java.lang.String) value); return true;
             case "keyStoreFile": getOrCreateConfiguration((NettyHttpComponent) component).setKeyStoreFile((java.io.File) value); return true;
@@ -2273,6 +2273,83 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("onCompletionExceptionHandler", onCompletionExceptionHandler);
             return this;
         }
+        /**
+         * Whether to process the files picked up by each poll in parallel using
+         * a thread pool, instead of one by one. Each file is still read locked,
+         * processed and committed (moved or deleted) on its own, and the next
+         * poll is not started before all the files of the current poll have
+         * been processed. The files are processed synchronously by the threads
+         * of the pool.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelFileProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelFileProcessing(
+                boolean parallelFileProcessing) {
+            doSetProperty("parallelFileProcessing", parallelFileProcessing);
+            return this;
+        }
+        /**
+         * Whether to process the files picked up by each poll in parallel using
+         * a thread pool, instead of one by one. Each file is still read locked,
+         * processed and committed (moved or deleted) on its own, and the next
+         * poll is not started before all the files of the current poll have
+         * been processed. The files are processed synchronously by the threads
+         * of the pool.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param parallelFileProcessing the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelFileProcessing(
+                String parallelFileProcessing) {
+            doSetProperty("parallelFileProcessing", parallelFileProcessing);
+            return this;
+        }
+        /**
+         * The number of threads used to process the files in parallel, when
+         * parallelFileProcessing is enabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param parallelFileProcessingPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelFileProcessingPoolSize(
+                int parallelFileProcessingPoolSize) {
+            doSetProperty("parallelFileProcessingPoolSize", parallelFileProcessingPoolSize);
+            return this;
+        }
+        /**
+         * The number of threads used to process the files in parallel, when
+         * parallelFileProcessing is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 10
+         * Group: consumer (advanced)
+         * 
+         * @param parallelFileProcessingPoolSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder parallelFileProcessingPoolSize(
+                String parallelFileProcessingPoolSize) {
+            doSetProperty("parallelFileProcessingPoolSize", parallelFileProcessingPoolSize);
+            return this;
+        }
         /**
          * A pluggable org.apache.camel.PollingConsumerPollingStrategy allowing
          * you to provide your custom implementation to control error handling
@@ -2510,6 +2587,90 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("startingDirectoryMustHaveAccess", startingDirectoryMustHaveAccess);
             return this;
         }
+        /**
+         * Whether to list the directories using NIO directory streams, which
+         * reads the attributes of each file only once (and reuses the
+         * attributes returned with the directory entries on platforms such as
+         * Windows). This is faster than the default listing when polling
+         * directories with many files.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useDirectoryStream the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useDirectoryStream(
+                boolean useDirectoryStream) {
+            doSetProperty("useDirectoryStream", useDirectoryStream);
+            return this;
+        }
+        /**
+         * Whether to list the directories using NIO directory streams, which
+         * reads the attributes of each file only once (and reuses the
+         * attributes returned with the directory entries on platforms such as
+         * Windows). This is faster than the default listing when polling
+         * directories with many files.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useDirectoryStream the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useDirectoryStream(
+                String useDirectoryStream) {
+            doSetProperty("useDirectoryStream", useDirectoryStream);
+            return this;
+        }
+        /**
+         * Whether to keep the listings of the polled directories in memory, and
+         * to update them with the change events of a WatchService, so the
+         * directories are only listed on the first poll, instead of on every
+         * poll. This implies using directory streams. Notice that on platforms
+         * without native support for watching file changes (such as macOS) the
+         * changes may be detected with a delay of several seconds.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(
+                boolean useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
+        /**
+         * Whether to keep the listings of the polled directories in memory, and
+         * to update them with the change events of a WatchService, so the
+         * directories are only listed on the first poll, instead of on every
+         * poll. This implies using directory streams. Notice that on platforms
+         * without native support for watching file changes (such as macOS) the
+         * changes may be detected with a delay of several seconds.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param useWatchService the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder useWatchService(
+                String useWatchService) {
+            doSetProperty("useWatchService", useWatchService);
+            return this;
+        }
         /**
          * Automatically create missing directories in the file's pathname. For
          * the file consumer, that means creating the starting directory. For
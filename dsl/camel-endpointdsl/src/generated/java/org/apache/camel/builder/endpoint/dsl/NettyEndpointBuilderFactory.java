@@ -687,6 +687,53 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("encoding", encoding);
             return this;
         }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyEndpointConsumerBuilder passThroughByteBuf(
+                boolean passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyEndpointConsumerBuilder passThroughByteBuf(
+                String passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
         /**
          * Only used for TCP. If no codec is specified, you can use this flag to
          * indicate a text line based codec; if not specified or the value is
@@ -2534,6 +2581,53 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("encoding", encoding);
             return this;
         }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyEndpointProducerBuilder passThroughByteBuf(
+                boolean passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyEndpointProducerBuilder passThroughByteBuf(
+                String passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
         /**
          * Only used for TCP. If no codec is specified, you can use this flag to
          * indicate a text line based codec; if not specified or the value is
@@ -4175,6 +4269,53 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("encoding", encoding);
             return this;
         }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyEndpointBuilder passThroughByteBuf(
+                boolean passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
+        /**
+         * For TCP, whether to use the pooled Netty ByteBuf which is read from
+         * the channel as the message body, without copying it to a byte array
+         * or String, and to write ByteBuf bodies without copying them either.
+         * The buffer is released when the exchange is done, so the body must
+         * not be used after the exchange is done (for example by an
+         * asynchronous wire tap or seda endpoint), unless it is first converted
+         * to another type. This avoids heap copies in proxy style routes. No
+         * default encoders and decoders are used, unless textline is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: codec
+         * 
+         * @param passThroughByteBuf the value to set
+         * @return the dsl builder
+         */
+        default NettyEndpointBuilder passThroughByteBuf(
+                String passThroughByteBuf) {
+            doSetProperty("passThroughByteBuf", passThroughByteBuf);
+            return this;
+        }
         /**
          * Only used for TCP. If no codec is specified, you can use this flag to
          * indicate a text line based codec; if not specified or the value is
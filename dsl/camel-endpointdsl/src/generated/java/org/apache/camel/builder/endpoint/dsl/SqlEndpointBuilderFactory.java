@@ -1809,6 +1809,76 @@ public interface SqlEndpointBuilderFactory {
             doSetProperty("alwaysPopulateStatement", alwaysPopulateStatement);
             return this;
         }
+        /**
+         * The maximum time in millis an exchange waits for its micro batch to
+         * be full, before the batch is executed anyway.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchInterval(
+                long microBatchInterval) {
+            doSetProperty("microBatchInterval", microBatchInterval);
+            return this;
+        }
+        /**
+         * The maximum time in millis an exchange waits for its micro batch to
+         * be full, before the batch is executed anyway.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 100
+         * Group: producer (advanced)
+         * 
+         * @param microBatchInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchInterval(
+                String microBatchInterval) {
+            doSetProperty("microBatchInterval", microBatchInterval);
+            return this;
+        }
+        /**
+         * Enables micro batching when greater than zero. Concurrent exchanges
+         * executing the same insert, update, delete or merge statement are then
+         * coalesced into JDBC batches of up to this size, and each exchange is
+         * completed when its batch has been committed.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                int microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
+        /**
+         * Enables micro batching when greater than zero. Concurrent exchanges
+         * executing the same insert, update, delete or merge statement are then
+         * coalesced into JDBC batches of up to this size, and each exchange is
+         * completed when its batch has been committed.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param microBatchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSqlEndpointProducerBuilder microBatchSize(
+                String microBatchSize) {
+            doSetProperty("microBatchSize", microBatchSize);
+            return this;
+        }
         /**
          * If set greater than zero, then Camel will use this count value of
          * parameters to replace instead of querying via JDBC metadata API. This
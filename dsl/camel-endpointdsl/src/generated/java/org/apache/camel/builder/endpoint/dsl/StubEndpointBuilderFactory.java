@@ -77,6 +77,46 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("size", size);
             return this;
         }
+        /**
+         * The maximum number of exchanges a consumer takes from the queue at
+         * once. When the consumer wakes up it drains up to this number of
+         * exchanges which are then processed one by one (or as a single grouped
+         * exchange), which reduces contention on the queue under heavy load.
+         * The exchanges are marked with the batch size and index as exchange
+         * properties.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default StubEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum number of exchanges a consumer takes from the queue at
+         * once. When the consumer wakes up it drains up to this number of
+         * exchanges which are then processed one by one (or as a single grouped
+         * exchange), which reduces contention on the queue under heavy load.
+         * The exchanges are marked with the batch size and index as exchange
+         * properties.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1
+         * Group: consumer
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default StubEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions occurred while the consumer is trying to
@@ -154,6 +194,43 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("concurrentConsumers", concurrentConsumers);
             return this;
         }
+        /**
+         * Whether the consumer should deliver the exchanges taken from the
+         * queue at once (see batchSize) as a single exchange, where the message
+         * body is a java.util.List of the exchanges.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param groupExchanges the value to set
+         * @return the dsl builder
+         */
+        default StubEndpointConsumerBuilder groupExchanges(
+                boolean groupExchanges) {
+            doSetProperty("groupExchanges", groupExchanges);
+            return this;
+        }
+        /**
+         * Whether the consumer should deliver the exchanges taken from the
+         * queue at once (see batchSize) as a single exchange, where the message
+         * body is a java.util.List of the exchanges.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param groupExchanges the value to set
+         * @return the dsl builder
+         */
+        default StubEndpointConsumerBuilder groupExchanges(
+                String groupExchanges) {
+            doSetProperty("groupExchanges", groupExchanges);
+            return this;
+        }
     }
 
     /**
@@ -737,6 +814,47 @@ public interface StubEndpointBuilderFactory {
             doSetProperty("timeout", timeout);
             return this;
         }
+        /**
+         * Whether the producer should add each exchange from a grouped exchange
+         * (where the message body is a java.util.List of exchanges) to the
+         * queue individually. The exchanges are added to the queue at once
+         * using a bulk offer. This only applies when the producer does not wait
+         * for the task to complete.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param ungroupExchanges the value to set
+         * @return the dsl builder
+         */
+        default StubEndpointProducerBuilder ungroupExchanges(
+                boolean ungroupExchanges) {
+            doSetProperty("ungroupExchanges", ungroupExchanges);
+            return this;
+        }
+        /**
+         * Whether the producer should add each exchange from a grouped exchange
+         * (where the message body is a java.util.List of exchanges) to the
+         * queue individually. The exchanges are added to the queue at once
+         * using a bulk offer. This only applies when the producer does not wait
+         * for the task to complete.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: producer
+         * 
+         * @param ungroupExchanges the value to set
+         * @return the dsl builder
+         */
+        default StubEndpointProducerBuilder ungroupExchanges(
+                String ungroupExchanges) {
+            doSetProperty("ungroupExchanges", ungroupExchanges);
+            return this;
+        }
         /**
          * Option to specify whether the caller should wait for the async task
          * to complete or not before continuing. The following three options are
@@ -321,6 +321,7 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
                     @YamlProperty(name = "optimistic-lock-retry-policy", type = "object:org.apache.camel.model.OptimisticLockRetryPolicyDefinition"),
                     @YamlProperty(name = "optimistic-locking", type = "boolean"),
+                    @YamlProperty(name = "parallel-aggregation", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
                     @YamlProperty(name = "steps", type = "array:org.apache.camel.model.ProcessorDefinition"),
                     @YamlProperty(name = "strategy-method-allow-null", type = "boolean"),
@@ -458,6 +459,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setOptimisticLocking(val);
                     break;
                 }
+                case "parallel-aggregation": {
+                    String val = asText(node);
+                    target.setParallelAggregation(val);
+                    break;
+                }
                 case "parallel-processing": {
                     String val = asText(node);
                     target.setParallelProcessing(val);
@@ -14856,7 +14862,9 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "executor-service-ref", type = "string"),
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
+                    @YamlProperty(name = "max-inflight", type = "number"),
                     @YamlProperty(name = "on-prepare-ref", type = "string"),
+                    @YamlProperty(name = "ordered-aggregation", type = "boolean"),
                     @YamlProperty(name = "parallel-aggregate", type = "boolean"),
                     @YamlProperty(name = "parallel-processing", type = "boolean"),
                     @YamlProperty(name = "share-unit-of-work", type = "boolean"),
@@ -14904,11 +14912,21 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setInheritErrorHandler(java.lang.Boolean.valueOf(val));
                     break;
                 }
+                case "max-inflight": {
+                    String val = asText(node);
+                    target.setMaxInflight(val);
+                    break;
+                }
                 case "on-prepare-ref": {
                     String val = asText(node);
                     target.setOnPrepareRef(val);
                     break;
                 }
+                case "ordered-aggregation": {
+                    String val = asText(node);
+                    target.setOrderedAggregation(val);
+                    break;
+                }
                 case "parallel-aggregate": {
                     String val = asText(node);
                     target.setParallelAggregate(val);
@@ -15598,7 +15616,8 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     @YamlProperty(name = "expression", type = "object:org.apache.camel.model.language.ExpressionDefinition"),
                     @YamlProperty(name = "inherit-error-handler", type = "boolean"),
                     @YamlProperty(name = "reject-execution", type = "boolean"),
-                    @YamlProperty(name = "time-period-millis", type = "string")
+                    @YamlProperty(name = "time-period-millis", type = "string"),
+                    @YamlProperty(name = "token-bucket", type = "boolean")
             }
     )
     public static class ThrottleDefinitionDeserializer extends YamlDeserializerBase<ThrottleDefinition> {
@@ -15655,6 +15674,11 @@ public final class ModelDeserializers extends YamlDeserializerSupport {
                     target.setTimePeriodMillis(val);
                     break;
                 }
+                case "token-bucket": {
+                    String val = asText(node);
+                    target.setTokenBucket(val);
+                    break;
+                }
                 case "id": {
                     String val = asText(node);
                     target.setId(val);
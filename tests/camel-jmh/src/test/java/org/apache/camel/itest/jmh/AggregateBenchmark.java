@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ProducerTemplate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.model.AggregateDefinition;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+
+/**
+ * Benchmarks the {@link org.apache.camel.processor.aggregate.AggregateProcessor} with a number of concurrent producers,
+ * showing how the aggregation scales with the number of distinct correlation keys in parallel aggregation mode
+ * compared to the default mode which aggregates one exchange at a time.
+ */
+public class AggregateBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        Options opt = BenchmarkSupport.options(getClass())
+                // use concurrent producers as that is when the aggregation lock matters
+                .threads(Integer.getInteger("camel.jmh.threads", 8))
+                .build();
+        new Runner(opt).run();
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "false", "true" })
+        boolean parallelAggregation;
+
+        @Param({ "1", "16", "1024" })
+        int keys;
+
+        CamelContext camel;
+        ProducerTemplate producer;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.addRoutes(new RouteBuilder() {
+                @Override
+                public void configure() throws Exception {
+                    AggregateDefinition aggregate = from("direct:start")
+                            .aggregate(header("key"), new CountingAggregationStrategy()).completionSize(100);
+                    if (parallelAggregation) {
+                        aggregate.parallelAggregation();
+                    }
+                    aggregate.to("log:aggregated?level=OFF");
+                }
+            });
+            camel.start();
+            producer = camel.createProducerTemplate();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void aggregate(BenchmarkState state) {
+        int key = ThreadLocalRandom.current().nextInt(state.keys);
+        state.producer.sendBodyAndHeader("direct:start", "Hello World", "key", key);
+    }
+
+    private static final class CountingAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                newExchange.getMessage().setBody(1);
+                return newExchange;
+            }
+            oldExchange.getMessage().setBody(oldExchange.getMessage().getBody(Integer.class) + 1);
+            return oldExchange;
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Common options for launching the JMH benchmarks from JUnit.
+ * <p/>
+ * The defaults are chosen so the numbers are reproducible on a single machine (single fork, fixed warmup and
+ * measurement iterations, GC between iterations). The allocation rate is reported via the GC profiler, so allocation
+ * regressions show up as well as throughput regressions. The results are written as JSON to the target directory
+ * which allows comparing runs between releases.
+ * <p/>
+ * The options can be tuned with the following system properties: <tt>camel.jmh.forks</tt>,
+ * <tt>camel.jmh.warmupIterations</tt>, <tt>camel.jmh.measurementIterations</tt>, <tt>camel.jmh.threads</tt>.
+ */
+public final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Creates the default options for running the benchmarks in the given class
+     */
+    public static ChainedOptionsBuilder options(Class<?> benchmark) {
+        return new OptionsBuilder()
+                .include(benchmark.getName() + ".*")
+                .mode(Mode.Throughput)
+                .timeUnit(TimeUnit.MILLISECONDS)
+                .warmupTime(TimeValue.seconds(1))
+                .warmupIterations(Integer.getInteger("camel.jmh.warmupIterations", 3))
+                .measurementTime(TimeValue.seconds(1))
+                .measurementIterations(Integer.getInteger("camel.jmh.measurementIterations", 5))
+                .threads(Integer.getInteger("camel.jmh.threads", 1))
+                .forks(Integer.getInteger("camel.jmh.forks", 1))
+                .addProfiler(GCProfiler.class)
+                .shouldFailOnError(true)
+                .shouldDoGC(true)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/jmh-" + benchmark.getSimpleName() + ".json");
+    }
+
+    /**
+     * Runs the benchmarks in the given class with the default options
+     */
+    public static void run(Class<?> benchmark) throws Exception {
+        new Runner(options(benchmark).build()).run();
+    }
+
+}
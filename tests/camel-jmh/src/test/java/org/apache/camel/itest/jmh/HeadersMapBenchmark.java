@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.impl.engine.CaseInsensitiveHashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the maps used for the message headers by the {@link DefaultHeadersMapFactory}, the
+ * {@link CaseInsensitiveHashMapHeadersMapFactory}, and camel-headersmap (which uses the
+ * {@link com.cedarsoftware.util.CaseInsensitiveMap}), for the typical operations on headers in routes.
+ */
+public class HeadersMapBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "default", "hash", "headersmap" })
+        String factory;
+
+        HeadersMapFactory headersMapFactory;
+        Map<String, Object> headers;
+
+        @Setup(Level.Trial)
+        public void initialize() {
+            switch (factory) {
+                case "hash":
+                    headersMapFactory = new CaseInsensitiveHashMapHeadersMapFactory();
+                    break;
+                case "headersmap":
+                    headersMapFactory = new CedarsoftwareHeadersMapFactory();
+                    break;
+                default:
+                    headersMapFactory = new DefaultHeadersMapFactory();
+                    break;
+            }
+            headers = populate(headersMapFactory.newMap());
+        }
+    }
+
+    static Map<String, Object> populate(Map<String, Object> map) {
+        map.put(Exchange.BREADCRUMB_ID, "ID-123");
+        map.put(Exchange.CONTENT_TYPE, "application/json");
+        map.put(Exchange.HTTP_METHOD, "POST");
+        map.put(Exchange.HTTP_URI, "/orders");
+        map.put(Exchange.FILE_NAME, "order.json");
+        map.put("Accept", "application/json");
+        map.put("User-Agent", "curl");
+        map.put("orderId", 123);
+        map.put("customer", "acme");
+        map.put("priority", "high");
+        return map;
+    }
+
+    @Benchmark
+    public void populate(BenchmarkState state, Blackhole bh) {
+        bh.consume(populate(state.headersMapFactory.newMap()));
+    }
+
+    @Benchmark
+    public void getConstants(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.headers.get(Exchange.CONTENT_TYPE));
+        bh.consume(state.headers.get(Exchange.FILE_NAME));
+        bh.consume(state.headers.get(Exchange.HTTP_METHOD));
+        bh.consume(state.headers.get(Exchange.CHARSET_NAME));
+    }
+
+    @Benchmark
+    public void getOtherCase(BenchmarkState state, Blackhole bh) {
+        bh.consume(state.headers.get("content-type"));
+        bh.consume(state.headers.get("ORDERID"));
+        bh.consume(state.headers.get("user-agent"));
+        bh.consume(state.headers.get("unknown"));
+    }
+
+    @Benchmark
+    public void copy(BenchmarkState state, Blackhole bh) {
+        // copy the headers as when copying an exchange, such as in the multicast EIP
+        bh.consume(state.headersMapFactory.newMap(state.headers));
+    }
+
+    @Benchmark
+    public void copyAndChange(BenchmarkState state, Blackhole bh) {
+        Map<String, Object> copy = state.headersMapFactory.newMap(state.headers);
+        copy.put("orderId", 456);
+        bh.consume(copy);
+    }
+
+    @Benchmark
+    public void iterate(BenchmarkState state, Blackhole bh) {
+        for (Map.Entry<String, Object> entry : state.headers.entrySet()) {
+            bh.consume(entry.getKey());
+            bh.consume(entry.getValue());
+        }
+    }
+
+    /**
+     * The same as the FastHeadersMapFactory from camel-headersmap
+     */
+    static class CedarsoftwareHeadersMapFactory implements HeadersMapFactory {
+
+        @Override
+        public Map<String, Object> newMap() {
+            return new com.cedarsoftware.util.CaseInsensitiveMap<>();
+        }
+
+        @Override
+        public Map<String, Object> newMap(Map<String, Object> map) {
+            return new com.cedarsoftware.util.CaseInsensitiveMap<>(map);
+        }
+
+        @Override
+        public boolean isInstanceOf(Map<String, Object> map) {
+            return map instanceof com.cedarsoftware.util.CaseInsensitiveMap;
+        }
+
+        @Override
+        public boolean isCaseInsensitive() {
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks scheduling tasks on the {@link ReactiveExecutor} of the routing engine.
+ */
+public class ReactiveExecutorBenchmark {
+
+    @Test
+    public void launchBenchmark() throws Exception {
+        BenchmarkSupport.run(getClass());
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+
+        @Param({ "1", "10", "100" })
+        int tasks;
+
+        CamelContext camel;
+        ReactiveExecutor executor;
+
+        @Setup(Level.Trial)
+        public void initialize() throws Exception {
+            camel = new DefaultCamelContext();
+            camel.start();
+            executor = camel.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        }
+
+        @TearDown(Level.Trial)
+        public void close() {
+            camel.stop();
+        }
+    }
+
+    @Benchmark
+    public void schedule(BenchmarkState state, Blackhole bh) {
+        // schedule the tasks from within a running task, which is how the routing engine use the executor
+        state.executor.scheduleMain(() -> {
+            for (int i = 0; i < state.tasks; i++) {
+                state.executor.schedule(() -> bh.consume(state));
+            }
+        });
+    }
+
+    @Benchmark
+    public void scheduleNested(BenchmarkState state, Blackhole bh) {
+        // each task schedules the next task, which is how an asynchronous pipeline continues routing
+        state.executor.scheduleMain(new NestedTask(state.executor, state.tasks, bh));
+    }
+
+    @Benchmark
+    public void scheduleSync(BenchmarkState state, Blackhole bh) {
+        for (int i = 0; i < state.tasks; i++) {
+            state.executor.scheduleSync(() -> bh.consume(state));
+        }
+    }
+
+    private static final class NestedTask implements Runnable {
+
+        private final ReactiveExecutor executor;
+        private final Blackhole bh;
+        private int remaining;
+
+        NestedTask(ReactiveExecutor executor, int remaining, Blackhole bh) {
+            this.executor = executor;
+            this.remaining = remaining;
+            this.bh = bh;
+        }
+
+        @Override
+        public void run() {
+            bh.consume(remaining);
+            if (--remaining > 0) {
+                executor.schedule(this);
+            }
+        }
+    }
+
+}